@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.integrationtest;
+
+import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityBatch;
+import io.github.jiefenn8.graphloom.jdbc.JDBCInputSource;
+import io.github.jiefenn8.graphloom.rdf.DeltaMapping;
+import io.github.jiefenn8.graphloom.rdf.RDFMapper;
+import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLBuilder;
+import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLMap;
+import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLView;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Integration test class for {@link JDBCInputSource} against an embedded
+ * H2 database.
+ */
+public class JDBCInputSourceTest {
+
+    @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private final Resource employee = ResourceFactory.createResource("http://data.example.com/employee/7369");
+    private final Property department = ResourceFactory.createProperty("http://example.com/ns#department");
+    private final Resource department10 = ResourceFactory.createResource("http://data.example.com/department/10");
+    private Connection connection;
+    private JDBCInputSource jdbcInputSource;
+    private R2RMLMap joinConfig;
+
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:graphloom");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE DEPT (DEPTNO INT PRIMARY KEY, DNAME VARCHAR(30), LOC VARCHAR(30))");
+            statement.execute("CREATE TABLE EMP (EMPNO INT PRIMARY KEY, ENAME VARCHAR(30), JOB VARCHAR(30), DEPTNO INT)");
+            statement.execute("INSERT INTO DEPT VALUES (10, 'APPSERVER', 'NEW YORK')");
+            statement.execute("INSERT INTO EMP VALUES (7369, 'SMITH', 'CLERK', 10), (7400, 'JONES', 'CLERK', NULL)");
+        }
+        jdbcInputSource = new JDBCInputSource.Builder(connection).fetchSize(1).build();
+        String path = getClass().getResource("/r2rml/refobjectmap/refobjectmap_via_join.ttl").getPath();
+        joinConfig = new R2RMLBuilder().parse(path);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        jdbcInputSource.close();
+        connection.close();
+    }
+
+    @Test
+    public void WhenTableMappedWithHashJoin_ThenReturnJoinedGraph() {
+        Model result = new RDFMapper().mapToGraph(jdbcInputSource, joinConfig);
+        assertThat(result.contains(employee, department, department10), is(true));
+        assertThat(result.listStatements(null, department, (Resource) null).toList().size(), is(equalTo(1)));
+    }
+
+    @Test
+    public void WhenTableMappedWithSourceJoin_ThenReturnSameGraphAsHashJoin() {
+        Model expected = new RDFMapper().mapToGraph(jdbcInputSource, joinConfig);
+        RDFMapper sourceJoinMapper = new RDFMapper.Builder()
+                .joinStrategy(RDFMapper.JoinStrategy.SOURCE_JOIN)
+                .build();
+        Model result = sourceJoinMapper.mapToGraph(jdbcInputSource, joinConfig);
+        assertThat(result.isIsomorphicWith(expected), is(true));
+    }
+
+    @Test
+    public void WhenTableMappedOnEntityWorkers_ThenReturnSameGraphAsSequential() {
+        Model expected = new RDFMapper().mapToGraph(jdbcInputSource, joinConfig);
+        RDFMapper pipelineMapper = new RDFMapper.Builder()
+                .entityWorkers(2)
+                .entityBatchSize(1)
+                .build();
+        Model result = pipelineMapper.mapToGraph(jdbcInputSource, joinConfig);
+        assertThat(result.isIsomorphicWith(expected), is(true));
+    }
+
+    @Test
+    public void WhenTriplesMapsMappedOnExecutor_ThenReturnSameGraphAsSequential() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO DEPT SELECT X, 'DEPT' || X, 'LOC' FROM SYSTEM_RANGE(11, 50)");
+            statement.execute("INSERT INTO EMP SELECT X, 'EMP' || X, 'CLERK', MOD(X, 50) FROM SYSTEM_RANGE(1, 500)");
+        }
+        Model expected = new RDFMapper().mapToGraph(jdbcInputSource, joinConfig);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (RDFMapper.JoinStrategy joinStrategy : RDFMapper.JoinStrategy.values()) {
+                RDFMapper concurrentMapper = new RDFMapper.Builder()
+                        .executor(executor)
+                        .joinStrategy(joinStrategy)
+                        .build();
+                for (int i = 0; i < 10; i++) {
+                    Model result = concurrentMapper.mapToGraph(jdbcInputSource, joinConfig);
+                    assertThat(result.isIsomorphicWith(expected), is(true));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void WhenTriplesMapsShareTable_ThenScanTableOnce() {
+        String path = getClass().getResource("/r2rml/logicaltable/shared_logical_table.ttl").getPath();
+        R2RMLMap sharedConfig = new R2RMLBuilder().parse(path);
+        List<String> queries = new ArrayList<>();
+        InputSource countingSource = (ref, action) -> {
+            queries.add(ref.getPayload());
+            jdbcInputSource.executeEntityQuery(ref, action);
+        };
+        Model result = new RDFMapper().mapToGraph(countingSource, sharedConfig);
+        assertThat(queries, is(equalTo(List.of("EMP"))));
+        assertThat(result.contains(null, ResourceFactory.createProperty("http://example.com/ns#name")), is(true));
+        assertThat(result.contains(null, ResourceFactory.createProperty("http://example.com/ns#holder")), is(true));
+    }
+
+    @Test
+    public void WhenTimestampWatermarksDifferInPrecision_ThenAdditionsHoldOnlyRowsPastWatermark() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE EMP ADD UPDATED_AT TIMESTAMP(9)");
+            statement.execute("UPDATE EMP SET UPDATED_AT = TIMESTAMP '2020-01-01 00:00:00.5' WHERE EMPNO = 7369");
+            statement.execute("UPDATE EMP SET UPDATED_AT = TIMESTAMP '2020-01-01 00:00:00.25' WHERE EMPNO = 7400");
+        }
+        String path = getClass().getResource("/r2rml/valid_r2rml.ttl").getPath();
+        R2RMLMap config = new R2RMLBuilder().parse(path);
+        EntityMap triplesMap = config.getEntityMaps().iterator().next();
+        Path file = temporaryFolder.getRoot().toPath().resolve("watermarks.properties");
+        Model first = ModelFactory.createDefaultModel();
+        new RDFMapper().mapDelta(jdbcInputSource, config, new DeltaMapping.Builder(file, first::add)
+                .watermark(triplesMap.getIdName(), "UPDATED_AT")
+                .build());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO EMP VALUES (7500, 'ALLEN', 'SALESMAN', 10, "
+                    + "TIMESTAMP '2020-01-01 00:00:00.75'), (7600, 'WARD', 'SALESMAN', 10, "
+                    + "TIMESTAMP '2020-01-01 00:00:00.375'), (7700, 'KING', 'PRESIDENT', 10, "
+                    + "TIMESTAMP '2020-01-01 00:00:01')");
+        }
+        Model result = ModelFactory.createDefaultModel();
+        DeltaMapping delta = new DeltaMapping.Builder(file, result::add)
+                .watermark(triplesMap.getIdName(), "UPDATED_AT")
+                .build();
+        new RDFMapper().mapDelta(jdbcInputSource, config, delta);
+        assertThat(first.listSubjects().toList().size(), is(2));
+        assertThat(result.listSubjects().toSet(), is(equalTo(Set.of(
+                ResourceFactory.createResource("http://data.example.com/employee/7500"),
+                ResourceFactory.createResource("http://data.example.com/employee/7700")))));
+        assertThat(delta.getWatermark(triplesMap.getIdName()), is(equalTo("2020-01-01 00:00:01")));
+    }
+
+    @Test
+    public void WhenTableReadInBatches_ThenReturnEveryRow() {
+        R2RMLView query = new R2RMLView.Builder("SELECT ENAME FROM EMP ORDER BY EMPNO", "SQL2008").build();
+        List<String> names = new ArrayList<>();
+        jdbcInputSource.executeEntityQuery(query, (r) -> {
+            EntityBatch batch = new EntityBatch(1);
+            while (r.nextBatch(batch)) {
+                names.add(batch.get(0).getPropertyValue("ENAME"));
+            }
+        });
+        assertThat(names, is(equalTo(List.of("SMITH", "JONES"))));
+    }
+}
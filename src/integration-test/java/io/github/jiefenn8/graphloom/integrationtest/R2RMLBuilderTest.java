@@ -7,11 +7,16 @@ package io.github.jiefenn8.graphloom.integrationtest;
 
 import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLBuilder;
 import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLMap;
+import io.github.jiefenn8.graphloom.rdf.r2rml.TriplesMap;
 import org.apache.jena.shared.NotFoundException;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -49,4 +54,16 @@ public class R2RMLBuilderTest {
         R2RMLMap result = r2rmlBuilder.parse("r2rml/refobjectmap/refobjectmap_via_join.ttl");
         assertThat(result, is(notNullValue()));
     }
+
+    @Test
+    public void GivenRefObjectMapWithJoin_WhenParse_ThenProjectReferencedColumns() {
+        R2RMLMap r2rmlMap = r2rmlBuilder.parse("r2rml/refobjectmap/refobjectmap_via_join.ttl");
+        TriplesMap employees = r2rmlMap.getEntityMaps().stream()
+                .map(TriplesMap.class::cast)
+                .filter((t) -> t.getIdName().endsWith("TriplesMap1"))
+                .findFirst()
+                .orElseThrow();
+        Set<String> result = employees.getSourceMap().getEntityReference().listProjectedColumns();
+        assertThat(List.copyOf(result), is(equalTo(List.of("DEPTNO", "EMPNO"))));
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.integrationtest;
+
+import io.github.jiefenn8.graphloom.rdf.RDFMapper;
+import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLBuilder;
+import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLMap;
+import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLPlan;
+import org.apache.jena.rdf.model.Model;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Integration test class for {@link R2RMLPlan}.
+ */
+public class R2RMLPlanTest {
+
+    private RDFMapper rdfMapper;
+    private FakeInputDatabase fakeInputDatabase;
+
+    @Before
+    public void setUp() {
+        rdfMapper = new RDFMapper();
+        fakeInputDatabase = new FakeInputDatabase();
+    }
+
+    private R2RMLMap compileAndLoad(R2RMLMap r2rmlMap) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        R2RMLPlan.write(r2rmlMap, out);
+        return R2RMLPlan.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    public void WhenPlanLoaded_ThenReturnSameGraphAsDocument() throws IOException {
+        String path = getClass().getResource("/r2rml/valid_r2rml.ttl").getPath();
+        R2RMLMap document = new R2RMLBuilder().parse(path);
+        Model expected = rdfMapper.mapToGraph(fakeInputDatabase, document);
+        Model result = rdfMapper.mapToGraph(fakeInputDatabase, compileAndLoad(document));
+        assertThat(result.isIsomorphicWith(expected), is(true));
+    }
+
+    @Test
+    public void WhenPlanWithJoinLoaded_ThenReturnSameGraphAsDocument() throws IOException {
+        String path = getClass().getResource("/r2rml/refobjectmap/refobjectmap_via_join.ttl").getPath();
+        R2RMLMap document = new R2RMLBuilder().parse(path);
+        Model expected = rdfMapper.mapToGraph(fakeInputDatabase, document);
+        Model result = rdfMapper.mapToGraph(fakeInputDatabase, compileAndLoad(document));
+        assertThat(result.isIsomorphicWith(expected), is(true));
+    }
+
+    @Test
+    public void WhenPlanLoaded_ThenReturnSameNamespaces() throws IOException {
+        String path = getClass().getResource("/r2rml/valid_r2rml.ttl").getPath();
+        R2RMLMap document = new R2RMLBuilder().parse(path);
+        R2RMLMap result = compileAndLoad(document);
+        assertThat(result.getNamespaceMap(), is(equalTo(document.getNamespaceMap())));
+    }
+}
@@ -5,14 +5,40 @@
 
 package io.github.jiefenn8.graphloom.integrationtest;
 
+import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import io.github.jiefenn8.graphloom.api.inputsource.BaseEntityReference;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityResult;
+import io.github.jiefenn8.graphloom.exceptions.InputSourceException;
 import io.github.jiefenn8.graphloom.exceptions.MapperException;
+import io.github.jiefenn8.graphloom.integrationtest.fake.FakeEntity;
+import io.github.jiefenn8.graphloom.rdf.DeltaMapping;
+import io.github.jiefenn8.graphloom.rdf.InMemoryMappingMetrics;
 import io.github.jiefenn8.graphloom.rdf.RDFMapper;
+import io.github.jiefenn8.graphloom.rdf.SegmentedOutput;
 import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLBuilder;
 import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLMap;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -26,6 +52,7 @@ public class RDFMapperTest {
     private RDFMapper rdfMapper;
     private FakeInputDatabase fakeInputDatabase;
     private R2RMLMap mapperConfig;
+    @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Before
     public void setUp() {
@@ -45,6 +72,193 @@ public class RDFMapperTest {
         assertThat(result, is(equalTo(3L)));
     }
 
+    @Test
+    public void WhenSourceAndConfigGiven_ThenStreamTriplesToSink() {
+        List<Statement> triples = new ArrayList<>();
+        rdfMapper.mapToSink(fakeInputDatabase, mapperConfig, (s, p, o) -> triples.add(ResourceFactory.createStatement(s, p, o)));
+        int result = triples.size();
+        assertThat(result, is(equalTo(3)));
+    }
+
+    @Test
+    public void WhenRefObjectMapWithJoinGiven_ThenReturnJoinedGraph() {
+        String path = getClass().getResource("/r2rml/refobjectmap/refobjectmap_via_join.ttl").getPath();
+        R2RMLMap joinConfig = new R2RMLBuilder().parse(path);
+        Model graph = rdfMapper.mapToGraph(fakeInputDatabase, joinConfig);
+        Resource employee = ResourceFactory.createResource("http://data.example.com/employee/7369");
+        Property department = ResourceFactory.createProperty("http://example.com/ns#department");
+        Resource expected = ResourceFactory.createResource("http://data.example.com/department/10");
+        boolean result = graph.contains(employee, department, expected);
+        assertThat(result, is(true));
+    }
+
+    @Test
+    public void WhenMappedInParallel_ThenReturnSameGraphAsSequential() {
+        String path = getClass().getResource("/r2rml/refobjectmap/refobjectmap_via_join.ttl").getPath();
+        R2RMLMap joinConfig = new R2RMLBuilder().parse(path);
+        Model expected = rdfMapper.mapToGraph(fakeInputDatabase, joinConfig);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            RDFMapper parallelMapper = new RDFMapper.Builder().executor(executor).build();
+            Model result = parallelMapper.mapToGraph(fakeInputDatabase, joinConfig);
+            assertThat(result.isIsomorphicWith(expected), is(true));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void WhenMappedOnEntityWorkers_ThenReturnSameGraphAsSequential() {
+        String path = getClass().getResource("/r2rml/refobjectmap/refobjectmap_via_join.ttl").getPath();
+        R2RMLMap joinConfig = new R2RMLBuilder().parse(path);
+        Model expected = rdfMapper.mapToGraph(fakeInputDatabase, joinConfig);
+        RDFMapper pipelineMapper = new RDFMapper.Builder()
+                .entityWorkers(2)
+                .entityBatchSize(1)
+                .orderedOutput(false)
+                .build();
+        Model result = pipelineMapper.mapToGraph(fakeInputDatabase, joinConfig);
+        assertThat(result.isIsomorphicWith(expected), is(true));
+    }
+
+    @Test
+    public void WhenMetricsGiven_ThenRecordTriplesOfEachTriplesMap() {
+        String path = getClass().getResource("/r2rml/refobjectmap/refobjectmap_via_join.ttl").getPath();
+        R2RMLMap joinConfig = new R2RMLBuilder().parse(path);
+        InMemoryMappingMetrics metrics = new InMemoryMappingMetrics();
+        RDFMapper meteredMapper = new RDFMapper.Builder().metrics(metrics).build();
+        Model graph = meteredMapper.mapToGraph(fakeInputDatabase, joinConfig);
+        long result = metrics.listEntityMapIds().stream()
+                .mapToLong((id) -> metrics.get(id).getTriples())
+                .sum();
+        assertThat(result, is(equalTo(graph.size())));
+    }
+
+    private InputSource createEmployees(int rows, int failAt) {
+        return (entityRef, action) -> {
+            Set<Entity> records = new LinkedHashSet<>();
+            for (int i = 0; i < rows; i++) {
+                records.add(new FakeEntity(Map.of("EMPNO", String.valueOf(i), "ENAME", "E" + i, "JOB", "CLERK")));
+            }
+            Iterator<Entity> iter = records.iterator();
+            action.accept(new EntityResult() {
+                private int read;
+
+                @Override
+                public boolean hasNext() {
+                    return iter.hasNext();
+                }
+
+                @Override
+                public Entity nextEntity() {
+                    if (read++ == failAt) {
+                        throw new InputSourceException("Connection lost.");
+                    }
+                    return iter.next();
+                }
+            });
+        };
+    }
+
+    private List<String> readSegments(SegmentedOutput output) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Path segment : output.listSegments()) {
+            lines.addAll(Files.readAllLines(segment));
+        }
+        return lines;
+    }
+
+    @Test
+    public void WhenMappedToSegments_ThenSegmentsHoldSameGraphAsModel() {
+        Model expected = rdfMapper.mapToGraph(createEmployees(10, -1), mapperConfig);
+        SegmentedOutput output = new SegmentedOutput.Builder(temporaryFolder.getRoot().toPath())
+                .checkpointRows(3)
+                .build();
+        rdfMapper.mapToSegments(createEmployees(10, -1), mapperConfig, output);
+        Model result = ModelFactory.createDefaultModel();
+        output.listSegments().forEach((s) -> result.read(s.toUri().toString(), "N-TRIPLES"));
+        assertThat(result.isIsomorphicWith(expected), is(true));
+        assertThat(output.listSegments().size(), is(4));
+    }
+
+    @Test
+    public void WhenResumedAfterFailure_ThenSegmentsHoldEachTripleOnce() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        SegmentedOutput failed = new SegmentedOutput.Builder(directory).checkpointRows(3).build();
+        Assert.assertThrows(
+                InputSourceException.class,
+                () -> rdfMapper.mapToSegments(createEmployees(10, 7), mapperConfig, failed)
+        );
+        SegmentedOutput resumed = new SegmentedOutput.Builder(directory).checkpointRows(3).resume(true).build();
+        rdfMapper.mapToSegments(createEmployees(10, -1), mapperConfig, resumed);
+        List<String> result = readSegments(resumed);
+        assertThat(result.size(), is(30));
+        assertThat(new HashSet<>(result).size(), is(30));
+    }
+
+    @Test
+    public void WhenResumedOnEntityWorkers_ThenSegmentsHoldEachTripleOnce() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        RDFMapper pipelineMapper = new RDFMapper.Builder()
+                .entityWorkers(2)
+                .entityBatchSize(2)
+                .build();
+        SegmentedOutput failed = new SegmentedOutput.Builder(directory).checkpointRows(3).build();
+        Assert.assertThrows(
+                InputSourceException.class,
+                () -> pipelineMapper.mapToSegments(createEmployees(10, 8), mapperConfig, failed)
+        );
+        SegmentedOutput resumed = new SegmentedOutput.Builder(directory).checkpointRows(3).resume(true).build();
+        pipelineMapper.mapToSegments(createEmployees(10, -1), mapperConfig, resumed);
+        List<String> result = readSegments(resumed);
+        assertThat(result.size(), is(30));
+        assertThat(new HashSet<>(result).size(), is(30));
+    }
+
+    private EntityMap watermarkEmployees() {
+        EntityMap triplesMap = mapperConfig.getEntityMaps().iterator().next();
+        BaseEntityReference entityRef = (BaseEntityReference) triplesMap.getSourceMap().getEntityReference();
+        entityRef.setProperty(EntityReference.WATERMARK_COLUMN, "EMPNO");
+        return triplesMap;
+    }
+
+    @Test
+    public void WhenMappedAgainAfterNewRows_ThenAdditionsHoldOnlyNewRows() {
+        EntityMap triplesMap = watermarkEmployees();
+        Path file = temporaryFolder.getRoot().toPath().resolve("watermarks.properties");
+        List<Statement> first = new ArrayList<>();
+        rdfMapper.mapDelta(createEmployees(5, -1), mapperConfig,
+                new DeltaMapping.Builder(file, (s, p, o) -> first.add(ResourceFactory.createStatement(s, p, o)))
+                        .build());
+        List<Statement> result = new ArrayList<>();
+        DeltaMapping delta = new DeltaMapping.Builder(file,
+                (s, p, o) -> result.add(ResourceFactory.createStatement(s, p, o))).build();
+        rdfMapper.mapDelta(createEmployees(8, -1), mapperConfig, delta);
+        assertThat(first.size(), is(15));
+        assertThat(result.size(), is(9));
+        assertThat(delta.getWatermark(triplesMap.getIdName()), is(equalTo("7")));
+    }
+
+    @Test
+    public void WhenTombstonesGiven_ThenDeletionsHoldRowsDeletedPastWatermark() {
+        watermarkEmployees();
+        Path file = temporaryFolder.getRoot().toPath().resolve("watermarks.properties");
+        TripleSink discard = (s, p, o) -> {
+        };
+        rdfMapper.mapDelta(createEmployees(5, -1), mapperConfig, new DeltaMapping.Builder(file, discard)
+                .tombstones(createEmployees(5, -1), discard)
+                .build());
+        List<Statement> additions = new ArrayList<>();
+        List<Statement> deletions = new ArrayList<>();
+        DeltaMapping delta = new DeltaMapping.Builder(file,
+                (s, p, o) -> additions.add(ResourceFactory.createStatement(s, p, o)))
+                .tombstones(createEmployees(7, -1), (s, p, o) -> deletions.add(ResourceFactory.createStatement(s, p, o)))
+                .build();
+        rdfMapper.mapDelta(createEmployees(5, -1), mapperConfig, delta);
+        assertThat(additions.isEmpty(), is(true));
+        assertThat(deletions.size(), is(6));
+    }
+
     @Test
     public void WhenNoInputSourceGiven_ThenThrowException() {
         String expected = "Cannot retrieve source data from null input source.";
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.jmh;
+
+import io.github.jiefenn8.graphloom.rdf.InMemoryMappingMetrics;
+import io.github.jiefenn8.graphloom.rdf.RDFMapper;
+import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLBuilder;
+import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLMap;
+import io.github.jiefenn8.graphloom.rdf.sink.BinaryRDFSink;
+import io.github.jiefenn8.graphloom.rdf.sink.NTriplesSink;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line runner mapping a synthetic parent and child table, joined on
+ * a foreign key, and printing the mapping throughput. Options are given as
+ * {@code name=value} arguments:
+ * <ul>
+ * <li>rows: the number of child rows; Defaults to 1000000</li>
+ * <li>fanOut: the number of child rows per parent row; Defaults to 10</li>
+ * <li>columns: the number of value columns per table; Defaults to 4</li>
+ * <li>valueSize: the minimum size of each value; Defaults to 16</li>
+ * <li>distinct: the number of distinct values per column; Defaults to
+ * unique values</li>
+ * <li>nullRate: the fraction of null values; Defaults to 0</li>
+ * <li>workers: the number of entity workers; Defaults to 0</li>
+ * <li>output: none, ntriples or binary, written to the file given by
+ * {@code file}; Defaults to none</li>
+ * <li>nodeCache: the number of terms cached per term map; Defaults to
+ * 1024</li>
+ * <li>metrics: true to print the measurements of each triples map;
+ * Defaults to false</li>
+ * </ul>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Expected name=value argument, found " + arg + ".");
+            }
+            options.put(option[0], option[1]);
+        }
+        long rows = Long.parseLong(options.getOrDefault("rows", "1000000"));
+        int fanOut = Integer.parseInt(options.getOrDefault("fanOut", "10"));
+        int columns = Integer.parseInt(options.getOrDefault("columns", "4"));
+        int valueSize = Integer.parseInt(options.getOrDefault("valueSize", "16"));
+        int distinct = Integer.parseInt(options.getOrDefault("distinct", String.valueOf(Integer.MAX_VALUE)));
+        double nullRate = Double.parseDouble(options.getOrDefault("nullRate", "0"));
+        int workers = Integer.parseInt(options.getOrDefault("workers", "0"));
+        String output = options.getOrDefault("output", "none");
+
+        SyntheticTable parent = new SyntheticTable.Builder("PARENT", Math.max(1, rows / fanOut))
+                .valueColumns(columns).valueSize(valueSize).distinctValues(distinct).nullRate(nullRate)
+                .build();
+        SyntheticTable child = new SyntheticTable.Builder("CHILD", rows)
+                .valueColumns(columns).valueSize(valueSize).distinctValues(distinct).nullRate(nullRate)
+                .parent(parent, fanOut)
+                .build();
+        List<SyntheticTable> tables = List.of(parent, child);
+        int nodeCache = Integer.parseInt(options.getOrDefault("nodeCache", "1024"));
+        R2RMLMap r2rmlMap = SyntheticMapping.build(tables, new R2RMLBuilder().nodeCacheSize(nodeCache));
+        InMemoryMappingMetrics metrics = new InMemoryMappingMetrics();
+        RDFMapper.Builder builder = new RDFMapper.Builder().entityWorkers(workers);
+        if (Boolean.parseBoolean(options.getOrDefault("metrics", "false"))) {
+            builder.metrics(metrics);
+        }
+        RDFMapper rdfMapper = builder.build();
+
+        long[] triples = new long[1];
+        long start = System.nanoTime();
+        switch (output) {
+            case "none" -> rdfMapper.mapToSink(new SyntheticInputSource(tables), r2rmlMap, (s, p, o) -> triples[0]++);
+            case "ntriples" -> {
+                try (NTriplesSink sink = new NTriplesSink.Builder(Paths.get(options.get("file"))).build()) {
+                    rdfMapper.mapToSink(new SyntheticInputSource(tables), r2rmlMap, sink);
+                    triples[0] = sink.size();
+                }
+            }
+            case "binary" -> {
+                try (BinaryRDFSink sink = new BinaryRDFSink.Builder(Paths.get(options.get("file"))).build()) {
+                    rdfMapper.mapToSink(new SyntheticInputSource(tables), r2rmlMap, sink);
+                    triples[0] = sink.size();
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown output " + output + ".");
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long totalRows = parent.getRows() + child.getRows();
+        System.out.printf("Mapped %d rows into %d triples in %.2f s: %.0f rows/s, %.0f triples/s.%n",
+                totalRows, triples[0], seconds, totalRows / seconds, triples[0] / seconds);
+        System.out.print(metrics);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.jmh;
+
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityLayout;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityResult;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of {@link InputSource} interface that generates the rows
+ * of its {@link SyntheticTable}s on the fly, so that benchmarks and load
+ * tests read a source of any size without holding it in memory. Only table
+ * name payloads are supported; Map with the default hash join strategy.
+ */
+public class SyntheticInputSource implements InputSource {
+
+    private final Map<String, SyntheticTable> tables = new LinkedHashMap<>();
+
+    /**
+     * Constructs a SyntheticInputSource with the specified tables.
+     *
+     * @param tables the tables of this source
+     */
+    public SyntheticInputSource(Collection<SyntheticTable> tables) {
+        tables.forEach((t) -> this.tables.put(t.getName(), t));
+    }
+
+    /**
+     * Constructs a SyntheticInputSource with the specified tables.
+     *
+     * @param tables the tables of this source
+     */
+    public SyntheticInputSource(SyntheticTable... tables) {
+        this(Arrays.asList(tables));
+    }
+
+    /**
+     * Returns the tables of this source, parents before the tables that
+     * reference them if added in that order.
+     *
+     * @return the tables of this source
+     */
+    public Collection<SyntheticTable> listTables() {
+        return Collections.unmodifiableCollection(tables.values());
+    }
+
+    /**
+     * Returns the row of the given table.
+     *
+     * @param table the name of the table
+     * @param row   the row number, starting from zero
+     * @return the entity of the row
+     * @throws IllegalArgumentException if the table does not exist
+     */
+    public Entity generateEntity(String table, long row) {
+        SyntheticTable syntheticTable = getTable(table);
+        return new RowEntity(syntheticTable.getLayout(), syntheticTable.generateRow(row));
+    }
+
+    private SyntheticTable getTable(String table) {
+        SyntheticTable syntheticTable = tables.get(table);
+        if (syntheticTable == null) {
+            throw new IllegalArgumentException("Unknown synthetic table " + table + ".");
+        }
+        return syntheticTable;
+    }
+
+    @Override
+    public void executeEntityQuery(EntityReference entityRef, Consumer<EntityResult> action) {
+        action.accept(new RowResult(getTable(entityRef.getPayload())));
+    }
+
+    /**
+     * Implementation of {@link EntityResult} interface generating each row
+     * as it is retrieved.
+     */
+    private static class RowResult implements EntityResult {
+
+        private final SyntheticTable table;
+        private long row;
+
+        private RowResult(SyntheticTable table) {
+            this.table = table;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return row < table.getRows();
+        }
+
+        @Override
+        public Entity nextEntity() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No entity left in result.");
+            }
+            return new RowEntity(table.getLayout(), table.generateRow(row++));
+        }
+
+        @Override
+        public EntityLayout getLayout() {
+            return table.getLayout();
+        }
+    }
+
+    /**
+     * Implementation of {@link Entity} interface holding the values of a
+     * row in the order of its layout.
+     */
+    private static class RowEntity implements Entity {
+
+        private final EntityLayout layout;
+        private final String[] values;
+
+        private RowEntity(EntityLayout layout, String[] values) {
+            this.layout = layout;
+            this.values = values;
+        }
+
+        @Override
+        public String getPropertyValue(String name) {
+            int index = layout.indexOf(name);
+            return index < 0 ? null : values[index];
+        }
+
+        @Override
+        public String getPropertyValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        public EntityLayout getLayout() {
+            return layout;
+        }
+    }
+}
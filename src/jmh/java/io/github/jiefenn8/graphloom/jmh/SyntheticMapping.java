@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.jmh;
+
+import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLBuilder;
+import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLMap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * This class generates the r2rml document mapping the tables of a
+ * {@link SyntheticInputSource}. Each table is mapped by a triples map named
+ * {@code <TABLE>Map} with the subject {@code http://data.example.com/<table>/{ID}},
+ * the class {@code ex:<TABLE>} and a literal of each value column. A table
+ * with a parent table also references the parent subject through a join on
+ * its foreign key column.
+ */
+public final class SyntheticMapping {
+
+    private static final String BASE_IRI = "http://data.example.com/";
+
+    private SyntheticMapping() {
+    }
+
+    /**
+     * Returns the r2rml document mapping the given tables as turtle.
+     *
+     * @param tables the tables to map
+     * @return the r2rml document of the tables
+     */
+    public static String toTurtle(Collection<SyntheticTable> tables) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("@prefix rr: <http://www.w3.org/ns/r2rml#>.\n");
+        sb.append("@prefix ex: <http://example.com/ns#>.\n");
+        for (SyntheticTable table : tables) {
+            String name = table.getName();
+            sb.append("\n<#").append(name).append("Map>\n");
+            sb.append("    rr:logicalTable [ rr:tableName \"").append(name).append("\" ];\n");
+            sb.append("    rr:subjectMap [\n");
+            sb.append("        rr:template \"").append(subjectTemplate(table)).append("\";\n");
+            sb.append("        rr:class ex:").append(name).append(";\n");
+            sb.append("    ]");
+            for (int column = 1; column <= table.getValueColumns(); column++) {
+                String valueColumn = SyntheticTable.getValueColumn(column);
+                sb.append(";\n    rr:predicateObjectMap [\n");
+                sb.append("        rr:predicate ex:").append(valueColumn).append(";\n");
+                sb.append("        rr:objectMap [ rr:column \"").append(valueColumn).append("\" ];\n");
+                sb.append("    ]");
+            }
+            SyntheticTable parent = table.getParent();
+            if (parent != null) {
+                sb.append(";\n    rr:predicateObjectMap [\n");
+                sb.append("        rr:predicate ex:").append(parent.getName()).append(";\n");
+                sb.append("        rr:objectMap [\n");
+                sb.append("            rr:parentTriplesMap <#").append(parent.getName()).append("Map>;\n");
+                sb.append("            rr:joinCondition [\n");
+                sb.append("                rr:child \"").append(table.getForeignKeyColumn()).append("\";\n");
+                sb.append("                rr:parent \"").append(SyntheticTable.KEY_COLUMN).append("\";\n");
+                sb.append("            ];\n");
+                sb.append("        ];\n");
+                sb.append("    ]");
+            }
+            sb.append(".\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the subject IRI template of the given table.
+     *
+     * @param table the table to return the subject template of
+     * @return the subject IRI template
+     */
+    public static String subjectTemplate(SyntheticTable table) {
+        return BASE_IRI + table.getName().toLowerCase() + "/{" + SyntheticTable.KEY_COLUMN + "}";
+    }
+
+    /**
+     * Returns the r2rml map of the given tables, parsed from the generated
+     * document written to a temporary file.
+     *
+     * @param tables the tables to map
+     * @return the r2rml map of the tables
+     */
+    public static R2RMLMap build(Collection<SyntheticTable> tables) {
+        return build(tables, new R2RMLBuilder());
+    }
+
+    /**
+     * Returns the r2rml map of the given tables, parsed by the given builder
+     * from the generated document written to a temporary file.
+     *
+     * @param tables  the tables to map
+     * @param builder the builder to parse the document with
+     * @return the r2rml map of the tables
+     */
+    public static R2RMLMap build(Collection<SyntheticTable> tables, R2RMLBuilder builder) {
+        try {
+            Path file = Files.createTempFile("synthetic", ".ttl");
+            try {
+                Files.writeString(file, toTurtle(tables), StandardCharsets.UTF_8);
+                return builder.parse(file.toString());
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write synthetic mapping.", ex);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.jmh;
+
+import io.github.jiefenn8.graphloom.api.inputsource.EntityLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class defines a table of a {@link SyntheticInputSource}; Its name,
+ * number of rows and the shape of its columns. Every table has a key column
+ * {@code ID} holding the row number, a foreign key column
+ * {@code <PARENT>_ID} if it references a parent table, and value columns
+ * {@code C1} to {@code Cn}.
+ * <p>
+ * Every value is derived from the table name, row number and column, so
+ * the same table always generates the same rows in the same order.
+ */
+public final class SyntheticTable {
+
+    public static final String KEY_COLUMN = "ID";
+    private final String name;
+    private final long rows;
+    private final int valueColumns;
+    private final int valueSize;
+    private final int distinctValues;
+    private final double nullRate;
+    private final SyntheticTable parent;
+    private final int fanOut;
+    private final EntityLayout layout;
+    private final long seed;
+
+    /**
+     * Constructs a SyntheticTable with the specified Builder containing the
+     * properties to populate and initialise an immutable instance.
+     *
+     * @param builder the synthetic table builder to build from
+     */
+    private SyntheticTable(Builder builder) {
+        name = builder.name;
+        rows = builder.rows;
+        valueColumns = builder.valueColumns;
+        valueSize = builder.valueSize;
+        distinctValues = builder.distinctValues;
+        nullRate = builder.nullRate;
+        parent = builder.parent;
+        fanOut = builder.fanOut;
+        seed = name.hashCode() * 0x9E3779B97F4A7C15L;
+        List<String> names = new ArrayList<>();
+        names.add(KEY_COLUMN);
+        if (parent != null) {
+            names.add(getForeignKeyColumn());
+        }
+        for (int i = 1; i <= valueColumns; i++) {
+            names.add(getValueColumn(i));
+        }
+        layout = EntityLayout.of(names);
+    }
+
+    /**
+     * Returns the name of the given value column.
+     *
+     * @param column the value column number, starting from one
+     * @return the name of the value column
+     */
+    public static String getValueColumn(int column) {
+        return "C" + column;
+    }
+
+    /**
+     * Returns the values of the given row in the order of the layout of
+     * this table. A value column is null at the null rate of this table.
+     *
+     * @param row the row number, starting from zero
+     * @return the values of the row
+     */
+    String[] generateRow(long row) {
+        String[] values = new String[layout.size()];
+        int index = 0;
+        values[index++] = String.valueOf(row);
+        if (parent != null) {
+            values[index++] = String.valueOf((row / fanOut) % parent.rows);
+        }
+        for (int column = 1; column <= valueColumns; column++) {
+            long hash = mix(seed + row * 31 + column);
+            if (nullRate > 0 && (hash >>> 11) * 0x1.0p-53 < nullRate) {
+                values[index++] = null;
+                continue;
+            }
+            values[index++] = generateValue(column, Long.remainderUnsigned(mix(hash), distinctValues));
+        }
+        return values;
+    }
+
+    private String generateValue(int column, long value) {
+        StringBuilder sb = new StringBuilder(valueSize);
+        sb.append('V').append(column).append('_').append(value);
+        while (sb.length() < valueSize) {
+            sb.append('x');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the given value with its bits mixed; The finaliser of the
+     * SplitMix64 generator.
+     *
+     * @param z the value to mix
+     * @return the mixed value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the name of this table; Also the payload of the logical table
+     * reading it.
+     *
+     * @return the name of this table
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of rows of this table.
+     *
+     * @return the number of rows
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of value columns of this table.
+     *
+     * @return the number of value columns
+     */
+    public int getValueColumns() {
+        return valueColumns;
+    }
+
+    /**
+     * Returns the parent table referenced by this table.
+     *
+     * @return the parent table, otherwise null
+     */
+    public SyntheticTable getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns the layout shared by every row of this table.
+     *
+     * @return the layout of the rows
+     */
+    public EntityLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns the name of the foreign key column referencing the parent
+     * table.
+     *
+     * @return the name of the foreign key column
+     * @throws IllegalStateException if this table has no parent table
+     */
+    public String getForeignKeyColumn() {
+        if (parent == null) {
+            throw new IllegalStateException("Table " + name + " has no parent table.");
+        }
+        return parent.name + "_ID";
+    }
+
+    /**
+     * Builder class for SyntheticTable.
+     */
+    public static class Builder {
+
+        private final String name;
+        private final long rows;
+        private int valueColumns = 2;
+        private int valueSize = 8;
+        private int distinctValues = Integer.MAX_VALUE;
+        private double nullRate;
+        private SyntheticTable parent;
+        private int fanOut = 1;
+
+        /**
+         * Constructs a Builder with the specified table name and number of
+         * rows.
+         *
+         * @param name the name of the table
+         * @param rows the number of rows of the table
+         */
+        public Builder(String name, long rows) {
+            this.name = Objects.requireNonNull(name, "Table name must not be null.");
+            if (rows < 0) {
+                throw new IllegalArgumentException("Rows must not be negative.");
+            }
+            this.rows = rows;
+        }
+
+        /**
+         * Sets the number of value columns of the table. Defaults to 2.
+         *
+         * @param valueColumns the number of value columns
+         * @return this builder for fluent method chaining
+         */
+        public Builder valueColumns(int valueColumns) {
+            if (valueColumns < 0) {
+                throw new IllegalArgumentException("Value columns must not be negative.");
+            }
+            this.valueColumns = valueColumns;
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of characters of each value; Values are
+         * padded up to this size. Defaults to 8.
+         *
+         * @param valueSize the minimum size of each value
+         * @return this builder for fluent method chaining
+         */
+        public Builder valueSize(int valueSize) {
+            if (valueSize < 0) {
+                throw new IllegalArgumentException("Value size must not be negative.");
+            }
+            this.valueSize = valueSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of distinct values of each value column; e.g. a
+         * low number to generate repeated status codes. Defaults to
+         * practically unique values.
+         *
+         * @param distinctValues the number of distinct values per column
+         * @return this builder for fluent method chaining
+         */
+        public Builder distinctValues(int distinctValues) {
+            if (distinctValues < 1) {
+                throw new IllegalArgumentException("Distinct values must be positive.");
+            }
+            this.distinctValues = distinctValues;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of values of the value columns that are null.
+         * Defaults to 0.
+         *
+         * @param nullRate the fraction of null values, from 0 to 1
+         * @return this builder for fluent method chaining
+         */
+        public Builder nullRate(double nullRate) {
+            if (nullRate < 0 || nullRate > 1) {
+                throw new IllegalArgumentException("Null rate must be between 0 and 1.");
+            }
+            this.nullRate = nullRate;
+            return this;
+        }
+
+        /**
+         * Sets the parent table referenced by a foreign key column of this
+         * table, and the number of consecutive rows referencing the same
+         * parent row. The parent rows are referenced in turn, starting over
+         * once every parent row has been referenced.
+         *
+         * @param parent the parent table to reference
+         * @param fanOut the number of rows referencing each parent row
+         * @return this builder for fluent method chaining
+         */
+        public Builder parent(SyntheticTable parent, int fanOut) {
+            this.parent = Objects.requireNonNull(parent, "Parent table must not be null.");
+            if (parent.rows < 1) {
+                throw new IllegalArgumentException("Parent table must have rows.");
+            }
+            if (fanOut < 1) {
+                throw new IllegalArgumentException("Fan-out must be positive.");
+            }
+            this.fanOut = fanOut;
+            return this;
+        }
+
+        /**
+         * Returns an immutable instance of synthetic table with the
+         * properties given to its builder.
+         *
+         * @return instance of synthetic table created with this builder
+         */
+        public SyntheticTable build() {
+            return new SyntheticTable(this);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.jmh.SyntheticInputSource;
+import io.github.jiefenn8.graphloom.jmh.SyntheticMapping;
+import io.github.jiefenn8.graphloom.jmh.SyntheticTable;
+import io.github.jiefenn8.graphloom.rdf.r2rml.R2RMLMap;
+import org.apache.jena.rdf.model.Model;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the end-to-end mapping of a synthetic EMP and DEPT source,
+ * into a graph and into a sink that keeps no triples.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RDFMapperBenchmark {
+
+    @Param({"10000", "100000"})
+    private int employees;
+    private SyntheticInputSource source;
+    private R2RMLMap r2rmlMap;
+    private RDFMapper rdfMapper;
+
+    @Setup
+    public void setUp() {
+        SyntheticTable dept = new SyntheticTable.Builder("DEPT", 100).build();
+        SyntheticTable emp = new SyntheticTable.Builder("EMP", employees).parent(dept, 1).build();
+        List<SyntheticTable> tables = List.of(dept, emp);
+        source = new SyntheticInputSource(tables);
+        r2rmlMap = SyntheticMapping.build(tables);
+        rdfMapper = new RDFMapper();
+    }
+
+    @Benchmark
+    public Model mapToGraph() {
+        return rdfMapper.mapToGraph(source, r2rmlMap);
+    }
+
+    @Benchmark
+    public void mapToSink(Blackhole blackhole) {
+        rdfMapper.mapToSink(source, r2rmlMap, (s, p, o) -> blackhole.consume(o));
+    }
+}
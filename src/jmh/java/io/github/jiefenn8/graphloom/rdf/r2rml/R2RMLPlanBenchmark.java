@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.jmh.SyntheticMapping;
+import io.github.jiefenn8.graphloom.jmh.SyntheticTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of loading a mapping by parsing its r2rml document against
+ * reading its compiled {@link R2RMLPlan}, for a mapping of the given
+ * number of joined tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class R2RMLPlanBenchmark {
+
+    @Param({"2", "50"})
+    private int tables;
+    private Path document;
+    private byte[] plan;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<SyntheticTable> chain = new ArrayList<>();
+        SyntheticTable parent = null;
+        for (int i = 0; i < tables; i++) {
+            SyntheticTable.Builder builder = new SyntheticTable.Builder("T" + i, 1).valueColumns(4);
+            parent = parent == null ? builder.build() : builder.parent(parent, 1).build();
+            chain.add(parent);
+        }
+        document = Files.createTempFile("synthetic", ".ttl");
+        Files.writeString(document, SyntheticMapping.toTurtle(chain), StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        R2RMLPlan.write(parseDocument(), out);
+        plan = out.toByteArray();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(document);
+    }
+
+    @Benchmark
+    public R2RMLMap parseDocument() {
+        return new R2RMLBuilder().parse(document.toString());
+    }
+
+    @Benchmark
+    public R2RMLMap readPlan() throws IOException {
+        return R2RMLPlan.read(new ByteArrayInputStream(plan));
+    }
+}
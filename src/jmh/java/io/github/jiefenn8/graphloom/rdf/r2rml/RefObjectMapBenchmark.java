@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.api.RefNodeEmitter;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.jmh.SyntheticInputSource;
+import io.github.jiefenn8.graphloom.jmh.SyntheticMapping;
+import io.github.jiefenn8.graphloom.jmh.SyntheticTable;
+import org.apache.jena.rdf.model.Resource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of joining the entities of a triples map to its parent triples
+ * map through a {@link RefObjectMap} with join conditions; Building the
+ * join index of the parent logical table and probing it with an entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RefObjectMapBenchmark {
+
+    @Param({"100", "10000"})
+    private int departments;
+    private SyntheticInputSource source;
+    private TriplesMap employeeMap;
+    private RefNodeEmitter refNodeEmitter;
+    private Entity[] entities;
+    private Resource term;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<SyntheticTable> tables = TriplesMapBenchmark.createTables(0, departments);
+        source = new SyntheticInputSource(tables);
+        employeeMap = TriplesMapBenchmark.getTriplesMap(SyntheticMapping.build(tables),
+                TriplesMapBenchmark.EMPLOYEE_TABLE);
+        refNodeEmitter = employeeMap.prepareRefNodeTerms(source);
+        entities = new Entity[1024];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = source.generateEntity(TriplesMapBenchmark.EMPLOYEE_TABLE, i * 31);
+        }
+        term = employeeMap.generateEntityTerm(entities[0]);
+    }
+
+    @Benchmark
+    public RefNodeEmitter buildJoinIndex() {
+        return employeeMap.prepareRefNodeTerms(source);
+    }
+
+    @Benchmark
+    public void probeJoinIndex(Blackhole blackhole) {
+        Entity entity = entities[next++ & (entities.length - 1)];
+        refNodeEmitter.emitRefNodeTerms(term, entity, TriplesMapBenchmark.sinkOf(blackhole));
+    }
+}
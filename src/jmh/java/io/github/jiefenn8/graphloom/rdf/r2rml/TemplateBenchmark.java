@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of making a template value IRI-safe with {@link Template} against
+ * form-encoding it with {@link URLEncoder}, for a value that is already safe
+ * and for one that needs escaping, and of rendering a whole template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateBenchmark {
+
+    @Param({"EMPLOYEE-7369_SMITH", "R&D Department/\u00C9tudes"})
+    private String value;
+    private Template template;
+    private Entity entity;
+
+    @Setup
+    public void setUp() {
+        template = Template.compile("http://data.example.com/emp/{ID}/{NAME}");
+        entity = Map.of("ID", "7369", "NAME", value)::get;
+    }
+
+    @Benchmark
+    public String urlEncoder() {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String iriSafe() {
+        return Template.encodeIRISafe(value);
+    }
+
+    @Benchmark
+    public String render() {
+        return template.render(entity);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.jmh.SyntheticInputSource;
+import io.github.jiefenn8.graphloom.rdf.r2rml.AbstractTermMap.ValuedType;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link AbstractTermMap#generateRDFTerm(Entity)} for each
+ * valued type of term map, generating the same term over and over with and
+ * without the node cache of the term map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TermMapBenchmark {
+
+    @Param({"0", "1024"})
+    private int nodeCacheSize;
+    private ObjectMap constantMap;
+    private ObjectMap templateMap;
+    private ObjectMap columnMap;
+    private Entity entity;
+
+    @Setup
+    public void setUp() {
+        constantMap = new ObjectMap.Builder(ResourceFactory.createResource("http://example.com/ns#Employee"),
+                ValuedType.CONSTANT).build();
+        templateMap = new ObjectMap.Builder(
+                ResourceFactory.createStringLiteral("http://data.example.com/emp/{ID}/{C1}"),
+                ValuedType.TEMPLATE).nodeCacheSize(nodeCacheSize).build();
+        columnMap = new ObjectMap.Builder(ResourceFactory.createStringLiteral("C2"), ValuedType.COLUMN)
+                .nodeCacheSize(nodeCacheSize)
+                .build();
+        entity = new SyntheticInputSource(TriplesMapBenchmark.createTables(0, 1))
+                .generateEntity(TriplesMapBenchmark.EMPLOYEE_TABLE, 7369);
+    }
+
+    @Benchmark
+    public RDFNode constant() {
+        return constantMap.generateRDFTerm(entity);
+    }
+
+    @Benchmark
+    public RDFNode template() {
+        return templateMap.generateRDFTerm(entity);
+    }
+
+    @Benchmark
+    public RDFNode column() {
+        return columnMap.generateRDFTerm(entity);
+    }
+}
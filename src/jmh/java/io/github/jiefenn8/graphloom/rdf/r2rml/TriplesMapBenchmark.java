@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.jmh.SyntheticInputSource;
+import io.github.jiefenn8.graphloom.jmh.SyntheticMapping;
+import io.github.jiefenn8.graphloom.jmh.SyntheticTable;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Resource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the per-entity work of a {@link TriplesMap}; Generating the
+ * subject, class and predicate object terms of an entity. The whole entity
+ * is also mapped both by emitting its triples to a sink and by the per-row
+ * models of the generate methods, whose triples are then handed over as
+ * the mapper used to; The cost of the models is the difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TriplesMapBenchmark {
+
+    static final String EMPLOYEE_TABLE = "EMP";
+    static final String DEPARTMENT_TABLE = "DEPT";
+
+    private TriplesMap employeeMap;
+    private Entity[] entities;
+    private Resource term;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<SyntheticTable> tables = createTables(0, 100);
+        SyntheticInputSource source = new SyntheticInputSource(tables);
+        employeeMap = getTriplesMap(SyntheticMapping.build(tables), EMPLOYEE_TABLE);
+        entities = new Entity[1024];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = source.generateEntity(EMPLOYEE_TABLE, i * 31);
+        }
+        term = employeeMap.generateEntityTerm(entities[0]);
+    }
+
+    private Entity nextEntity() {
+        return entities[next++ & (entities.length - 1)];
+    }
+
+    @Benchmark
+    public Resource generateEntityTerm() {
+        return employeeMap.generateEntityTerm(nextEntity());
+    }
+
+    @Benchmark
+    public void emitClassTerms(Blackhole blackhole) {
+        employeeMap.emitClassTerms(term, sinkOf(blackhole));
+    }
+
+    @Benchmark
+    public void emitNodeTerms(Blackhole blackhole) {
+        employeeMap.emitNodeTerms(term, nextEntity(), sinkOf(blackhole));
+    }
+
+    @Benchmark
+    public void emitEntity(Blackhole blackhole) {
+        Entity entity = nextEntity();
+        Resource subject = employeeMap.generateEntityTerm(entity);
+        TripleSink sink = sinkOf(blackhole);
+        employeeMap.emitClassTerms(subject, sink);
+        employeeMap.emitNodeTerms(subject, entity, sink);
+    }
+
+    @Benchmark
+    public void generateEntityModels(Blackhole blackhole) {
+        Entity entity = nextEntity();
+        Resource subject = employeeMap.generateEntityTerm(entity);
+        Model classes = employeeMap.generateClassTerms(subject);
+        Model nodes = employeeMap.generateNodeTerms(subject, entity);
+        classes.listStatements().forEachRemaining(blackhole::consume);
+        nodes.listStatements().forEachRemaining(blackhole::consume);
+    }
+
+    /**
+     * Returns the DEPT table and the EMP table referencing it of the
+     * benchmark source, with the given number of rows. Consecutive EMP rows
+     * reference the DEPT rows in turn.
+     *
+     * @param employees   the number of rows of the EMP table
+     * @param departments the number of rows of the DEPT table
+     * @return the DEPT and EMP tables, in that order
+     */
+    static List<SyntheticTable> createTables(long employees, long departments) {
+        SyntheticTable dept = new SyntheticTable.Builder(DEPARTMENT_TABLE, departments).build();
+        SyntheticTable emp = new SyntheticTable.Builder(EMPLOYEE_TABLE, employees)
+                .parent(dept, 1)
+                .build();
+        return List.of(dept, emp);
+    }
+
+    /**
+     * Returns the triples map of the given table of the given mapping.
+     *
+     * @param r2rmlMap the mapping generated for the table
+     * @param table    the name of the table
+     * @return the triples map of the table
+     */
+    static TriplesMap getTriplesMap(R2RMLMap r2rmlMap, String table) {
+        for (EntityMap entityMap : r2rmlMap) {
+            if (entityMap.getIdName().endsWith(table + "Map")) {
+                return (TriplesMap) entityMap;
+            }
+        }
+        throw new IllegalStateException("Benchmark mapping has no triples map of " + table + ".");
+    }
+
+    /**
+     * Returns a sink that hands every term it receives to the given
+     * blackhole.
+     *
+     * @param blackhole the blackhole to consume the terms
+     * @return the sink consuming every term
+     */
+    static TripleSink sinkOf(Blackhole blackhole) {
+        return (s, p, o) -> {
+            blackhole.consume(s);
+            blackhole.consume(p);
+            blackhole.consume(o);
+        };
+    }
+}
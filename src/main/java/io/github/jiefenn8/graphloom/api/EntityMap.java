@@ -8,6 +8,7 @@ package io.github.jiefenn8.graphloom.api;
 import io.github.jiefenn8.graphloom.api.inputsource.Entity;
 import io.github.jiefenn8.graphloom.util.UniqueId;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Resource;
 
 /**
@@ -47,7 +48,20 @@ public interface EntityMap extends UniqueId {
      * @param term of the entity that represent this entity map
      * @return the model containing the entity and class terms
      */
-    Model generateClassTerms(Resource term);
+    default Model generateClassTerms(Resource term) {
+        Model model = ModelFactory.createDefaultModel();
+        emitClassTerms(term, model::add);
+        return model;
+    }
+
+    /**
+     * Emits the triples of the given entity term with any class terms
+     * associated with the entity directly to the given sink.
+     *
+     * @param term of the entity that represent this entity map
+     * @param sink the sink to receive the entity and class triples
+     */
+    void emitClassTerms(Resource term, TripleSink sink);
 
     /**
      * Returns true if this entity mapping has any relation map and
@@ -57,6 +71,14 @@ public interface EntityMap extends UniqueId {
      */
     boolean hasNodeMapPairs();
 
+    /**
+     * Returns the number of relation map and node map pairs of this entity
+     * mapping; The most node triples an entity can generate.
+     *
+     * @return the number of pairs
+     */
+    int countNodeMapPairs();
+
     /**
      * Returns a model containing RDF triples of all entity properties.
      *
@@ -64,7 +86,21 @@ public interface EntityMap extends UniqueId {
      * @param entity containing the entity data to generate the term
      * @return model containing RDF triples related to an entity
      */
-    Model generateNodeTerms(Resource term, Entity entity);
+    default Model generateNodeTerms(Resource term, Entity entity) {
+        Model model = ModelFactory.createDefaultModel();
+        emitNodeTerms(term, entity, model::add);
+        return model;
+    }
+
+    /**
+     * Emits the RDF triples of all entity properties directly to the given
+     * sink.
+     *
+     * @param term   of the entity that represent this entity map
+     * @param entity containing the entity data to generate the term
+     * @param sink   the sink to receive the triples related to an entity
+     */
+    void emitNodeTerms(Resource term, Entity entity, TripleSink sink);
 
     /**
      * Returns a model containing RDF triples of all entity properties that
@@ -75,5 +111,45 @@ public interface EntityMap extends UniqueId {
      * @param source containing the data source to query data
      * @return model containing RDF triples related to an entity
      */
-    Model generateRefNodeTerms(Resource term, InputSource source);
+    default Model generateRefNodeTerms(Resource term, InputSource source) {
+        Model model = ModelFactory.createDefaultModel();
+        emitRefNodeTerms(term, source, model::add);
+        return model;
+    }
+
+    /**
+     * Emits the RDF triples of all entity properties that reference to an
+     * existing entity in the {@link ConfigMaps} that this instance belongs
+     * to directly to the given sink.
+     *
+     * @param term   of the entity that represent this entity map
+     * @param source containing the data source to query data
+     * @param sink   the sink to receive the triples related to an entity
+     */
+    void emitRefNodeTerms(Resource term, InputSource source, TripleSink sink);
+
+    /**
+     * Returns an emitter of the RDF triples of all entity properties that
+     * reference to an existing entity in the {@link ConfigMaps} that this
+     * instance belongs to. Any data needed from the referenced entity maps
+     * is read from the given source once while preparing the emitter, so
+     * that it can be applied to every entity of this map without querying
+     * the source again.
+     *
+     * @param source containing the data source to query data
+     * @return the emitter of the reference triples of an entity
+     */
+    RefNodeEmitter prepareRefNodeTerms(InputSource source);
+
+    /**
+     * Emits the RDF triples of the entity properties of every entity in
+     * this entity map that reference to an existing entity in the
+     * {@link ConfigMaps} that this instance belongs to. The joining of the
+     * entities is left to the given source with a single query per
+     * reference, instead of being carried out per entity.
+     *
+     * @param source containing the data source to query data
+     * @param sink   the sink to receive the reference triples
+     */
+    void emitJointRefNodeTerms(InputSource source, TripleSink sink);
 }
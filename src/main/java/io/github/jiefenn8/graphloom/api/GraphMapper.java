@@ -7,6 +7,8 @@ package io.github.jiefenn8.graphloom.api;
 
 import org.apache.jena.rdf.model.Model;
 
+import java.util.Objects;
+
 /**
  * This interface defines the base methods that manages the mapping
  * of an input source using provided mapping configurations.
@@ -24,4 +26,26 @@ public interface GraphMapper {
      * @return the model containing the mapped source as a graph model
      */
     Model mapToGraph(InputSource inputSource, ConfigMaps configMaps);
+
+    /**
+     * Maps the input source with the config mappings given and pushes each
+     * generated triple to the given sink. Streaming implementations should
+     * override this method to push each triple as soon as the entity it
+     * belongs to has been mapped, without keeping any triples; Allowing the
+     * mapping of sources larger than the available memory. By default, the
+     * source is mapped to a graph first and its triples are then handed to
+     * the sink.
+     *
+     * @param inputSource the source containing the data to map over to graph
+     * @param configMaps  the configs to manage the mapping of data
+     * @param sink        the sink to receive every generated triple
+     */
+    default void mapToSink(InputSource inputSource, ConfigMaps configMaps, TripleSink sink) {
+        Objects.requireNonNull(sink, "Triple sink must not be null.");
+        Model model = mapToGraph(inputSource, configMaps);
+        sink.start();
+        model.getNsPrefixMap().forEach(sink::prefix);
+        model.listStatements().forEachRemaining((s) -> sink.triple(s.getSubject(), s.getPredicate(), s.getObject()));
+        sink.finish();
+    }
 }
@@ -13,6 +13,11 @@ import java.util.function.Consumer;
 /**
  * This interface defines the base methods in retrieving relevant data grouped
  * through a defined entity; usually by name reference or a query.
+ * <p>
+ * A source given to a mapper with an executor is queried by many threads at
+ * once, including queries nested within the result of another query, and
+ * must then be thread-safe. A source that is not can still be mapped one
+ * entity map after another on the calling thread.
  */
 public interface InputSource {
 
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.api;
+
+/**
+ * This interface defines the base methods that receives the measurements
+ * of a {@link GraphMapper} for each entity map it maps; The entities read,
+ * triples emitted, null terms skipped and the time spent in each
+ * {@link Phase} of the mapping. Measurements are handed over as increments
+ * from time to time while the entity map is mapped, so an implementation
+ * forwarding them to a metrics library (e.g. as Micrometer counters and
+ * timers tagged with the entity map id) shows the progress of a long
+ * mapping as it runs.
+ * <p>
+ * Implementations must be thread-safe; Entity maps can be mapped
+ * concurrently. All methods do nothing by default.
+ */
+public interface MappingMetrics {
+
+    /**
+     * Metrics that discards every measurement; The default of a mapper.
+     */
+    MappingMetrics NONE = new MappingMetrics() {
+    };
+
+    /**
+     * Receives the number of entities read for the given entity map.
+     *
+     * @param entityMapId the id name of the entity map
+     * @param rows        the number of entities read since the last call
+     */
+    default void recordRows(String entityMapId, long rows) {
+    }
+
+    /**
+     * Receives the number of triples emitted by the given entity map.
+     *
+     * @param entityMapId the id name of the entity map
+     * @param triples     the number of triples emitted since the last call
+     */
+    default void recordTriples(String entityMapId, long triples) {
+    }
+
+    /**
+     * Receives the number of terms of the given entity map that were null
+     * and skipped; A null subject skips the whole entity and counts once.
+     *
+     * @param entityMapId the id name of the entity map
+     * @param nulls       the number of terms skipped since the last call
+     */
+    default void recordNulls(String entityMapId, long nulls) {
+    }
+
+    /**
+     * Receives the time the given entity map spent in the given phase.
+     *
+     * @param entityMapId the id name of the entity map
+     * @param phase       the phase of the mapping the time was spent in
+     * @param nanos       the nanoseconds spent since the last call
+     */
+    default void recordTime(String entityMapId, Phase phase, long nanos) {
+    }
+
+    /**
+     * ENUM of the phases of mapping an entity map that are timed.
+     * <p>
+     * SOURCE : Executing the query and reading the entities from the source.
+     * Entity maps sharing a scan of the source are each given its time.
+     * TERMS : Generating the subject, class and node terms of the entities.
+     * JOIN : Building the join indexes of the referenced entity maps and
+     * generating the reference terms of the entities.
+     */
+    enum Phase {
+        SOURCE, TERMS, JOIN
+    }
+}
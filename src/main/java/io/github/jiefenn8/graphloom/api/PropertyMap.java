@@ -28,7 +28,7 @@ public interface PropertyMap extends UniqueId {
 
 
     /**
-     * Returns a list of all class associated with the entity.
+     * Returns an unmodifiable list of all class associated with the entity.
      *
      * @return the list with all class associated to entity as URIs
      */
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.api;
+
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import org.apache.jena.rdf.model.Resource;
+
+/**
+ * This interface defines the base methods that manages the generation of
+ * the triples of an entity that reference to entities of other entity maps.
+ * Instances are prepared once per mapping by an {@link EntityMap} with any
+ * data they need from the referenced entity maps.
+ */
+@FunctionalInterface
+public interface RefNodeEmitter {
+
+    /**
+     * Emits the RDF triples of all entity properties that reference to an
+     * existing entity of another entity map directly to the given sink.
+     *
+     * @param term   of the entity that represent the entity map
+     * @param entity containing the entity data to generate the term
+     * @param sink   the sink to receive the triples related to an entity
+     */
+    void emitRefNodeTerms(Resource term, Entity entity, TripleSink sink);
+}
@@ -6,6 +6,7 @@
 package io.github.jiefenn8.graphloom.api;
 
 import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityBatch;
 import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
 import io.github.jiefenn8.graphloom.util.UniqueId;
 
@@ -37,8 +38,11 @@ public interface SourceMap extends UniqueId {
     default void forEachEntity(InputSource inputSource, Consumer<Entity> action) {
         Objects.requireNonNull(action);
         inputSource.executeEntityQuery(getEntityReference(), (r) -> {
-            while (r.hasNext()) {
-                action.accept(r.nextEntity());
+            EntityBatch batch = new EntityBatch();
+            while (r.nextBatch(batch)) {
+                for (int i = 0; i < batch.size(); i++) {
+                    action.accept(batch.get(i));
+                }
             }
         });
     }
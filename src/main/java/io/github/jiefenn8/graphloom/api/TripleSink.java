@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.api;
+
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+
+/**
+ * This interface defines the base methods that receives the triples as they
+ * are generated by a {@link GraphMapper}. Implementations of this interface
+ * should hand each triple over to their destination (e.g. a file, a graph
+ * store or a network stream) without the need of keeping the mapped graph
+ * in memory.
+ */
+@FunctionalInterface
+public interface TripleSink {
+
+    /**
+     * Signals the start of the mapping; called once before any prefix or
+     * triple is received.
+     */
+    default void start() {
+    }
+
+    /**
+     * Receives a namespace prefix and URI that was used in the mapping
+     * configurations.
+     *
+     * @param prefix the prefix that represent the namespace
+     * @param uri    the namespace URI of the prefix
+     */
+    default void prefix(String prefix, String uri) {
+    }
+
+    /**
+     * Receives a single triple generated by the mapping.
+     *
+     * @param subject   the subject term of the triple
+     * @param predicate the predicate term of the triple
+     * @param object    the object term of the triple
+     */
+    void triple(Resource subject, Property predicate, RDFNode object);
+
+    /**
+     * Signals the end of the mapping; called once after all triples has
+     * been received.
+     */
+    default void finish() {
+    }
+}
@@ -7,9 +7,7 @@ package io.github.jiefenn8.graphloom.api.inputsource;
 
 import com.google.gson.Gson;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * Implementation of {@link EntityReference} interface.
@@ -20,6 +18,7 @@ public class BaseEntityReference implements EntityReference {
     private final String payload;
     private final String iteratorDef;
     private final Map<String, String> properties = new HashMap<>();
+    private Set<String> projectedColumns = Set.of();
 
     /**
      * Constructs an BaseEntityReference with the specified payload, type
@@ -80,6 +79,32 @@ public class BaseEntityReference implements EntityReference {
         return properties.put(property, value);
     }
 
+    /**
+     * Returns the names of the custom properties set to this config.
+     *
+     * @return the unmodifiable set of property names
+     */
+    public Set<String> listPropertyNames() {
+        return Collections.unmodifiableSet(properties.keySet());
+    }
+
+    /**
+     * Sets the names of the columns needed from each entity of this
+     * reference. The projection does not take part in the equality of
+     * references, as it does not change the entities referenced.
+     *
+     * @param columns the set of column names needed, or empty for all
+     */
+    public void setProjectedColumns(Set<String> columns) {
+        Objects.requireNonNull(columns, "Projected columns must not be null.");
+        projectedColumns = Collections.unmodifiableSet(new LinkedHashSet<>(columns));
+    }
+
+    @Override
+    public Set<String> listProjectedColumns() {
+        return projectedColumns;
+    }
+
     @Override
     public String toString() {
         return new Gson().toJson(this);
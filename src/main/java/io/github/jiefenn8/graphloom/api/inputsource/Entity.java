@@ -22,5 +22,34 @@ public interface Entity {
      * @return the value of the given property name, otherwise null
      */
     String getPropertyValue(String name);
+
+    /**
+     * Returns the value of an entity property at the given position in the
+     * layout of this entity. If the value does not exist; Returns null.
+     * Implementations with a layout should override this method to retrieve
+     * the value without a name lookup.
+     *
+     * @param index the position of the entity property
+     * @return the value of the property at the position, otherwise null
+     * @throws IllegalStateException if this entity has no layout
+     */
+    default String getPropertyValue(int index) {
+        EntityLayout layout = getLayout();
+        if (layout == null) {
+            throw new IllegalStateException("Entity has no layout to retrieve property by position.");
+        }
+        return getPropertyValue(layout.getName(index));
+    }
+
+    /**
+     * Returns the layout of the properties of this entity if known;
+     * Otherwise returns null. Entities of the same result should share
+     * the same layout instance.
+     *
+     * @return the layout of this entity, otherwise null
+     */
+    default EntityLayout getLayout() {
+        return null;
+    }
 }
 
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.api.inputsource;
+
+import java.util.Arrays;
+
+/**
+ * This class defines the base methods that manages a batch of entities
+ * handed over by a result in a single call. A batch is reused for every
+ * call to {@link EntityResult#nextBatch(EntityBatch)}; The entities in a
+ * batch are only valid until the batch is filled again.
+ */
+public final class EntityBatch {
+
+    /**
+     * The number of entities in a batch if none is specified.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+    private final Entity[] entities;
+    private int size;
+
+    /**
+     * Constructs an EntityBatch with the default capacity.
+     */
+    public EntityBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an EntityBatch with the specified maximum number of
+     * entities it can hold.
+     *
+     * @param capacity the maximum number of entities in this batch
+     */
+    public EntityBatch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Batch capacity must be positive.");
+        }
+        entities = new Entity[capacity];
+    }
+
+    /**
+     * Adds the given entity to the end of this batch.
+     *
+     * @param entity the entity to add
+     * @throws IllegalStateException if this batch is full
+     */
+    public void add(Entity entity) {
+        if (isFull()) {
+            throw new IllegalStateException("Batch is full.");
+        }
+        entities[size++] = entity;
+    }
+
+    /**
+     * Returns the entity at the given position in this batch.
+     *
+     * @param index the position of the entity
+     * @return the entity at the position
+     * @throws IndexOutOfBoundsException if the position is not in this batch
+     */
+    public Entity get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for batch of " + size + ".");
+        }
+        return entities[index];
+    }
+
+    /**
+     * Returns the number of entities in this batch.
+     *
+     * @return the number of entities
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of entities this batch can hold.
+     *
+     * @return the capacity of this batch
+     */
+    public int capacity() {
+        return entities.length;
+    }
+
+    /**
+     * Returns true if this batch holds no entity.
+     *
+     * @return true if this batch is empty, otherwise false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if this batch cannot hold any more entity.
+     *
+     * @return true if this batch is full, otherwise false
+     */
+    public boolean isFull() {
+        return size == entities.length;
+    }
+
+    /**
+     * Removes every entity from this batch.
+     */
+    public void clear() {
+        Arrays.fill(entities, 0, size, null);
+        size = 0;
+    }
+}
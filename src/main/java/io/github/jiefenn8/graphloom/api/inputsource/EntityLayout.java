@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.api.inputsource;
+
+import java.sql.JDBCType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class defines the base methods that manages the layout of the
+ * properties shared by every entity in a result; i.e. the position of each
+ * property name. A layout is given by a source up front so that consumers
+ * can resolve the property names they need to positions once, and retrieve
+ * the values by position from then on. A source may also give the SQL type
+ * of each property, so that its values can be compared as what they are
+ * rather than as strings; e.g. timestamps of differing precision.
+ */
+public final class EntityLayout {
+
+    private final List<String> names;
+    private final JDBCType[] types;
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    /**
+     * Constructs an EntityLayout with the specified property names and
+     * their types in order of their position.
+     *
+     * @param names the property names in order of position
+     * @param types the types of the properties, otherwise null
+     */
+    private EntityLayout(List<String> names, List<JDBCType> types) {
+        this.names = List.copyOf(names);
+        if (types != null && types.size() != this.names.size()) {
+            throw new IllegalArgumentException("Property types must match property names.");
+        }
+        this.types = types == null ? new JDBCType[this.names.size()] : types.toArray(new JDBCType[0]);
+        for (int i = 0; i < this.names.size(); i++) {
+            positions.putIfAbsent(this.names.get(i), i);
+        }
+    }
+
+    /**
+     * Returns a layout of the given property names in order of their
+     * position.
+     *
+     * @param names the property names in order of position
+     * @return the layout of the given property names
+     */
+    public static EntityLayout of(List<String> names) {
+        return new EntityLayout(Objects.requireNonNull(names, "Property names must not be null."), null);
+    }
+
+    /**
+     * Returns a layout of the given property names and their SQL types in
+     * order of their position. A type may be null if it is not known.
+     *
+     * @param names the property names in order of position
+     * @param types the SQL types of the properties in order of position
+     * @return the layout of the given property names and types
+     */
+    public static EntityLayout of(List<String> names, List<JDBCType> types) {
+        Objects.requireNonNull(names, "Property names must not be null.");
+        Objects.requireNonNull(types, "Property types must not be null.");
+        return new EntityLayout(names, types);
+    }
+
+    /**
+     * Returns the position of the given property name in this layout. If
+     * the property does not exist; Returns -1.
+     *
+     * @param name the name of the property
+     * @return the position of the property, otherwise -1
+     */
+    public int indexOf(String name) {
+        return positions.getOrDefault(name, -1);
+    }
+
+    /**
+     * Returns the property name at the given position in this layout.
+     *
+     * @param index the position of the property
+     * @return the name of the property at the position
+     */
+    public String getName(int index) {
+        return names.get(index);
+    }
+
+    /**
+     * Returns the SQL type of the property at the given position in this
+     * layout, or null if the source gave no type.
+     *
+     * @param index the position of the property
+     * @return the type of the property at the position, otherwise null
+     */
+    public JDBCType getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Returns the number of properties in this layout.
+     *
+     * @return the number of properties
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns the property names in order of their position.
+     *
+     * @return the list of property names
+     */
+    public List<String> listNames() {
+        return names;
+    }
+
+    /**
+     * Returns a copy of the values of the given entity of this layout that
+     * stays valid after its source moves on to the next entity. If the
+     * entity already is such a copy of this layout; Returns the entity as
+     * it is, since a copy never changes.
+     *
+     * @param entity the entity of this layout to copy
+     * @return the copy of the entity
+     */
+    public Entity copyOf(Entity entity) {
+        if (entity instanceof EntityCopy && entity.getLayout() == this) {
+            return entity;
+        }
+        String[] values = new String[names.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = entity.getPropertyValue(i);
+        }
+        return new EntityCopy(this, values);
+    }
+
+    @Override
+    public String toString() {
+        return names.toString();
+    }
+
+    /**
+     * Implementation of {@link Entity} interface holding a copy of the
+     * values of an entity in the order of its layout.
+     */
+    private static class EntityCopy implements Entity {
+
+        private final EntityLayout layout;
+        private final String[] values;
+
+        private EntityCopy(EntityLayout layout, String[] values) {
+            this.layout = layout;
+            this.values = values;
+        }
+
+        @Override
+        public String getPropertyValue(String name) {
+            int index = layout.indexOf(name);
+            return index < 0 ? null : values[index];
+        }
+
+        @Override
+        public String getPropertyValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        public EntityLayout getLayout() {
+            return layout;
+        }
+    }
+}
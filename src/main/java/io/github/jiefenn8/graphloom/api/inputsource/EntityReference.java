@@ -5,6 +5,8 @@
 
 package io.github.jiefenn8.graphloom.api.inputsource;
 
+import java.util.Set;
+
 /**
  * This interface defines the base methods to manage the handling of
  * payload and its related properties for consumption by the input
@@ -12,6 +14,28 @@ package io.github.jiefenn8.graphloom.api.inputsource;
  */
 public interface EntityReference {
 
+    /**
+     * Name of the property holding the watermark column of an entity
+     * reference; A column whose value only increases as the rows of the
+     * source are added or updated, e.g. an update timestamp or sequence.
+     */
+    String WATERMARK_COLUMN = "watermarkColumn";
+
+    /**
+     * Name of the property holding the watermark of the last mapping of an
+     * entity reference. Sources supporting watermarks should only return
+     * the entities whose watermark column is greater than this value.
+     */
+    String WATERMARK = "watermark";
+
+    /**
+     * Name of the property holding the SQL type of the watermark of an
+     * entity reference, as a {@link java.sql.JDBCType} name; Absent if the
+     * type of the watermark column is not known. Sources should compare the
+     * watermark as a value of this type rather than as a string.
+     */
+    String WATERMARK_TYPE = "watermarkType";
+
     /**
      * Returns the payload type of this class.
      *
@@ -43,6 +67,17 @@ public interface EntityReference {
      */
     String getProperty(String propertyName);
 
+    /**
+     * Returns the names of the columns needed from each entity of this
+     * reference. Sources may retrieve only these columns of each entity.
+     * If every column is needed; Returns an empty set.
+     *
+     * @return the set of column names needed, otherwise an empty set
+     */
+    default Set<String> listProjectedColumns() {
+        return Set.of();
+    }
+
     /**
      * Default types of payload.
      */
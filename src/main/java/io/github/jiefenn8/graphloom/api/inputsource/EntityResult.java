@@ -28,4 +28,42 @@ public interface EntityResult {
      * @return the next entity on the iterator
      */
     Entity nextEntity();
+
+    /**
+     * Fills the given batch with the next entities in the result iterator,
+     * up to the capacity of the batch. Any entity already in the batch is
+     * removed first. Returns false if there was no entity next; leaving the
+     * batch empty. Implementations that fetch entities from their source in
+     * blocks should override this method to hand over a block at once.
+     * <p>
+     * As an entity may only be valid until the next entity is retrieved,
+     * the default adds a copy of each entity with a layout; And ends the
+     * batch with the first entity without one.
+     *
+     * @param batch the batch to fill with the next entities
+     * @return true if any entity was added to the batch, otherwise false
+     */
+    default boolean nextBatch(EntityBatch batch) {
+        batch.clear();
+        while (!batch.isFull() && hasNext()) {
+            Entity entity = nextEntity();
+            EntityLayout layout = entity.getLayout();
+            if (layout == null) {
+                batch.add(entity);
+                break;
+            }
+            batch.add(layout.copyOf(entity));
+        }
+        return !batch.isEmpty();
+    }
+
+    /**
+     * Returns the layout shared by every entity in this result, before any
+     * entity is retrieved, if known; Otherwise returns null.
+     *
+     * @return the layout of the entities in this result, otherwise null
+     */
+    default EntityLayout getLayout() {
+        return null;
+    }
 }
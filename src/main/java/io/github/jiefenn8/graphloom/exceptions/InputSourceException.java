@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.exceptions;
+
+import java.io.Serial;
+
+/**
+ * Superclass of exceptions arising from GraphLoom.InputSource related code
+ * extending from {@link GraphLoomException}.
+ */
+public class InputSourceException extends GraphLoomException {
+
+    @Serial private static final long serialVersionUID = 4518046390158325790L;
+
+    /**
+     * Constructs an input source exception with the specified detail
+     * message.
+     *
+     * @param message the message the exception will contain
+     */
+    public InputSourceException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs an input source exception with the specified cause and
+     * message.
+     *
+     * @param message the message the exception with contain
+     * @param cause   the cause of the exception
+     */
+    public InputSourceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
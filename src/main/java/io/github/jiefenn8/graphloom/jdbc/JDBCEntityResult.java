@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.jdbc;
+
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityBatch;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityLayout;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityResult;
+import io.github.jiefenn8.graphloom.exceptions.InputSourceException;
+
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of {@link EntityResult} interface that reads the rows of a
+ * JDBC result set as entities sharing the layout of the result set columns
+ * and their SQL types.
+ * Entities retrieved one at a time are detached from the result set. When
+ * retrieved in batches, the entities of a batch are reused for the next
+ * batch of the same size.
+ */
+class JDBCEntityResult implements EntityResult {
+
+    private final ResultSet resultSet;
+    private final EntityLayout layout;
+    private RowEntity[] rows = new RowEntity[0];
+    private boolean advanced;
+    private boolean hasRow;
+
+    /**
+     * Constructs a JDBCEntityResult with the specified result set to read
+     * the entities from.
+     *
+     * @param resultSet the result set positioned before the first row
+     * @throws SQLException if the columns of the result set cannot be read
+     */
+    JDBCEntityResult(ResultSet resultSet) throws SQLException {
+        this.resultSet = resultSet;
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        List<String> names = new ArrayList<>(metaData.getColumnCount());
+        List<JDBCType> types = new ArrayList<>(metaData.getColumnCount());
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            names.add(metaData.getColumnLabel(i));
+            types.add(toJDBCType(metaData.getColumnType(i)));
+        }
+        layout = EntityLayout.of(names, types);
+    }
+
+    /**
+     * Returns the standard SQL type of the given type code, or null if the
+     * code is specific to the driver.
+     *
+     * @param type the type code of a column
+     * @return the SQL type of the code, otherwise null
+     */
+    private static JDBCType toJDBCType(int type) {
+        try {
+            return JDBCType.valueOf(type);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!advanced) {
+            hasRow = next();
+            advanced = true;
+        }
+        return hasRow;
+    }
+
+    @Override
+    public Entity nextEntity() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No entity left in result.");
+        }
+        advanced = false;
+        RowEntity entity = new RowEntity(layout);
+        read(entity);
+        return entity;
+    }
+
+    @Override
+    public boolean nextBatch(EntityBatch batch) {
+        batch.clear();
+        if (rows.length != batch.capacity()) {
+            rows = new RowEntity[batch.capacity()];
+        }
+        while (!batch.isFull() && hasNext()) {
+            advanced = false;
+            RowEntity entity = rows[batch.size()];
+            if (entity == null) {
+                entity = new RowEntity(layout);
+                rows[batch.size()] = entity;
+            }
+            read(entity);
+            batch.add(entity);
+        }
+        return !batch.isEmpty();
+    }
+
+    @Override
+    public EntityLayout getLayout() {
+        return layout;
+    }
+
+    private boolean next() {
+        try {
+            return resultSet.next();
+        } catch (SQLException ex) {
+            throw new InputSourceException("Failed to read next row of result.", ex);
+        }
+    }
+
+    private void read(RowEntity entity) {
+        try {
+            for (int i = 0; i < entity.values.length; i++) {
+                entity.values[i] = resultSet.getString(i + 1);
+            }
+        } catch (SQLException ex) {
+            throw new InputSourceException("Failed to read row of result.", ex);
+        }
+    }
+
+    /**
+     * Implementation of {@link Entity} interface holding the values of a
+     * row in the order of the result set columns.
+     */
+    private static class RowEntity implements Entity {
+
+        private final EntityLayout layout;
+        private final String[] values;
+
+        private RowEntity(EntityLayout layout) {
+            this.layout = layout;
+            this.values = new String[layout.size()];
+        }
+
+        @Override
+        public String getPropertyValue(String name) {
+            int index = layout.indexOf(name);
+            return index < 0 ? null : values[index];
+        }
+
+        @Override
+        public String getPropertyValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        public EntityLayout getLayout() {
+            return layout;
+        }
+    }
+}
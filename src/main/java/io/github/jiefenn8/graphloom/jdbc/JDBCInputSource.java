@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.jdbc;
+
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityResult;
+import io.github.jiefenn8.graphloom.exceptions.InputSourceException;
+import io.github.jiefenn8.graphloom.rdf.r2rml.DatabaseType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of {@link InputSource} interface that retrieves entities
+ * from a relational database through a JDBC connection. Each query is read
+ * through a forward-only, read-only cursor that fetches the given number of
+ * rows per round trip, so a result is never loaded as a whole. Prepared
+ * statements are kept per query and reused when the same query is executed
+ * again; e.g. the joint query of each entity of a triples map.
+ * <p>
+ * The connection is owned by the caller and is not closed by this source.
+ * Some drivers only stream a result through a cursor when the connection
+ * is not in auto-commit mode; e.g. PostgreSQL.
+ * <p>
+ * This source is thread-safe. The statement cache is guarded by a lock and
+ * a statement is taken out of it while in use, so a statement is only ever
+ * used by one thread. Every thread shares the given connection, which
+ * JDBC requires drivers to allow; A driver that does not must be mapped
+ * without an executor.
+ */
+public class JDBCInputSource implements InputSource, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JDBCInputSource.class);
+    private final Connection connection;
+    private final int fetchSize;
+    private final Map<String, PreparedStatement> statements;
+
+    /**
+     * Constructs a JDBCInputSource with the specified Builder containing the
+     * connection and options to populate and initialise this instance.
+     *
+     * @param builder the jdbc input source builder to build from
+     */
+    private JDBCInputSource(Builder builder) {
+        connection = builder.connection;
+        fetchSize = builder.fetchSize;
+        int statementCacheSize = builder.statementCacheSize;
+        statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= statementCacheSize) {
+                    return false;
+                }
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the SQL query that retrieves the entities of the given entity
+     * reference. A table or view name is read with only the projected
+     * columns of the reference, if any; A custom query is executed as given.
+     * If the reference has a watermark, only the rows whose watermark column
+     * is greater than the watermark are read, given as the first parameter
+     * and bound as a value of the watermark type if it has one.
+     *
+     * @param entityRef the entity reference to create the query of
+     * @return the SQL query of the entity reference
+     * @throws InputSourceException if the payload type is not supported
+     */
+    static String createQuery(EntityReference entityRef) {
+        EntityReference.PayloadType payloadType = entityRef.getPayloadType();
+        boolean delta = getWatermark(entityRef) != null;
+        String filter = delta ? " WHERE " + entityRef.getProperty(EntityReference.WATERMARK_COLUMN) + " > ?" : "";
+        if (payloadType == DatabaseType.TABLE_NAME) {
+            Set<String> columns = entityRef.listProjectedColumns();
+            String selectList = columns.isEmpty() ? "*" : String.join(", ", columns);
+            return "SELECT " + selectList + " FROM " + entityRef.getPayload() + filter;
+        } else if (payloadType == DatabaseType.QUERY) {
+            return delta ? "SELECT * FROM (" + entityRef.getPayload() + ") DELTA" + filter : entityRef.getPayload();
+        }
+        throw new InputSourceException("Unsupported payload type " + payloadType + ".");
+    }
+
+    /**
+     * Returns the watermark of the given entity reference if it also has a
+     * watermark column; Otherwise returns null.
+     *
+     * @param entityRef the entity reference to get the watermark of
+     * @return the watermark of the entity reference, otherwise null
+     */
+    private static String getWatermark(EntityReference entityRef) {
+        if (entityRef.getProperty(EntityReference.WATERMARK_COLUMN) == null) {
+            return null;
+        }
+        return entityRef.getProperty(EntityReference.WATERMARK);
+    }
+
+    @Override
+    public void executeEntityQuery(EntityReference entityRef, Consumer<EntityResult> action) {
+        Objects.requireNonNull(entityRef, "Entity reference must not be null.");
+        Objects.requireNonNull(action, "Action must not be null.");
+        String query = createQuery(entityRef);
+        PreparedStatement statement = acquireStatement(query);
+        String watermark = getWatermark(entityRef);
+        boolean completed = false;
+        try {
+            if (watermark != null) {
+                bindWatermark(statement, watermark, entityRef.getProperty(EntityReference.WATERMARK_TYPE));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                action.accept(new JDBCEntityResult(resultSet));
+                completed = true;
+            }
+        } catch (SQLException ex) {
+            throw new InputSourceException("Failed to execute query: " + query, ex);
+        } finally {
+            if (completed) {
+                releaseStatement(query, statement);
+            } else {
+                closeQuietly(statement);
+            }
+        }
+    }
+
+    /**
+     * Binds the given watermark to the first parameter of the given
+     * statement as a value of the given SQL type; A number, date, time or
+     * timestamp is bound as such, other types are converted from the string
+     * by the driver. If the type is not known, or the watermark does not
+     * parse as the type, the watermark is bound as a string.
+     *
+     * @param statement the statement to bind the watermark to
+     * @param watermark the watermark to bind
+     * @param typeName  the name of the SQL type of the watermark, otherwise null
+     * @throws SQLException if the watermark cannot be bound
+     */
+    static void bindWatermark(PreparedStatement statement, String watermark, String typeName) throws SQLException {
+        if (typeName == null) {
+            statement.setString(1, watermark);
+            return;
+        }
+        try {
+            JDBCType type = JDBCType.valueOf(typeName);
+            switch (type) {
+                case TINYINT, SMALLINT, INTEGER, BIGINT, REAL, FLOAT, DOUBLE, NUMERIC, DECIMAL ->
+                        statement.setBigDecimal(1, new BigDecimal(watermark));
+                case DATE -> statement.setDate(1, Date.valueOf(watermark));
+                case TIME -> statement.setObject(1, LocalTime.parse(watermark));
+                case TIMESTAMP -> statement.setTimestamp(1, Timestamp.valueOf(watermark));
+                default -> statement.setObject(1, watermark, type.getVendorTypeNumber());
+            }
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            statement.setString(1, watermark);
+        }
+    }
+
+    /**
+     * Closes every prepared statement kept by this source. The connection
+     * itself is left open.
+     */
+    @Override
+    public void close() {
+        synchronized (statements) {
+            statements.values().forEach(JDBCInputSource::closeQuietly);
+            statements.clear();
+        }
+    }
+
+    /**
+     * Returns an idle prepared statement of the given query, or a newly
+     * prepared statement if there is none. A statement is taken out of the
+     * cache while in use, so that queries nested within the result of the
+     * same query are given their own statement.
+     *
+     * @param query the query to prepare
+     * @return the prepared statement of the query
+     */
+    private PreparedStatement acquireStatement(String query) {
+        synchronized (statements) {
+            PreparedStatement statement = statements.remove(query);
+            if (statement != null) {
+                return statement;
+            }
+        }
+        try {
+            PreparedStatement statement = connection.prepareStatement(query,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+            LOGGER.debug("Prepared statement for query: {}", query);
+            return statement;
+        } catch (SQLException ex) {
+            throw new InputSourceException("Failed to prepare query: " + query, ex);
+        }
+    }
+
+    /**
+     * Returns the given prepared statement of the given query to the cache
+     * for reuse. The statement is closed instead if an idle statement of the
+     * same query is already kept.
+     *
+     * @param query     the query of the statement
+     * @param statement the statement to return
+     */
+    private void releaseStatement(String query, PreparedStatement statement) {
+        synchronized (statements) {
+            if (statements.putIfAbsent(query, statement) == null) {
+                return;
+            }
+        }
+        closeQuietly(statement);
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ex) {
+            LOGGER.warn("Failed to close prepared statement.", ex);
+        }
+    }
+
+    /**
+     * Builder class for JDBCInputSource.
+     */
+    public static class Builder {
+
+        private final Connection connection;
+        private int fetchSize = 1000;
+        private int statementCacheSize = 32;
+
+        /**
+         * Constructs a Builder with the specified connection to the database
+         * to retrieve the entities from.
+         *
+         * @param connection the connection to the database
+         */
+        public Builder(Connection connection) {
+            this.connection = Objects.requireNonNull(connection, "Connection must not be null.");
+        }
+
+        /**
+         * Sets the number of rows fetched from the database in each round
+         * trip while reading a result. Defaults to 1000.
+         *
+         * @param fetchSize the number of rows fetched per round trip
+         * @return this builder for fluent method chaining
+         */
+        public Builder fetchSize(int fetchSize) {
+            if (fetchSize < 1) {
+                throw new IllegalArgumentException("Fetch size must be positive.");
+            }
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of distinct queries whose prepared statements are
+         * kept for reuse; the least recently used statement is closed when
+         * the limit is passed. Defaults to 32.
+         *
+         * @param statementCacheSize the number of statements to keep
+         * @return this builder for fluent method chaining
+         */
+        public Builder statementCacheSize(int statementCacheSize) {
+            if (statementCacheSize < 0) {
+                throw new IllegalArgumentException("Statement cache size must not be negative.");
+            }
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+
+        /**
+         * Returns an instance of jdbc input source containing the connection
+         * and options given to its builder.
+         *
+         * @return instance of jdbc input source created with this builder
+         */
+        public JDBCInputSource build() {
+            return new JDBCInputSource(this);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link TripleSink} interface that buffers the triples
+ * received by a single thread and hands them over to a shared sink in
+ * batches. The shared sink is locked while a batch is handed over, so that
+ * many buffers can safely write to the same sink concurrently while taking
+ * the lock once per batch rather than once per triple.
+ */
+class BufferedTripleSink implements TripleSink {
+
+    private final TripleSink sink;
+    private final Resource[] subjects;
+    private final Property[] predicates;
+    private final RDFNode[] objects;
+    private int size;
+
+    /**
+     * Constructs a BufferedTripleSink with the specified shared sink and
+     * the number of triples to buffer before handing them over.
+     *
+     * @param sink     the shared sink to hand the triples over to
+     * @param capacity the number of triples to buffer
+     */
+    BufferedTripleSink(TripleSink sink, int capacity) {
+        this.sink = sink;
+        subjects = new Resource[capacity];
+        predicates = new Property[capacity];
+        objects = new RDFNode[capacity];
+    }
+
+    @Override
+    public void triple(Resource subject, Property predicate, RDFNode object) {
+        subjects[size] = subject;
+        predicates[size] = predicate;
+        objects[size] = object;
+        if (++size == subjects.length) {
+            flush();
+        }
+    }
+
+    /**
+     * Hands all buffered triples over to the shared sink.
+     */
+    void flush() {
+        if (size == 0) {
+            return;
+        }
+        synchronized (sink) {
+            for (int i = 0; i < size; i++) {
+                sink.triple(subjects[i], predicates[i], objects[i]);
+            }
+        }
+        Arrays.fill(subjects, 0, size, null);
+        Arrays.fill(predicates, 0, size, null);
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+    }
+}
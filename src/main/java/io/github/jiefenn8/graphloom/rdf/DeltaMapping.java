@@ -0,0 +1,548 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityLayout;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.JDBCType;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * This class manages an incremental mapping that only maps the rows added or
+ * updated since the last mapping, using a watermark column of each entity
+ * map; A column whose value only increases as rows are added or updated,
+ * e.g. an update timestamp or sequence.
+ * <p>
+ * The highest watermark mapped of each entity map is kept in the watermark
+ * file once a mapping succeeds; The next mapping only reads the rows past it,
+ * and hands their triples to the additions sink. If a tombstone source is
+ * given, the rows deleted are read from it with the same entity references
+ * and their triples handed to the deletions sink. The tombstones keep a
+ * watermark of their own, so that neither scan skips the rows recorded while
+ * the other was running. The old
+ * image of an updated row should also be recorded as a tombstone so that its
+ * replaced triples are deleted.
+ * <p>
+ * The watermark column of an entity map is set on this builder, or with the
+ * {@link EntityReference#WATERMARK_COLUMN} property of its entity reference.
+ * Entity maps without a watermark column are mapped in full as additions.
+ * Rows committed late with a watermark below one already mapped are missed,
+ * so the watermark must be assigned when the row is committed.
+ * <p>
+ * If the source gives the SQL type of the watermark column in the layout of
+ * its entities, the watermark is kept with its type and compared as a value
+ * of that type; e.g. timestamps of differing fractional precision. The type
+ * is handed to the source with the watermark so that it can bind it as such.
+ */
+public class DeltaMapping {
+
+    private static final String WATERMARK_PREFIX = "watermark.";
+    private static final String TOMBSTONE_PREFIX = "tombstone.";
+    private static final String TYPE_PREFIX = "type.";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private final Path watermarkFile;
+    private final TripleSink additions;
+    private final TripleSink deletions;
+    private final InputSource tombstoneSource;
+    private final Map<String, String> watermarkColumns;
+    private final Properties watermarks = new Properties();
+    private final Map<String, Mark> reached = new HashMap<>();
+
+    /**
+     * Constructs a DeltaMapping with the specified Builder containing the
+     * watermark file, sinks and options to populate and initialise this
+     * instance.
+     *
+     * @param builder the delta mapping builder to build from
+     */
+    private DeltaMapping(Builder builder) {
+        watermarkFile = builder.watermarkFile;
+        additions = builder.additions;
+        deletions = builder.deletions;
+        tombstoneSource = builder.tombstoneSource;
+        watermarkColumns = Map.copyOf(builder.watermarkColumns);
+    }
+
+    /**
+     * Returns true if the given value is past the given watermark. Both are
+     * compared as values of the given SQL type if it is a number, date,
+     * time or timestamp type. Otherwise, or if either fails to parse as the
+     * type, both are compared as numbers if they are numbers; Otherwise they
+     * are compared as strings.
+     *
+     * @param value     the watermark column value of a row
+     * @param watermark the watermark to compare to
+     * @param type      the SQL type of the watermark column, otherwise null
+     * @return true if the value is greater than the watermark
+     */
+    static boolean isPast(String value, String watermark, JDBCType type) {
+        if (type != null) {
+            try {
+                switch (type) {
+                    case TINYINT, SMALLINT, INTEGER, BIGINT, REAL, FLOAT, DOUBLE, NUMERIC, DECIMAL -> {
+                        return new BigDecimal(value).compareTo(new BigDecimal(watermark)) > 0;
+                    }
+                    case DATE -> {
+                        return LocalDate.parse(value).isAfter(LocalDate.parse(watermark));
+                    }
+                    case TIME -> {
+                        return LocalTime.parse(value).isAfter(LocalTime.parse(watermark));
+                    }
+                    case TIMESTAMP -> {
+                        return Timestamp.valueOf(value).after(Timestamp.valueOf(watermark));
+                    }
+                    default -> {
+                    }
+                }
+            } catch (IllegalArgumentException | DateTimeException ex) {
+                //Fall back to comparing the values without their type.
+            }
+        }
+        BigDecimal number = parseNumber(value);
+        BigDecimal other = number == null ? null : parseNumber(watermark);
+        if (other != null) {
+            return number.compareTo(other) > 0;
+        }
+        return value.compareTo(watermark) > 0;
+    }
+
+    private static BigDecimal parseNumber(String value) {
+        int length = value.length();
+        if (length == 0) {
+            return null;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && c != '.' && !(i == 0 && c == '-')) {
+                return null;
+            }
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Loads the watermarks of the last successful mapping, if any.
+     */
+    synchronized void load() {
+        watermarks.clear();
+        reached.clear();
+        if (Files.notExists(watermarkFile)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(watermarkFile)) {
+            watermarks.load(reader);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read watermarks " + watermarkFile + ".", ex);
+        }
+    }
+
+    /**
+     * Returns the watermark column of the given entity map, or null if the
+     * entity map has none and is mapped in full.
+     *
+     * @param entityMap the entity map to get the watermark column of
+     * @return the watermark column of the entity map, otherwise null
+     */
+    String getWatermarkColumn(EntityMap entityMap) {
+        String column = watermarkColumns.get(entityMap.getIdName());
+        if (column != null) {
+            return column;
+        }
+        return entityMap.getSourceMap().getEntityReference().getProperty(EntityReference.WATERMARK_COLUMN);
+    }
+
+    /**
+     * Returns the scan of the rows of the given entity map past its
+     * watermark; Or of the rows deleted past its tombstone watermark, read
+     * from the tombstone source, if tombstones is true. The entity map must
+     * have a watermark column.
+     *
+     * @param entityMap  the entity map to scan
+     * @param tombstones true to scan the deleted rows of the tombstone source
+     * @return the scan of the rows past the watermark
+     */
+    synchronized Scan openScan(EntityMap entityMap, boolean tombstones) {
+        String column = Objects.requireNonNull(getWatermarkColumn(entityMap), "Watermark column must not be null.");
+        String key = (tombstones ? TOMBSTONE_PREFIX : WATERMARK_PREFIX) + entityMap.getIdName();
+        JDBCType type = parseType(watermarks.getProperty(TYPE_PREFIX + key));
+        return new Scan(key, column, watermarks.getProperty(key), type, tombstones ? tombstoneSource : null);
+    }
+
+    private static JDBCType parseType(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return JDBCType.valueOf(name);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the watermarks reached by the mapping to the watermark file,
+     * replacing it atomically. Called once the whole mapping succeeded.
+     */
+    synchronized void store() {
+        reached.forEach((key, mark) -> {
+            String previous = watermarks.getProperty(key);
+            if (previous == null || isPast(mark.value, previous, mark.type)) {
+                watermarks.setProperty(key, mark.value);
+                if (mark.type == null) {
+                    watermarks.remove(TYPE_PREFIX + key);
+                } else {
+                    watermarks.setProperty(TYPE_PREFIX + key, mark.type.name());
+                }
+            }
+        });
+        reached.clear();
+        Path temp = watermarkFile.resolveSibling(watermarkFile.getFileName() + TEMP_SUFFIX);
+        try {
+            Path parent = watermarkFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+                watermarks.store(out, "GraphLoom mapping watermarks");
+                out.getFD().sync();
+            }
+            Files.move(temp, watermarkFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write watermarks " + watermarkFile + ".", ex);
+        }
+    }
+
+    private synchronized void advance(String key, Mark mark) {
+        reached.merge(key, mark, (a, b) -> isPast(b.value, a.value, b.type) ? b : a);
+    }
+
+    /**
+     * Returns the watermark of the given entity map kept by the last
+     * successful mapping, or null if it was never mapped.
+     *
+     * @param idName the id name of the entity map
+     * @return the watermark of the entity map, otherwise null
+     */
+    public synchronized String getWatermark(String idName) {
+        return watermarks.getProperty(WATERMARK_PREFIX + idName);
+    }
+
+    /**
+     * Returns the watermark of the rows deleted of the given entity map
+     * kept by the last successful mapping, or null if none was read.
+     *
+     * @param idName the id name of the entity map
+     * @return the tombstone watermark of the entity map, otherwise null
+     */
+    public synchronized String getTombstoneWatermark(String idName) {
+        return watermarks.getProperty(TOMBSTONE_PREFIX + idName);
+    }
+
+    /**
+     * Returns the sink receiving the triples of the rows added or updated.
+     *
+     * @return the sink of the additions
+     */
+    public TripleSink getAdditions() {
+        return additions;
+    }
+
+    /**
+     * Returns the sink receiving the triples of the rows deleted, or null if
+     * no tombstone source is given.
+     *
+     * @return the sink of the deletions, otherwise null
+     */
+    public TripleSink getDeletions() {
+        return deletions;
+    }
+
+    /**
+     * Returns true if the rows deleted are read from a tombstone source.
+     *
+     * @return true if a tombstone source is given
+     */
+    public boolean hasTombstones() {
+        return tombstoneSource != null;
+    }
+
+    /**
+     * This class tracks the scan of an entity map past its watermark. The
+     * watermark is handed to the source with the entity reference, and the
+     * rows not past it are skipped as well for sources ignoring it. The
+     * highest watermark read is kept for the next mapping once the scan is
+     * done.
+     */
+    final class Scan implements ScanTracker {
+
+        private final String key;
+        private final String column;
+        private final String watermark;
+        private final JDBCType watermarkType;
+        private final InputSource tombstoneSource;
+        private String highest;
+        private JDBCType highestType;
+
+        private Scan(String key, String column, String watermark, JDBCType watermarkType,
+                     InputSource tombstoneSource) {
+            this.key = key;
+            this.column = column;
+            this.watermark = watermark;
+            this.watermarkType = watermarkType;
+            this.tombstoneSource = tombstoneSource;
+        }
+
+        @Override
+        public SourceMap track(SourceMap sourceMap, Runnable drain) {
+            return new DeltaSourceMap(sourceMap);
+        }
+
+        @Override
+        public void scanned() {
+            if (highest != null) {
+                advance(key, new Mark(highest, highestType));
+            }
+        }
+
+        /**
+         * Returns false as a source join would map every row of the source
+         * instead of only those past the watermark.
+         *
+         * @return false
+         */
+        @Override
+        public boolean allowsSourceJoin() {
+            return false;
+        }
+
+        /**
+         * Implementation of {@link SourceMap} interface that reads the rows
+         * past the watermark of the scan, from its tombstone source if set.
+         */
+        private class DeltaSourceMap implements SourceMap {
+
+            private final SourceMap sourceMap;
+            private final EntityReference entityReference;
+            private EntityLayout layout;
+            private int index;
+
+            private DeltaSourceMap(SourceMap sourceMap) {
+                this.sourceMap = sourceMap;
+                entityReference = new DeltaEntityReference(sourceMap.getEntityReference());
+            }
+
+            @Override
+            public EntityReference getEntityReference() {
+                return entityReference;
+            }
+
+            @Override
+            public String getUniqueId() {
+                return sourceMap.getUniqueId();
+            }
+
+            @Override
+            public void forEachEntity(InputSource inputSource, Consumer<Entity> action) {
+                InputSource source = tombstoneSource == null ? inputSource : tombstoneSource;
+                SourceMap.super.forEachEntity(source, (e) -> {
+                    String value = getWatermarkValue(e);
+                    JDBCType type = getWatermarkType(e);
+                    if (value == null ? watermark != null : watermark != null && !isPast(value, watermark, type)) {
+                        return;
+                    }
+                    if (value != null && (highest == null || isPast(value, highest, type))) {
+                        highest = value;
+                        highestType = type;
+                    }
+                    action.accept(e);
+                });
+            }
+
+            private String getWatermarkValue(Entity entity) {
+                EntityLayout entityLayout = entity.getLayout();
+                if (entityLayout == null) {
+                    return entity.getPropertyValue(column);
+                }
+                if (entityLayout != layout) {
+                    layout = entityLayout;
+                    index = entityLayout.indexOf(column);
+                }
+                return index < 0 ? null : entity.getPropertyValue(index);
+            }
+
+            /**
+             * Returns the SQL type of the watermark column given by the
+             * layout of the given entity, read last by getWatermarkValue;
+             * Otherwise the type kept with the watermark, if any.
+             *
+             * @param entity the entity to get the watermark type of
+             * @return the type of the watermark column, otherwise null
+             */
+            private JDBCType getWatermarkType(Entity entity) {
+                JDBCType type = entity.getLayout() == null || index < 0 ? null : layout.getType(index);
+                return type == null ? watermarkType : type;
+            }
+        }
+
+        /**
+         * Implementation of {@link EntityReference} interface that delegates
+         * to another reference with the watermark of the scan.
+         */
+        private class DeltaEntityReference implements EntityReference {
+
+            private final EntityReference entityReference;
+            private final Set<String> projectedColumns;
+
+            private DeltaEntityReference(EntityReference entityReference) {
+                this.entityReference = entityReference;
+                Set<String> columns = entityReference.listProjectedColumns();
+                if (columns.isEmpty() || columns.contains(column)) {
+                    projectedColumns = columns;
+                } else {
+                    Set<String> projection = new TreeSet<>(columns);
+                    projection.add(column);
+                    projectedColumns = Collections.unmodifiableSet(projection);
+                }
+            }
+
+            @Override
+            public PayloadType getPayloadType() {
+                return entityReference.getPayloadType();
+            }
+
+            @Override
+            public String getPayload() {
+                return entityReference.getPayload();
+            }
+
+            @Override
+            public String getIteratorDef() {
+                return entityReference.getIteratorDef();
+            }
+
+            @Override
+            public String getProperty(String propertyName) {
+                if (EntityReference.WATERMARK_COLUMN.equals(propertyName)) {
+                    return column;
+                } else if (EntityReference.WATERMARK.equals(propertyName)) {
+                    return watermark;
+                } else if (EntityReference.WATERMARK_TYPE.equals(propertyName)) {
+                    return watermark == null || watermarkType == null ? null : watermarkType.name();
+                }
+                return entityReference.getProperty(propertyName);
+            }
+
+            @Override
+            public Set<String> listProjectedColumns() {
+                return projectedColumns;
+            }
+        }
+    }
+
+    /**
+     * Immutable pair of a watermark reached by a scan and its SQL type.
+     */
+    private static class Mark {
+
+        private final String value;
+        private final JDBCType type;
+
+        private Mark(String value, JDBCType type) {
+            this.value = value;
+            this.type = type;
+        }
+    }
+
+    /**
+     * Builder class for DeltaMapping.
+     */
+    public static class Builder {
+
+        private final Path watermarkFile;
+        private final TripleSink additions;
+        private final Map<String, String> watermarkColumns = new HashMap<>();
+        private TripleSink deletions;
+        private InputSource tombstoneSource;
+
+        /**
+         * Constructs a Builder with the specified file to keep the watermarks
+         * in and sink to receive the triples of the rows added or updated.
+         *
+         * @param watermarkFile the file of the watermarks
+         * @param additions     the sink of the additions
+         */
+        public Builder(Path watermarkFile, TripleSink additions) {
+            this.watermarkFile = Objects.requireNonNull(watermarkFile, "Watermark file must not be null.");
+            this.additions = Objects.requireNonNull(additions, "Additions sink must not be null.");
+        }
+
+        /**
+         * Sets the watermark column of the entity map with the given id name,
+         * overriding any set on its entity reference.
+         *
+         * @param idName the id name of the entity map
+         * @param column the watermark column of the entity map
+         * @return this builder for fluent method chaining
+         */
+        public Builder watermark(String idName, String column) {
+            Objects.requireNonNull(idName, "Id name must not be null.");
+            Objects.requireNonNull(column, "Watermark column must not be null.");
+            if (column.isEmpty()) {
+                throw new IllegalArgumentException("Watermark column must not be empty.");
+            }
+            watermarkColumns.put(idName, column);
+            return this;
+        }
+
+        /**
+         * Sets the source to read the rows deleted from, with the entity
+         * references of the entity maps, and the sink to receive their
+         * triples. By default no deletions are mapped.
+         *
+         * @param tombstoneSource the source of the rows deleted
+         * @param deletions       the sink of the deletions
+         * @return this builder for fluent method chaining
+         */
+        public Builder tombstones(InputSource tombstoneSource, TripleSink deletions) {
+            this.tombstoneSource = Objects.requireNonNull(tombstoneSource, "Tombstone source must not be null.");
+            this.deletions = Objects.requireNonNull(deletions, "Deletions sink must not be null.");
+            return this;
+        }
+
+        /**
+         * Returns an instance of delta mapping containing the options given
+         * to its builder.
+         *
+         * @return instance of delta mapping created with the info in this builder
+         */
+        public DeltaMapping build() {
+            return new DeltaMapping(this);
+        }
+    }
+}
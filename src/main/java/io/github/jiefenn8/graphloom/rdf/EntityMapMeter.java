@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.*;
+import io.github.jiefenn8.graphloom.api.MappingMetrics.Phase;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * This class measures the mapping of a single entity map and hands the
+ * measurements over to a {@link MappingMetrics}. The terms and join of each
+ * entity are measured by whichever thread maps it; The rows and source time
+ * by the thread scanning the source, which also hands the measurements over
+ * every {@value #FLUSH_ROWS} rows and once the scan is done.
+ */
+class EntityMapMeter {
+
+    static final int FLUSH_ROWS = 1 << 16;
+    private final MappingMetrics metrics;
+    private final EntityMap entityMap;
+    private final String id;
+    private final LongAdder triples = new LongAdder();
+    private final LongAdder nulls = new LongAdder();
+    private final LongAdder termNanos = new LongAdder();
+    private final LongAdder joinNanos = new LongAdder();
+
+    /**
+     * Constructs an EntityMapMeter with the specified metrics to hand the
+     * measurements of the given entity map over to.
+     *
+     * @param metrics   the metrics to receive the measurements
+     * @param entityMap the entity map to measure
+     */
+    EntityMapMeter(MappingMetrics metrics, EntityMap entityMap) {
+        this.metrics = metrics;
+        this.entityMap = entityMap;
+        this.id = entityMap.getIdName();
+    }
+
+    /**
+     * Returns the source map scanning the given source map and measuring
+     * the rows read and the time spent reading them for every given meter.
+     *
+     * @param sourceMap the source map to scan
+     * @param meters    the meters of the entity maps sharing the scan
+     * @return the measured source map
+     */
+    static SourceMap meter(SourceMap sourceMap, List<EntityMapMeter> meters) {
+        return new MeteredSourceMap(sourceMap, meters);
+    }
+
+    /**
+     * Returns the function mapping an entity with the entity map of this
+     * meter, measuring the time spent and the triples and null terms of
+     * each entity.
+     *
+     * @param refNodeEmitter the emitter of the reference triples
+     * @return the measured function mapping an entity to a sink
+     */
+    BiConsumer<Entity, TripleSink> meter(RefNodeEmitter refNodeEmitter) {
+        int nodeMapPairs = entityMap.countNodeMapPairs();
+        return (e, out) -> {
+            long start = System.nanoTime();
+            Resource subject = entityMap.generateEntityTerm(e);
+            if (subject == null) {
+                termNanos.add(System.nanoTime() - start);
+                nulls.increment();
+                return;
+            }
+            CountingSink counter = new CountingSink(out);
+            entityMap.emitClassTerms(subject, counter);
+            long classTriples = counter.count;
+            entityMap.emitNodeTerms(subject, e, counter);
+            long nodeTriples = counter.count - classTriples;
+            long terms = System.nanoTime();
+            refNodeEmitter.emitRefNodeTerms(subject, e, counter);
+            joinNanos.add(System.nanoTime() - terms);
+            termNanos.add(terms - start);
+            triples.add(counter.count);
+            if (nodeTriples < nodeMapPairs) {
+                nulls.add(nodeMapPairs - nodeTriples);
+            }
+        };
+    }
+
+    /**
+     * Runs the given join work of the entity map with a sink counting the
+     * triples emitted, measuring the time spent.
+     *
+     * @param sink the sink to receive the triples of the join
+     * @param join the join work to run with the measured sink
+     */
+    void meterJoin(TripleSink sink, Consumer<TripleSink> join) {
+        CountingSink counter = new CountingSink(sink);
+        long start = System.nanoTime();
+        join.accept(counter);
+        joinNanos.add(System.nanoTime() - start);
+        triples.add(counter.count);
+    }
+
+    /**
+     * Adds the given time spent preparing the join of the entity map.
+     *
+     * @param nanos the nanoseconds spent
+     */
+    void addJoinTime(long nanos) {
+        joinNanos.add(nanos);
+    }
+
+    /**
+     * Hands the given source measurements, and the measurements taken since
+     * the last flush, over to the metrics.
+     *
+     * @param rows        the rows read since the last flush
+     * @param sourceNanos the nanoseconds spent reading them
+     */
+    void flush(long rows, long sourceNanos) {
+        metrics.recordRows(id, rows);
+        metrics.recordTriples(id, triples.sumThenReset());
+        metrics.recordNulls(id, nulls.sumThenReset());
+        metrics.recordTime(id, Phase.SOURCE, sourceNanos);
+        metrics.recordTime(id, Phase.TERMS, termNanos.sumThenReset());
+        metrics.recordTime(id, Phase.JOIN, joinNanos.sumThenReset());
+    }
+
+    /**
+     * Sink decorator counting the triples of a single entity or join.
+     */
+    private static class CountingSink implements TripleSink {
+
+        private final TripleSink sink;
+        private long count;
+
+        private CountingSink(TripleSink sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void triple(Resource subject, Property predicate, RDFNode object) {
+            sink.triple(subject, predicate, object);
+            count++;
+        }
+    }
+
+    /**
+     * Source map decorator measuring the time between the entities handed
+     * over by a scan; The time spent by the source reading each entity.
+     */
+    private static class MeteredSourceMap implements SourceMap {
+
+        private final SourceMap sourceMap;
+        private final List<EntityMapMeter> meters;
+        private long mark;
+        private long rows;
+        private long sourceNanos;
+
+        private MeteredSourceMap(SourceMap sourceMap, List<EntityMapMeter> meters) {
+            this.sourceMap = sourceMap;
+            this.meters = meters;
+        }
+
+        @Override
+        public EntityReference getEntityReference() {
+            return sourceMap.getEntityReference();
+        }
+
+        @Override
+        public String getUniqueId() {
+            return sourceMap.getUniqueId();
+        }
+
+        @Override
+        public void forEachEntity(InputSource inputSource, Consumer<Entity> action) {
+            mark = System.nanoTime();
+            sourceMap.forEachEntity(inputSource, (e) -> {
+                sourceNanos += System.nanoTime() - mark;
+                action.accept(e);
+                if (++rows == FLUSH_ROWS) {
+                    flush();
+                }
+                mark = System.nanoTime();
+            });
+            sourceNanos += System.nanoTime() - mark;
+            flush();
+        }
+
+        private void flush() {
+            meters.forEach((m) -> m.flush(rows, sourceNanos));
+            rows = 0;
+            sourceNanos = 0;
+        }
+    }
+}
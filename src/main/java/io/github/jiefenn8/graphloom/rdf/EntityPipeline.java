@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityLayout;
+import io.github.jiefenn8.graphloom.exceptions.MapperException;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.slf4j.MDC;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * This class defines the base methods of a pipeline that maps the entities
+ * of a source map on a pool of worker threads. The calling thread reads the
+ * entities in batches and hands each batch over to a worker, waiting for
+ * the oldest batch to complete whenever too many batches are in flight.
+ * <p>
+ * Entities that have a layout are copied before being handed over, so that
+ * the source is free to reuse its entity instances. Entities without a
+ * layout are handed over as they are and must remain valid after the
+ * source moves on to the next entity.
+ */
+class EntityPipeline implements AutoCloseable {
+
+    private static final int BUFFER_CAPACITY = 1024;
+    private final ExecutorService workers;
+    private final int batchSize;
+    private final int capacity;
+    private final boolean ordered;
+    private final ThreadLocal<Producer> running = new ThreadLocal<>();
+
+    /**
+     * Constructs an EntityPipeline with the specified number of workers, the
+     * number of entities per batch and whether the triples of each batch are
+     * handed to the sink in the order the entities were read.
+     *
+     * @param workers   the number of worker threads
+     * @param batchSize the number of entities per batch
+     * @param ordered   true to keep the order of the entities read
+     */
+    EntityPipeline(int workers, int batchSize, boolean ordered) {
+        AtomicInteger count = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workers, (r) -> {
+            Thread thread = new Thread(r, "graphloom-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = batchSize;
+        this.capacity = workers * 2;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Returns a copy of the given entity that stays valid after the source
+     * moves on, if the entity has a layout; Otherwise returns the entity.
+     *
+     * @param entity the entity to copy
+     * @return the copy of the entity, otherwise the given entity
+     */
+    static Entity snapshot(Entity entity) {
+        EntityLayout layout = entity.getLayout();
+        return layout == null ? entity : layout.copyOf(entity);
+    }
+
+    /**
+     * Maps each entity of the given source map with the given entity mapper
+     * on the workers of this pipeline and hands the generated triples to
+     * the given sink. Returns once every entity has been mapped. If the
+     * output is unordered, the sink is locked while each worker hands its
+     * triples over.
+     *
+     * @param sourceMap the source map of the entities to map
+     * @param source    the source to read the entities from
+     * @param mapper    the function mapping an entity to the given sink
+     * @param sink      the sink to receive all the generated triples
+     */
+    void run(SourceMap sourceMap, InputSource source, BiConsumer<Entity, TripleSink> mapper, TripleSink sink) {
+        Producer producer = new Producer(mapper, sink);
+        running.set(producer);
+        try {
+            sourceMap.forEachEntity(source, producer::add);
+            producer.drain();
+        } catch (RuntimeException ex) {
+            producer.pending.forEach((f) -> f.cancel(true));
+            throw ex;
+        } finally {
+            running.remove();
+        }
+    }
+
+    /**
+     * Hands the triples of every entity read so far by the run of the
+     * calling thread over to its sink, waiting for the batches still being
+     * mapped. Does nothing if the calling thread is not running a source
+     * map on this pipeline.
+     */
+    void drain() {
+        Producer producer = running.get();
+        if (producer != null) {
+            producer.drain();
+        }
+    }
+
+    /**
+     * Stops the workers of this pipeline once their current batches are
+     * complete.
+     */
+    @Override
+    public void close() {
+        workers.shutdown();
+    }
+
+    /**
+     * Reader of the entities of a single run that collects them into batches
+     * and keeps track of the batches in flight in the order they were read.
+     */
+    private class Producer {
+
+        private final Deque<Future<TripleBuffer>> pending = new ArrayDeque<>();
+        private final BiConsumer<Entity, TripleSink> mapper;
+        private final TripleSink sink;
+        private final Map<String, String> context = MDC.getCopyOfContextMap();
+        private Entity[] batch = new Entity[batchSize];
+        private int size;
+
+        private Producer(BiConsumer<Entity, TripleSink> mapper, TripleSink sink) {
+            this.mapper = mapper;
+            this.sink = sink;
+        }
+
+        private void add(Entity entity) {
+            batch[size++] = snapshot(entity);
+            if (size == batchSize) {
+                submit();
+            }
+        }
+
+        private void submit() {
+            if (size == 0) {
+                return;
+            }
+            if (pending.size() >= capacity) {
+                awaitOldest();
+            }
+            Entity[] entities = batch;
+            int length = size;
+            pending.add(workers.submit(() -> map(entities, length)));
+            batch = new Entity[batchSize];
+            size = 0;
+        }
+
+        private TripleBuffer map(Entity[] entities, int length) {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                if (ordered) {
+                    TripleBuffer buffer = new TripleBuffer();
+                    for (int i = 0; i < length; i++) {
+                        mapper.accept(entities[i], buffer);
+                    }
+                    return buffer;
+                }
+                BufferedTripleSink buffer = new BufferedTripleSink(sink, BUFFER_CAPACITY);
+                for (int i = 0; i < length; i++) {
+                    mapper.accept(entities[i], buffer);
+                }
+                buffer.flush();
+                return null;
+            } finally {
+                MDC.clear();
+            }
+        }
+
+        private void drain() {
+            submit();
+            while (!pending.isEmpty()) {
+                awaitOldest();
+            }
+        }
+
+        private void awaitOldest() {
+            try {
+                TripleBuffer buffer = pending.peek().get();
+                pending.poll();
+                if (buffer != null) {
+                    buffer.replay(sink);
+                }
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new MapperException("Failed to map entity batch.", ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new MapperException("Interrupted while waiting for entity batch.", ex);
+            }
+        }
+    }
+
+    /**
+     * Implementation of {@link TripleSink} interface that holds every triple
+     * of a batch until they are replayed to another sink.
+     */
+    private static class TripleBuffer implements TripleSink {
+
+        private final List<Resource> subjects = new ArrayList<>();
+        private final List<Property> predicates = new ArrayList<>();
+        private final List<RDFNode> objects = new ArrayList<>();
+
+        @Override
+        public void triple(Resource subject, Property predicate, RDFNode object) {
+            subjects.add(subject);
+            predicates.add(predicate);
+            objects.add(object);
+        }
+
+        private void replay(TripleSink sink) {
+            for (int i = 0; i < subjects.size(); i++) {
+                sink.triple(subjects.get(i), predicates.get(i), objects.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.MappingMetrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of {@link MappingMetrics} interface that keeps a running
+ * total of every measurement of each entity map in memory. The totals can
+ * be read while the mapping is running.
+ */
+public class InMemoryMappingMetrics implements MappingMetrics {
+
+    private final Map<String, EntityMapTotals> totals = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordRows(String entityMapId, long rows) {
+        getOrCreate(entityMapId).rows.add(rows);
+    }
+
+    @Override
+    public void recordTriples(String entityMapId, long triples) {
+        getOrCreate(entityMapId).triples.add(triples);
+    }
+
+    @Override
+    public void recordNulls(String entityMapId, long nulls) {
+        getOrCreate(entityMapId).nulls.add(nulls);
+    }
+
+    @Override
+    public void recordTime(String entityMapId, Phase phase, long nanos) {
+        getOrCreate(entityMapId).nanos.get(phase).add(nanos);
+    }
+
+    private EntityMapTotals getOrCreate(String entityMapId) {
+        return totals.computeIfAbsent(entityMapId, (k) -> new EntityMapTotals(k));
+    }
+
+    /**
+     * Returns the id names of the entity maps measured so far.
+     *
+     * @return the set of entity map id names
+     */
+    public Set<String> listEntityMapIds() {
+        return Collections.unmodifiableSet(totals.keySet());
+    }
+
+    /**
+     * Returns the running totals of the given entity map.
+     *
+     * @param entityMapId the id name of the entity map
+     * @return the totals of the entity map, otherwise null if not measured
+     */
+    public EntityMapTotals get(String entityMapId) {
+        return totals.get(entityMapId);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        totals.values().forEach((t) -> sb.append(t).append(System.lineSeparator()));
+        return sb.toString();
+    }
+
+    /**
+     * This class holds the running totals of the measurements of a single
+     * entity map.
+     */
+    public static class EntityMapTotals {
+
+        private final String entityMapId;
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder triples = new LongAdder();
+        private final LongAdder nulls = new LongAdder();
+        private final Map<Phase, LongAdder> nanos = new EnumMap<>(Phase.class);
+
+        private EntityMapTotals(String entityMapId) {
+            this.entityMapId = entityMapId;
+            for (Phase phase : Phase.values()) {
+                nanos.put(phase, new LongAdder());
+            }
+        }
+
+        /**
+         * Returns the number of entities read.
+         *
+         * @return the total entities read
+         */
+        public long getRows() {
+            return rows.sum();
+        }
+
+        /**
+         * Returns the number of triples emitted.
+         *
+         * @return the total triples emitted
+         */
+        public long getTriples() {
+            return triples.sum();
+        }
+
+        /**
+         * Returns the number of null terms skipped.
+         *
+         * @return the total null terms skipped
+         */
+        public long getNulls() {
+            return nulls.sum();
+        }
+
+        /**
+         * Returns the time spent in the given phase in the given unit.
+         *
+         * @param phase the phase to return the time of
+         * @param unit  the unit of the returned time
+         * @return the total time spent in the phase
+         */
+        public long getTime(Phase phase, TimeUnit unit) {
+            return unit.convert(nanos.get(phase).sum(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d rows, %d triples, %d nulls, source %d ms, terms %d ms, join %d ms",
+                    entityMapId, getRows(), getTriples(), getNulls(),
+                    getTime(Phase.SOURCE, TimeUnit.MILLISECONDS),
+                    getTime(Phase.TERMS, TimeUnit.MILLISECONDS),
+                    getTime(Phase.JOIN, TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import io.github.jiefenn8.graphloom.rdf.RDFMapper.Verbosity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * This class logs the progress of mapping the entity maps sharing a scan of
+ * the source; The rows read and triples generated so far, and their rates.
+ * Progress is logged once the given number of rows have been read or the
+ * given time has passed since the last report, whichever comes first, so a
+ * mapping of any size logs a bounded number of lines. The clock is only
+ * read every {@value #CLOCK_CHECK_ROWS} rows.
+ */
+class ProgressReporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RDFMapper.class);
+    private static final int CLOCK_CHECK_ROWS = 1024;
+    private final String id;
+    private final Verbosity verbosity;
+    private final long reportRows;
+    private final long reportNanos;
+    private final LongSupplier triples;
+    private long start;
+    private long lastReport;
+    private long rows;
+    private long nextReportRows;
+
+    /**
+     * Constructs a ProgressReporter with the specified id of the entity maps
+     * and thresholds to log the progress at.
+     *
+     * @param id          the id names of the entity maps sharing the scan
+     * @param verbosity   the verbosity of the progress logged
+     * @param reportRows  the number of rows read between reports
+     * @param reportNanos the nanoseconds passed between reports
+     * @param triples     the supplier of the number of triples generated
+     */
+    ProgressReporter(String id, Verbosity verbosity, long reportRows, long reportNanos, LongSupplier triples) {
+        this.id = id;
+        this.verbosity = Objects.requireNonNull(verbosity);
+        this.reportRows = reportRows;
+        this.reportNanos = reportNanos;
+        this.triples = triples;
+    }
+
+    /**
+     * Logs the start of mapping; The rates reported are measured from here.
+     */
+    void start() {
+        start = System.nanoTime();
+        lastReport = start;
+        nextReportRows = reportRows;
+        if (verbosity != Verbosity.NONE) {
+            LOGGER.info("Generating triples with '{}'.", id);
+        }
+    }
+
+    /**
+     * Returns the source map scanning the given source map and counting the
+     * rows read. If progress is not logged periodically, the given source
+     * map is returned as it is.
+     *
+     * @param sourceMap the source map to scan
+     * @return the source map reporting the progress of its scan
+     */
+    SourceMap track(SourceMap sourceMap) {
+        return verbosity == Verbosity.PROGRESS ? new ReportingSourceMap(sourceMap) : sourceMap;
+    }
+
+    /**
+     * Logs the rows read and triples generated in total and their rates.
+     */
+    void finish() {
+        if (verbosity == Verbosity.NONE) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        long total = triples.getAsLong();
+        if (verbosity == Verbosity.PROGRESS) {
+            LOGGER.info("Completed generating {} triples from {} rows for '{}' in {} ms ({} rows/s, {} triples/s).",
+                    total, rows, id, TimeUnit.NANOSECONDS.toMillis(nanos), rate(rows, nanos), rate(total, nanos));
+        } else {
+            LOGGER.info("Completed generating {} triples for '{}'.", total, id);
+        }
+    }
+
+    private void row() {
+        rows++;
+        if (rows >= nextReportRows) {
+            report(System.nanoTime());
+        } else if ((rows & (CLOCK_CHECK_ROWS - 1)) == 0) {
+            long now = System.nanoTime();
+            if (now - lastReport >= reportNanos) {
+                report(now);
+            }
+        }
+    }
+
+    private void report(long now) {
+        long nanos = now - start;
+        long total = triples.getAsLong();
+        LOGGER.info("Read {} rows and generated {} triples for '{}' ({} rows/s, {} triples/s).",
+                rows, total, id, rate(rows, nanos), rate(total, nanos));
+        lastReport = now;
+        nextReportRows = rows + reportRows;
+    }
+
+    private static long rate(long count, long nanos) {
+        return nanos <= 0 ? 0 : (long) (count * 1e9 / nanos);
+    }
+
+    /**
+     * Source map decorator counting every entity handed over by a scan.
+     */
+    private class ReportingSourceMap implements SourceMap {
+
+        private final SourceMap sourceMap;
+
+        private ReportingSourceMap(SourceMap sourceMap) {
+            this.sourceMap = sourceMap;
+        }
+
+        @Override
+        public EntityReference getEntityReference() {
+            return sourceMap.getEntityReference();
+        }
+
+        @Override
+        public String getUniqueId() {
+            return sourceMap.getUniqueId();
+        }
+
+        @Override
+        public void forEachEntity(InputSource inputSource, Consumer<Entity> action) {
+            sourceMap.forEachEntity(inputSource, (e) -> {
+                action.accept(e);
+                row();
+            });
+        }
+    }
+}
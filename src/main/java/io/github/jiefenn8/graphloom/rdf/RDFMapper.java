@@ -5,19 +5,22 @@
 
 package io.github.jiefenn8.graphloom.rdf;
 
-import io.github.jiefenn8.graphloom.api.ConfigMaps;
-import io.github.jiefenn8.graphloom.api.EntityMap;
-import io.github.jiefenn8.graphloom.api.GraphMapper;
-import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.*;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
 import io.github.jiefenn8.graphloom.exceptions.MapperException;
-import org.apache.jena.rdf.model.Model;
-import org.apache.jena.rdf.model.ModelFactory;
-import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
-import java.util.Set;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link GraphMapper} interface using Jena; and R2RML
@@ -26,6 +29,42 @@ import java.util.Set;
 public class RDFMapper implements GraphMapper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RDFMapper.class);
+    private static final int BUFFER_CAPACITY = 1024;
+    private final JoinStrategy joinStrategy;
+    private final Executor executor;
+    private final int entityWorkers;
+    private final int entityBatchSize;
+    private final boolean orderedOutput;
+    private final MappingMetrics metrics;
+    private final Verbosity verbosity;
+    private final long progressRows;
+    private final long progressIntervalNanos;
+
+    /**
+     * Constructs a RDFMapper with the default mapping options.
+     */
+    public RDFMapper() {
+        this(new Builder());
+    }
+
+    /**
+     * Constructs a RDFMapper with the specified Builder containing the
+     * mapping options to populate and initialise this immutable instance.
+     *
+     * @param builder the rdf mapper builder to build from
+     */
+    private RDFMapper(Builder builder) {
+        Objects.requireNonNull(builder);
+        joinStrategy = builder.joinStrategy;
+        executor = builder.executor;
+        entityWorkers = builder.entityWorkers;
+        entityBatchSize = builder.entityBatchSize;
+        orderedOutput = builder.orderedOutput;
+        metrics = builder.metrics;
+        verbosity = builder.verbosity;
+        progressRows = builder.progressRows;
+        progressIntervalNanos = builder.progressInterval.toNanos();
+    }
 
     /**
      * Main mapping function converting a data-source to a RDF graph model form
@@ -37,43 +76,587 @@ public class RDFMapper implements GraphMapper {
      */
     @Override
     public Model mapToGraph(InputSource inputSource, ConfigMaps configMaps) {
+        Model outputGraph = ModelFactory.createDefaultModel();
+        CountingSink counter = new CountingSink(new TripleSink() {
+            @Override
+            public void prefix(String prefix, String uri) {
+                outputGraph.setNsPrefix(prefix, uri);
+            }
+
+            @Override
+            public void triple(Resource subject, Property predicate, RDFNode object) {
+                outputGraph.add(subject, predicate, object);
+            }
+        });
+        mapToSink(inputSource, configMaps, counter);
+        if (verbosity != Verbosity.NONE) {
+            LOGGER.info("Finished mapping source to RDF model. Total of {} triples generated.", counter.count);
+        }
+        return outputGraph;
+    }
+
+    /**
+     * Main streaming mapping function converting a data-source to RDF triples
+     * from the provided DAO and mapping configurations. Each generated triple
+     * is handed to the sink once its entity has been mapped.
+     *
+     * @param inputSource DAO providing access to the entity to map
+     * @param configMaps  to control the mapping function process
+     * @param sink        the sink to receive the result from mapping
+     */
+    @Override
+    public void mapToSink(InputSource inputSource, ConfigMaps configMaps, TripleSink sink) {
         if (inputSource == null) throw new MapperException("Cannot retrieve source data from null input source.");
         if (configMaps == null) throw new MapperException("Cannot map source from null config maps.");
+        Objects.requireNonNull(sink, "Triple sink must not be null.");
 
-        LOGGER.info("Starting RDF mapping process.");
-        Model outputGraph = ModelFactory.createDefaultModel();
-        outputGraph.setNsPrefixes(configMaps.getNamespaceMap());
-        outputGraph.add(mapEntity(inputSource, configMaps.getEntityMaps()));
-        LOGGER.info("Finished mapping source to RDF model. Total of {} triples generated.", outputGraph.size());
-        return outputGraph;
+        if (verbosity != Verbosity.NONE) LOGGER.info("Starting RDF mapping process.");
+        sink.start();
+        configMaps.getNamespaceMap().forEach(sink::prefix);
+        EntityPipeline pipeline = entityWorkers == 0
+                ? null
+                : new EntityPipeline(entityWorkers, entityBatchSize, orderedOutput);
+        try {
+            mapEntity(inputSource, configMaps.getEntityMaps(), sink, pipeline);
+        } finally {
+            if (pipeline != null) pipeline.close();
+        }
+        sink.finish();
     }
 
     /**
-     * Returns a model containing RDF triples generated from mapping the given
-     * source using the provided set of mapping configs for each entity.
+     * Checkpointed mapping function converting a data-source to RDF triples
+     * written to the segments of the given output. The rows mapped by each
+     * entity map are recorded in the checkpoint of the output as the
+     * segments are completed. If the output resumes a checkpoint, entity
+     * maps already complete are skipped and the others continue after the
+     * rows recorded.
+     *
+     * @param inputSource DAO providing access to the entity to map
+     * @param configMaps  to control the mapping function process
+     * @param output      the segmented output to write the triples to
+     */
+    public void mapToSegments(InputSource inputSource, ConfigMaps configMaps, SegmentedOutput output) {
+        if (inputSource == null) throw new MapperException("Cannot retrieve source data from null input source.");
+        if (configMaps == null) throw new MapperException("Cannot map source from null config maps.");
+        Objects.requireNonNull(output, "Segmented output must not be null.");
+
+        if (verbosity != Verbosity.NONE) {
+            LOGGER.info("Starting RDF mapping process to segments in {}.", output.getDirectory());
+        }
+        output.open(configMaps.getNamespaceMap());
+        EntityPipeline pipeline = entityWorkers == 0
+                ? null
+                : new EntityPipeline(entityWorkers, entityBatchSize, orderedOutput);
+        try {
+            forEachGroup(groupBySourceMap(configMaps.getEntityMaps()), (g) -> mapTriplesMaps(g,
+                    (id) -> resumeTriplesMaps(g, id, inputSource, output.openScan(g), pipeline)));
+        } finally {
+            if (pipeline != null) pipeline.close();
+        }
+    }
+
+    /**
+     * Incremental mapping function converting the rows of a data-source
+     * changed since the last mapping to RDF triples. Only the rows past the
+     * watermark of each entity map are mapped, to the additions sink of the
+     * given delta; And if it has a tombstone source, the rows deleted past
+     * the watermark to its deletions sink. References are joined in memory
+     * regardless of the join strategy. The watermarks reached are kept once
+     * every entity map is mapped.
+     *
+     * @param inputSource DAO providing access to the entity to map
+     * @param configMaps  to control the mapping function process
+     * @param delta       the delta mapping holding the watermarks and sinks
+     */
+    public void mapDelta(InputSource inputSource, ConfigMaps configMaps, DeltaMapping delta) {
+        if (inputSource == null) throw new MapperException("Cannot retrieve source data from null input source.");
+        if (configMaps == null) throw new MapperException("Cannot map source from null config maps.");
+        Objects.requireNonNull(delta, "Delta mapping must not be null.");
+
+        if (verbosity != Verbosity.NONE) LOGGER.info("Starting RDF delta mapping process.");
+        delta.load();
+        List<TripleSink> sinks = delta.hasTombstones()
+                ? List.of(delta.getAdditions(), delta.getDeletions())
+                : List.of(delta.getAdditions());
+        for (TripleSink sink : sinks) {
+            sink.start();
+            configMaps.getNamespaceMap().forEach(sink::prefix);
+        }
+        EntityPipeline pipeline = entityWorkers == 0
+                ? null
+                : new EntityPipeline(entityWorkers, entityBatchSize, orderedOutput);
+        List<List<EntityMap>> groups = configMaps.getEntityMaps().stream()
+                .map(List::of)
+                .collect(Collectors.toList());
+        try {
+            forEachGroup(groups, (g) -> mapTriplesMaps(g, (id) -> {
+                EntityMap t = g.get(0);
+                boolean watermarked = delta.getWatermarkColumn(t) != null;
+                deltaTriplesMaps(g, id, inputSource, delta.getAdditions(),
+                        watermarked ? delta.openScan(t, false) : null, pipeline);
+                if (watermarked && delta.hasTombstones()) {
+                    deltaTriplesMaps(g, id, inputSource, delta.getDeletions(), delta.openScan(t, true), pipeline);
+                }
+            }));
+        } finally {
+            if (pipeline != null) pipeline.close();
+        }
+        sinks.forEach(TripleSink::finish);
+        delta.store();
+    }
+
+    /**
+     * Maps the rows of the given scan with the given mapping configs to the
+     * given sink, buffering the triples if an executor is set.
+     *
+     * @param group    the mapping configs to map the source with
+     * @param id       the id names of the mapping configs
+     * @param source   the source to map over to RDF triples
+     * @param sink     the sink to receive all the generated terms
+     * @param scan     the scan of the rows past the watermark, or null
+     * @param pipeline the pipeline to map the entities on, or null
+     */
+    private void deltaTriplesMaps(List<EntityMap> group, String id, InputSource source, TripleSink sink,
+                                  ScanTracker scan, EntityPipeline pipeline) {
+        if (executor == null) {
+            scanTriplesMaps(group, id, source, sink, scan, pipeline);
+            return;
+        }
+        BufferedTripleSink buffer = new BufferedTripleSink(sink, BUFFER_CAPACITY);
+        scanTriplesMaps(group, id, source, buffer, scan, pipeline);
+        buffer.flush();
+    }
+
+    /**
+     * Maps the given source using the provided set of mapping configs for
+     * each entity and hands the generated RDF triples to the given sink.
+     * Mapping configs with equal source maps are grouped and mapped from a
+     * single scan of the source. If an executor is set, each group is mapped
+     * as a separate task on the executor and the triples are handed to the
+     * sink in batches while holding its lock.
      *
      * @param source      the source to map over to RDF triples
      * @param triplesMaps the set of mapping configs
-     * @return the model containing all the generated terms
+     * @param sink        the sink to receive all the generated terms
+     * @param pipeline    the pipeline to map the entities on, or null
      */
-    private Model mapEntity(InputSource source, Set<EntityMap> triplesMaps) {
-        Model outputGraph = ModelFactory.createDefaultModel();
-        triplesMaps.forEach((t) -> {
-            String id = t.getIdName();
-            MDC.put("TRIPLESMAP_ID", id);
-            LOGGER.info("Generating triples with '{}'.", id);
-            t.getSourceMap().forEachEntity(source, (e) -> {
-                Resource subject = t.generateEntityTerm(e);
-                outputGraph.add(t.generateClassTerms(subject));
-                LOGGER.info("Class property triples generated.");
-                outputGraph.add(t.generateNodeTerms(subject, e));
-                LOGGER.info("Node terms generated for entity.");
-                outputGraph.add(t.generateRefNodeTerms(subject, source));
-                LOGGER.info("Reference node terms generated for entity.");
-            });
-            LOGGER.info("Completed generating {} triples for '{}'.", outputGraph.size(), id);
-            MDC.clear();
+    private void mapEntity(InputSource source, Set<EntityMap> triplesMaps, TripleSink sink, EntityPipeline pipeline) {
+        Collection<List<EntityMap>> groups = groupBySourceMap(triplesMaps);
+        if (executor == null) {
+            forEachGroup(groups, (g) -> mapTriplesMaps(g, (id) -> scanTriplesMaps(g, id, source, sink, null,
+                    pipeline)));
+            return;
+        }
+        forEachGroup(groups, (g) -> {
+            BufferedTripleSink buffer = new BufferedTripleSink(sink, BUFFER_CAPACITY);
+            mapTriplesMaps(g, (id) -> scanTriplesMaps(g, id, source, buffer, null, pipeline));
+            buffer.flush();
         });
-        return outputGraph;
+    }
+
+    /**
+     * Runs the given task with each of the given groups of mapping configs.
+     * If an executor is set, each group is run as a separate task on the
+     * executor; Returns once every task is done.
+     *
+     * @param groups the groups of mapping configs
+     * @param task   the task mapping a group of mapping configs
+     */
+    private void forEachGroup(Collection<List<EntityMap>> groups, Consumer<List<EntityMap>> task) {
+        if (executor == null) {
+            groups.forEach(task);
+            return;
+        }
+        CompletableFuture<?>[] tasks = groups.stream()
+                .map((g) -> CompletableFuture.runAsync(() -> task.accept(g), executor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new MapperException("Failed to map triples maps in parallel.", ex.getCause());
+        }
+    }
+
+    /**
+     * Returns the given mapping configs grouped by equal source maps, in
+     * order of first appearance.
+     *
+     * @param triplesMaps the set of mapping configs to group
+     * @return the groups of mapping configs sharing a source map
+     */
+    private Collection<List<EntityMap>> groupBySourceMap(Set<EntityMap> triplesMaps) {
+        Map<SourceMap, List<EntityMap>> groups = new LinkedHashMap<>();
+        triplesMaps.forEach((t) -> groups.computeIfAbsent(t.getSourceMap(), (k) -> new ArrayList<>()).add(t));
+        return groups.values();
+    }
+
+    /**
+     * Runs the given task mapping the given mapping configs with their id
+     * names. The id names are put in the MDC once for the whole task.
+     *
+     * @param group the mapping configs to map
+     * @param task  the task mapping the configs, given their id names
+     */
+    private void mapTriplesMaps(List<EntityMap> group, Consumer<String> task) {
+        String id = group.stream().map(EntityMap::getIdName).collect(Collectors.joining("', '"));
+        MDC.put("TRIPLESMAP_ID", id);
+        try {
+            task.accept(id);
+        } finally {
+            MDC.remove("TRIPLESMAP_ID");
+        }
+    }
+
+    /**
+     * Maps the given source with the given mapping configs to the segments
+     * of the given scan, starting after the rows of its last checkpoint.
+     * Nothing is mapped if the scan was completed before. The segment being
+     * written is discarded if the mapping fails.
+     *
+     * @param group    the mapping configs to map the source with
+     * @param id       the id names of the mapping configs
+     * @param source   the source to map over to RDF triples
+     * @param scan     the checkpointed scan to write the triples to
+     * @param pipeline the pipeline to map the entities on, or null
+     */
+    private void resumeTriplesMaps(List<EntityMap> group, String id, InputSource source, SegmentedOutput.Scan scan,
+                                   EntityPipeline pipeline) {
+        if (scan.isComplete()) {
+            if (verbosity != Verbosity.NONE) LOGGER.info("Skipping '{}' as it is already mapped.", id);
+            return;
+        }
+        if (scan.getOffset() > 0 && verbosity != Verbosity.NONE) {
+            LOGGER.info("Resuming '{}' after row {}.", id, scan.getOffset());
+        }
+        try {
+            scanTriplesMaps(group, id, source, scan, scan, pipeline);
+            scan.complete();
+        } catch (RuntimeException ex) {
+            scan.abort();
+            throw ex;
+        }
+    }
+
+    /**
+     * Maps the given source with the given mapping configs sharing an
+     * equal source map and hands the generated RDF triples to the given
+     * sink, reporting the progress of the scan under the given id. The
+     * source map is scanned once and each entity is mapped with every
+     * mapping config. If a pipeline is given, the entities are mapped on its
+     * workers instead of the calling thread. If metrics are set, each
+     * mapping config is measured separately. If a tracker is given, the
+     * rows of the scan are read through it.
+     *
+     * @param group    the mapping configs to map the source with
+     * @param id       the id names of the mapping configs
+     * @param source   the source to map over to RDF triples
+     * @param sink     the sink to receive all the generated terms
+     * @param tracker  the tracker of the rows of the scan, or null
+     * @param pipeline the pipeline to map the entities on, or null
+     */
+    private void scanTriplesMaps(List<EntityMap> group, String id, InputSource source, TripleSink sink,
+                                 ScanTracker tracker, EntityPipeline pipeline) {
+        boolean sourceJoin = joinStrategy == JoinStrategy.SOURCE_JOIN
+                && (tracker == null || tracker.allowsSourceJoin());
+        CountingSink counter = new CountingSink(sink);
+        ProgressReporter reporter = new ProgressReporter(id, verbosity, progressRows, progressIntervalNanos,
+                () -> counter.count);
+        reporter.start();
+        List<EntityMapMeter> meters = new ArrayList<>(group.size());
+        List<BiConsumer<Entity, TripleSink>> entityMappers = new ArrayList<>(group.size());
+        for (EntityMap t : group) {
+            EntityMapMeter meter = metrics == MappingMetrics.NONE ? null : new EntityMapMeter(metrics, t);
+            entityMappers.add(prepareEntityMapper(t, source, meter, sourceJoin));
+            if (meter != null) meters.add(meter);
+        }
+        BiConsumer<Entity, TripleSink> entityMapper = entityMappers.size() == 1
+                ? entityMappers.get(0)
+                : (e, out) -> entityMappers.forEach((m) -> m.accept(e, out));
+        SourceMap sourceMap = SharedSourceMap.of(group);
+        if (tracker != null) {
+            sourceMap = tracker.track(sourceMap, () -> {
+                if (pipeline != null) pipeline.drain();
+            });
+        }
+        if (!meters.isEmpty()) {
+            sourceMap = EntityMapMeter.meter(sourceMap, meters);
+        }
+        sourceMap = reporter.track(sourceMap);
+        if (pipeline == null) {
+            sourceMap.forEachEntity(source, (e) -> entityMapper.accept(e, counter));
+        } else {
+            pipeline.run(sourceMap, source, entityMapper, counter);
+        }
+        if (tracker != null) {
+            tracker.scanned();
+        }
+        if (sourceJoin) {
+            for (int i = 0; i < group.size(); i++) {
+                EntityMap t = group.get(i);
+                if (meters.isEmpty()) {
+                    t.emitJointRefNodeTerms(source, counter);
+                } else {
+                    meters.get(i).meterJoin(counter, (out) -> t.emitJointRefNodeTerms(source, out));
+                }
+            }
+        }
+        meters.forEach((m) -> m.flush(0, 0));
+        reporter.finish();
+    }
+
+    /**
+     * Returns the function mapping an entity with the given mapping config
+     * to the triples of its subject, classes, nodes and references.
+     *
+     * @param t          the mapping config to map each entity with
+     * @param source     the source to prepare any join with
+     * @param meter      the meter of the mapping config, or null
+     * @param sourceJoin true if the references are joined by the source
+     * @return the function mapping an entity to a sink
+     */
+    private BiConsumer<Entity, TripleSink> prepareEntityMapper(EntityMap t, InputSource source,
+                                                               EntityMapMeter meter, boolean sourceJoin) {
+        if (meter != null) {
+            long start = System.nanoTime();
+            RefNodeEmitter refNodeEmitter = prepareRefNodeEmitter(t, source, sourceJoin);
+            meter.addJoinTime(System.nanoTime() - start);
+            return meter.meter(refNodeEmitter);
+        }
+        RefNodeEmitter refNodeEmitter = prepareRefNodeEmitter(t, source, sourceJoin);
+        return (e, out) -> {
+            Resource subject = t.generateEntityTerm(e);
+            if (subject == null) {
+                return;
+            }
+            t.emitClassTerms(subject, out);
+            t.emitNodeTerms(subject, e, out);
+            refNodeEmitter.emitRefNodeTerms(subject, e, out);
+        };
+    }
+
+    /**
+     * Returns the emitter of the reference triples of each entity of the
+     * given entity map. When the joins are left to the source, the returned
+     * emitter does nothing as the reference triples are emitted separately.
+     *
+     * @param entityMap  the entity map to prepare the emitter of
+     * @param source     the source to prepare any join with
+     * @param sourceJoin true if the references are joined by the source
+     * @return the emitter of reference triples for each entity
+     */
+    private RefNodeEmitter prepareRefNodeEmitter(EntityMap entityMap, InputSource source, boolean sourceJoin) {
+        if (sourceJoin) {
+            return (term, entity, sink) -> {
+            };
+        }
+        return entityMap.prepareRefNodeTerms(source);
+    }
+
+    /**
+     * Sink decorator counting the triples passed through to the wrapped sink.
+     */
+    private static class CountingSink implements TripleSink {
+
+        private final TripleSink sink;
+        private long count;
+
+        private CountingSink(TripleSink sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void triple(Resource subject, Property predicate, RDFNode object) {
+            sink.triple(subject, predicate, object);
+            count++;
+        }
+    }
+
+    /**
+     * ENUM to manage how entities that reference to entities of another
+     * entity map are joined.
+     * <p>
+     * HASH_JOIN : The referenced entity map source is read once into memory
+     * and joined with each entity as it is mapped.
+     * SOURCE_JOIN : The source executes one joint query per reference after
+     * the entities of a map are mapped.
+     */
+    public enum JoinStrategy {
+        HASH_JOIN, SOURCE_JOIN
+    }
+
+    /**
+     * ENUM to manage how much of the mapping progress is logged.
+     * <p>
+     * NONE : Nothing is logged at info level.
+     * SUMMARY : The start and the triples generated of each group of entity
+     * maps sharing a scan are logged.
+     * PROGRESS : In addition to the summary, the rows read, triples generated
+     * and their rates are logged periodically while each scan is running.
+     */
+    public enum Verbosity {
+        NONE, SUMMARY, PROGRESS
+    }
+
+    /**
+     * Builder class for RDFMapper.
+     */
+    public static class Builder {
+
+        private JoinStrategy joinStrategy = JoinStrategy.HASH_JOIN;
+        private Executor executor;
+        private int entityWorkers;
+        private int entityBatchSize = 256;
+        private boolean orderedOutput = true;
+        private MappingMetrics metrics = MappingMetrics.NONE;
+        private Verbosity verbosity = Verbosity.PROGRESS;
+        private long progressRows = 1_000_000;
+        private Duration progressInterval = Duration.ofSeconds(30);
+
+        /**
+         * Sets how entities referencing to entities of another entity map are
+         * joined. Defaults to {@link JoinStrategy#HASH_JOIN}.
+         *
+         * @param joinStrategy the join strategy to use
+         * @return this builder for fluent method chaining
+         */
+        public Builder joinStrategy(JoinStrategy joinStrategy) {
+            this.joinStrategy = Objects.requireNonNull(joinStrategy, "Join strategy must not be null.");
+            return this;
+        }
+
+        /**
+         * Sets the executor to map each entity map on concurrently; e.g. a
+         * {@link java.util.concurrent.ForkJoinPool} or a virtual thread per
+         * task executor. Every entity map is read from the same input source,
+         * which must then be thread-safe; i.e. execute queries from many
+         * threads at once. By default, or if null is given, the entity maps
+         * are mapped one after another on the calling thread.
+         *
+         * @param executor the executor to map entity maps on
+         * @return this builder for fluent method chaining
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the number of worker threads to map the entities of each
+         * entity map on. The entities are read in batches on the thread
+         * mapping the entity map and each batch is mapped by a worker;
+         * Entities without a layout must then remain valid after the source
+         * moves on to the next entity. By default, or if 0 is given, the
+         * entities are mapped on the thread reading them.
+         *
+         * @param entityWorkers the number of worker threads, or 0
+         * @return this builder for fluent method chaining
+         */
+        public Builder entityWorkers(int entityWorkers) {
+            if (entityWorkers < 0) {
+                throw new IllegalArgumentException("Entity workers must not be negative.");
+            }
+            this.entityWorkers = entityWorkers;
+            return this;
+        }
+
+        /**
+         * Sets the number of entities read into each batch that is handed to
+         * an entity worker. Defaults to 256.
+         *
+         * @param entityBatchSize the number of entities per batch
+         * @return this builder for fluent method chaining
+         */
+        public Builder entityBatchSize(int entityBatchSize) {
+            if (entityBatchSize < 1) {
+                throw new IllegalArgumentException("Entity batch size must be positive.");
+            }
+            this.entityBatchSize = entityBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets whether the triples mapped by the entity workers are handed
+         * to the sink in the order their entities were read. Unordered
+         * output lets each worker hand its triples over as soon as its batch
+         * is mapped. Defaults to true.
+         *
+         * @param orderedOutput true to keep the order of the entities read
+         * @return this builder for fluent method chaining
+         */
+        public Builder orderedOutput(boolean orderedOutput) {
+            this.orderedOutput = orderedOutput;
+            return this;
+        }
+
+        /**
+         * Sets the metrics to hand the rows read, triples emitted, null
+         * terms skipped and time spent of each entity map over to. Defaults
+         * to {@link MappingMetrics#NONE}, which measures nothing.
+         *
+         * @param metrics the metrics to receive the measurements
+         * @return this builder for fluent method chaining
+         */
+        public Builder metrics(MappingMetrics metrics) {
+            this.metrics = Objects.requireNonNull(metrics, "Metrics must not be null.");
+            return this;
+        }
+
+        /**
+         * Sets how much of the mapping progress is logged. Defaults to
+         * {@link Verbosity#PROGRESS}.
+         *
+         * @param verbosity the verbosity of the progress logged
+         * @return this builder for fluent method chaining
+         */
+        public Builder verbosity(Verbosity verbosity) {
+            this.verbosity = Objects.requireNonNull(verbosity, "Verbosity must not be null.");
+            return this;
+        }
+
+        /**
+         * Sets the number of rows read between each progress report of a
+         * scan. Defaults to 1000000.
+         *
+         * @param progressRows the number of rows between reports
+         * @return this builder for fluent method chaining
+         */
+        public Builder progressRows(long progressRows) {
+            if (progressRows < 1) {
+                throw new IllegalArgumentException("Progress rows must be positive.");
+            }
+            this.progressRows = progressRows;
+            return this;
+        }
+
+        /**
+         * Sets the time passed between each progress report of a scan, for
+         * scans reading rows slower than the progress rows per interval.
+         * Defaults to 30 seconds.
+         *
+         * @param progressInterval the time between reports
+         * @return this builder for fluent method chaining
+         */
+        public Builder progressInterval(Duration progressInterval) {
+            Objects.requireNonNull(progressInterval, "Progress interval must not be null.");
+            if (progressInterval.isNegative() || progressInterval.isZero()) {
+                throw new IllegalArgumentException("Progress interval must be positive.");
+            }
+            this.progressInterval = progressInterval;
+            return this;
+        }
+
+        /**
+         * Returns an immutable instance of rdf mapper containing the options
+         * given to its builder.
+         *
+         * @return instance of rdf mapper created with the info in this builder
+         */
+        public RDFMapper build() {
+            return new RDFMapper(this);
+        }
     }
 }
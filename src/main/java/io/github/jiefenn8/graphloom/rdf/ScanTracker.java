@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.SourceMap;
+
+/**
+ * This interface defines the base methods of a tracker of the rows read by
+ * the scan of the entity maps sharing a source map; e.g. to checkpoint the
+ * scan, or to read only the rows changed since the last mapping.
+ */
+interface ScanTracker {
+
+    /**
+     * Returns the given source map wrapped to track the rows of the scan.
+     * The given drain hands the triples of every row read so far over to
+     * the sink of the scan when run on the thread reading the rows.
+     *
+     * @param sourceMap the source map to scan
+     * @param drain     the action handing over the pending triples
+     * @return the source map tracking the scan
+     */
+    SourceMap track(SourceMap sourceMap, Runnable drain);
+
+    /**
+     * Called once every row of the scan has been read and mapped, before
+     * any source join of the entity maps.
+     */
+    default void scanned() {
+    }
+
+    /**
+     * Returns true if the references of the entity maps may be joined by
+     * the source after the scan. Otherwise the references are joined in
+     * memory with each row read, regardless of the join strategy.
+     *
+     * @return true if the source may join the references
+     */
+    default boolean allowsSourceJoin() {
+        return true;
+    }
+}
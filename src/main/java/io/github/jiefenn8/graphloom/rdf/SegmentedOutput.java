@@ -0,0 +1,523 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import io.github.jiefenn8.graphloom.exceptions.MapperException;
+import io.github.jiefenn8.graphloom.rdf.sink.NTriplesSink;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class manages the output of a long-running mapping written to a
+ * directory as numbered segment files, with a checkpoint of the rows mapped
+ * by each entity map. A mapping that failed can then be resumed; Entity maps
+ * already complete are skipped and the others continue after the rows of
+ * their last checkpoint.
+ * <p>
+ * Each segment is a complete file of its own, written under a temporary name
+ * and renamed once it is synced and recorded in the checkpoint. The
+ * checkpoint file is replaced atomically; Any segment file not recorded in
+ * it, such as one being written when the mapping failed, is deleted when the
+ * mapping is resumed. The segments listed by {@link #listSegments()} hold
+ * every triple exactly once.
+ * <p>
+ * Resuming skips the rows already mapped by reading past them, so the
+ * source must return the rows of each entity map in the same order every
+ * time; e.g. a logical table of a query ordered by its key.
+ */
+public class SegmentedOutput {
+
+    static final String CHECKPOINT_FILE = "checkpoint.properties";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String SEGMENTS_KEY = "segments";
+    private static final String NEXT_SEGMENT_KEY = "next.segment";
+    private static final String ROWS_PREFIX = "rows.";
+    private static final String COMPLETE_PREFIX = "complete.";
+    private static final int CLOCK_CHECK_ROWS = 1024;
+    private final Path directory;
+    private final String suffix;
+    private final SinkFactory sinkFactory;
+    private final long checkpointRows;
+    private final long checkpointIntervalNanos;
+    private final boolean resume;
+    private final Pattern segmentPattern;
+    private final Properties checkpoint = new Properties();
+    private final List<String> segments = new ArrayList<>();
+    private Map<String, String> namespaces = Map.of();
+    private long nextSegment;
+
+    /**
+     * Constructs a SegmentedOutput with the specified Builder containing the
+     * directory and options to populate and initialise this instance.
+     *
+     * @param builder the segmented output builder to build from
+     */
+    private SegmentedOutput(Builder builder) {
+        directory = builder.directory;
+        suffix = builder.suffix;
+        sinkFactory = builder.sinkFactory;
+        checkpointRows = builder.checkpointRows;
+        checkpointIntervalNanos = builder.checkpointInterval.toNanos();
+        resume = builder.resume;
+        segmentPattern = Pattern.compile("segment-\\d+" + Pattern.quote(suffix) + "(" + TEMP_SUFFIX + ")?");
+    }
+
+    /**
+     * Prepares the directory for a mapping with the given namespaces, which
+     * are written at the start of every segment. When resuming, the
+     * checkpoint is loaded and any segment missing its rename is completed.
+     * Every segment file not recorded in the checkpoint is deleted.
+     *
+     * @param namespaces the prefixes and namespaces of the mapping
+     * @throws MapperException if a checkpoint exists and this output does
+     *                         not resume it
+     */
+    synchronized void open(Map<String, String> namespaces) {
+        this.namespaces = Map.copyOf(namespaces);
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        try {
+            Files.createDirectories(directory);
+            if (Files.exists(file)) {
+                if (!resume) {
+                    throw new MapperException("Checkpoint " + file + " exists. Resume it or use another directory.");
+                }
+                loadCheckpoint(file);
+            }
+            for (String name : segments) {
+                Path segment = directory.resolve(name);
+                Path temp = directory.resolve(name + TEMP_SUFFIX);
+                if (Files.notExists(segment) && Files.exists(temp)) {
+                    Files.move(temp, segment, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path f : files.collect(Collectors.toList())) {
+                    String name = f.getFileName().toString();
+                    if (segmentPattern.matcher(name).matches() && !segments.contains(name)) {
+                        Files.delete(f);
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open segmented output in " + directory + ".", ex);
+        }
+    }
+
+    private void loadCheckpoint(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file)) {
+            checkpoint.load(reader);
+        }
+        String names = checkpoint.getProperty(SEGMENTS_KEY, "");
+        if (!names.isEmpty()) {
+            segments.addAll(Arrays.asList(names.split(",")));
+        }
+        try {
+            nextSegment = Long.parseLong(checkpoint.getProperty(NEXT_SEGMENT_KEY, "0"));
+        } catch (NumberFormatException ex) {
+            throw new MapperException("Checkpoint " + file + " has an invalid segment number.", ex);
+        }
+    }
+
+    /**
+     * Returns the scan of the given entity maps sharing a source map,
+     * starting after the rows recorded in the checkpoint. If the entity maps
+     * do not agree on the rows mapped, the scan starts after the fewest.
+     *
+     * @param group the entity maps sharing the scan
+     * @return the scan writing the triples of the entity maps to segments
+     */
+    synchronized Scan openScan(List<EntityMap> group) {
+        List<String> ids = group.stream().map(EntityMap::getIdName).collect(Collectors.toList());
+        long offset = Long.MAX_VALUE;
+        boolean complete = true;
+        for (String id : ids) {
+            offset = Math.min(offset, Long.parseLong(checkpoint.getProperty(ROWS_PREFIX + id, "0")));
+            complete &= Boolean.parseBoolean(checkpoint.getProperty(COMPLETE_PREFIX + id));
+        }
+        return new Scan(ids, offset, complete);
+    }
+
+    /**
+     * Records the rows mapped by the given entity maps and the segment
+     * holding their triples since the last checkpoint, then renames the
+     * segment to its final name. A segment is recorded before it is renamed
+     * so that it is never left out of the checkpoint once visible.
+     *
+     * @param ids      the id names of the entity maps
+     * @param rows     the number of rows mapped from the start of the scan
+     * @param complete true if the entity maps are completely mapped
+     * @param segment  the name of the segment written, or null
+     */
+    private synchronized void commit(List<String> ids, long rows, boolean complete, String segment) {
+        if (segment != null) {
+            segments.add(segment);
+        }
+        for (String id : ids) {
+            checkpoint.setProperty(ROWS_PREFIX + id, String.valueOf(rows));
+            checkpoint.setProperty(COMPLETE_PREFIX + id, String.valueOf(complete));
+        }
+        checkpoint.setProperty(SEGMENTS_KEY, String.join(",", segments));
+        checkpoint.setProperty(NEXT_SEGMENT_KEY, String.valueOf(nextSegment));
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        Path temp = directory.resolve(CHECKPOINT_FILE + TEMP_SUFFIX);
+        try {
+            try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+                checkpoint.store(out, "GraphLoom mapping checkpoint");
+                out.getFD().sync();
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            if (segment != null) {
+                Files.move(directory.resolve(segment + TEMP_SUFFIX), directory.resolve(segment),
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write checkpoint " + file + ".", ex);
+        }
+    }
+
+    private synchronized String nextSegmentName() {
+        return String.format("segment-%06d%s", nextSegment++, suffix);
+    }
+
+    /**
+     * Returns the segment files holding the triples mapped so far, in the
+     * order they were completed.
+     *
+     * @return the list of completed segment files
+     */
+    public synchronized List<Path> listSegments() {
+        return segments.stream().map(directory::resolve).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the directory of the segment files and checkpoint.
+     *
+     * @return the directory of this output
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * This interface defines the base method to open the sink writing the
+     * triples of a segment to its file; e.g. {@link NTriplesSink}. The sink
+     * is closed after it finishes if it is {@link AutoCloseable}.
+     */
+    @FunctionalInterface
+    public interface SinkFactory {
+
+        /**
+         * Returns a new sink writing to the given file.
+         *
+         * @param file the file of the segment to write to
+         * @return the sink writing to the file
+         */
+        TripleSink open(Path file);
+    }
+
+    /**
+     * This class writes the triples of the entity maps sharing a scan to
+     * segments and records their checkpoints. A segment is opened on the
+     * first triple after each checkpoint; A checkpoint without triples only
+     * records the rows.
+     */
+    final class Scan implements TripleSink, ScanTracker {
+
+        private final List<String> ids;
+        private final long offset;
+        private final boolean complete;
+        private TripleSink segment;
+        private String segmentName;
+        private long rows;
+
+        private Scan(List<String> ids, long offset, boolean complete) {
+            this.ids = ids;
+            this.offset = offset;
+            this.complete = complete;
+        }
+
+        /**
+         * Returns the number of rows mapped before this scan started.
+         *
+         * @return the rows recorded in the checkpoint
+         */
+        long getOffset() {
+            return offset;
+        }
+
+        /**
+         * Returns true if the entity maps of this scan were completely
+         * mapped before.
+         *
+         * @return true if nothing is left to map
+         */
+        boolean isComplete() {
+            return complete;
+        }
+
+        /**
+         * Returns the given source map skipping the rows already mapped and
+         * checkpointing every checkpoint rows or interval. The given drain
+         * is run before each checkpoint to hand the triples of every row
+         * read so far over to this scan.
+         *
+         * @param sourceMap the source map to scan
+         * @param drain     the action handing over the pending triples
+         * @return the source map checkpointing this scan
+         */
+        @Override
+        public SourceMap track(SourceMap sourceMap, Runnable drain) {
+            return new CheckpointSourceMap(sourceMap, drain);
+        }
+
+        @Override
+        public void triple(Resource subject, Property predicate, RDFNode object) {
+            if (segment == null) {
+                openSegment();
+            }
+            segment.triple(subject, predicate, object);
+        }
+
+        /**
+         * Completes the current segment, if any, and records the given rows
+         * as mapped.
+         *
+         * @param rows the number of rows mapped from the start of the scan
+         */
+        void checkpoint(long rows) {
+            this.rows = rows;
+            commit(ids, rows, false, closeSegment());
+        }
+
+        /**
+         * Completes the current segment, if any, and records every row read
+         * by the scan as mapped.
+         */
+        @Override
+        public void scanned() {
+            checkpoint(rows);
+        }
+
+        /**
+         * Completes the current segment, if any, and records the entity maps
+         * of this scan as completely mapped.
+         */
+        void complete() {
+            commit(ids, rows, true, closeSegment());
+        }
+
+        /**
+         * Closes the current segment without recording it, leaving it to be
+         * deleted when the mapping is resumed.
+         */
+        void abort() {
+            if (segment instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) segment).close();
+                } catch (Exception ignored) {
+                    // The segment is discarded; The failure that aborted the scan is reported instead.
+                }
+            }
+            segment = null;
+        }
+
+        private void openSegment() {
+            segmentName = nextSegmentName();
+            segment = sinkFactory.open(directory.resolve(segmentName + TEMP_SUFFIX));
+            segment.start();
+            namespaces.forEach(segment::prefix);
+        }
+
+        private String closeSegment() {
+            if (segment == null) {
+                return null;
+            }
+            Path file = directory.resolve(segmentName + TEMP_SUFFIX);
+            segment.finish();
+            try {
+                if (segment instanceof AutoCloseable) {
+                    ((AutoCloseable) segment).close();
+                }
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            } catch (Exception ex) {
+                throw new MapperException("Failed to complete segment " + file + ".", ex);
+            } finally {
+                segment = null;
+            }
+            return segmentName;
+        }
+
+        /**
+         * Implementation of {@link SourceMap} interface that skips the rows
+         * already mapped and checkpoints the scan before the next row once
+         * enough rows or time has passed.
+         */
+        private class CheckpointSourceMap implements SourceMap {
+
+            private final SourceMap sourceMap;
+            private final Runnable drain;
+            private long read;
+            private long lastRows;
+            private long lastNanos;
+
+            private CheckpointSourceMap(SourceMap sourceMap, Runnable drain) {
+                this.sourceMap = sourceMap;
+                this.drain = drain;
+            }
+
+            @Override
+            public EntityReference getEntityReference() {
+                return sourceMap.getEntityReference();
+            }
+
+            @Override
+            public String getUniqueId() {
+                return sourceMap.getUniqueId();
+            }
+
+            @Override
+            public void forEachEntity(InputSource inputSource, Consumer<Entity> action) {
+                read = 0;
+                lastRows = offset;
+                lastNanos = System.nanoTime();
+                sourceMap.forEachEntity(inputSource, (e) -> {
+                    long row = read++;
+                    if (row < offset) {
+                        return;
+                    }
+                    if (isDue(row)) {
+                        drain.run();
+                        checkpoint(row);
+                        lastRows = row;
+                        lastNanos = System.nanoTime();
+                    }
+                    action.accept(e);
+                });
+                rows = Math.max(offset, read);
+            }
+
+            private boolean isDue(long row) {
+                if (row - lastRows >= checkpointRows) {
+                    return true;
+                }
+                return row % CLOCK_CHECK_ROWS == 0 && row > lastRows
+                        && System.nanoTime() - lastNanos >= checkpointIntervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Builder class for SegmentedOutput.
+     */
+    public static class Builder {
+
+        private final Path directory;
+        private String suffix = ".nt";
+        private SinkFactory sinkFactory = (file) -> new NTriplesSink.Builder(file).build();
+        private long checkpointRows = 10_000_000;
+        private Duration checkpointInterval = Duration.ofMinutes(5);
+        private boolean resume;
+
+        /**
+         * Constructs a Builder with the specified directory to write the
+         * segments and checkpoint to. The directory is created if needed.
+         *
+         * @param directory the directory of the output
+         */
+        public Builder(Path directory) {
+            this.directory = Objects.requireNonNull(directory, "Directory must not be null.");
+        }
+
+        /**
+         * Sets the file name suffix of the segments and the factory opening
+         * the sink of each segment. Defaults to N-Triples with the suffix
+         * {@code .nt}.
+         *
+         * @param suffix      the file name suffix of each segment
+         * @param sinkFactory the factory opening a sink for each segment
+         * @return this builder for fluent method chaining
+         */
+        public Builder format(String suffix, SinkFactory sinkFactory) {
+            this.suffix = Objects.requireNonNull(suffix, "Suffix must not be null.");
+            this.sinkFactory = Objects.requireNonNull(sinkFactory, "Sink factory must not be null.");
+            return this;
+        }
+
+        /**
+         * Sets the number of rows of an entity map mapped between each
+         * checkpoint. Defaults to 10000000.
+         *
+         * @param checkpointRows the number of rows between checkpoints
+         * @return this builder for fluent method chaining
+         */
+        public Builder checkpointRows(long checkpointRows) {
+            if (checkpointRows < 1) {
+                throw new IllegalArgumentException("Checkpoint rows must be positive.");
+            }
+            this.checkpointRows = checkpointRows;
+            return this;
+        }
+
+        /**
+         * Sets the time passed between each checkpoint of an entity map, for
+         * scans reading rows slower than the checkpoint rows per interval.
+         * Defaults to 5 minutes.
+         *
+         * @param checkpointInterval the time between checkpoints
+         * @return this builder for fluent method chaining
+         */
+        public Builder checkpointInterval(Duration checkpointInterval) {
+            Objects.requireNonNull(checkpointInterval, "Checkpoint interval must not be null.");
+            if (checkpointInterval.isNegative() || checkpointInterval.isZero()) {
+                throw new IllegalArgumentException("Checkpoint interval must be positive.");
+            }
+            this.checkpointInterval = checkpointInterval;
+            return this;
+        }
+
+        /**
+         * Sets whether to resume from the checkpoint in the directory, if
+         * any. Otherwise the mapping fails rather than overwrite the output
+         * of another mapping. Defaults to false.
+         *
+         * @param resume true to resume from an existing checkpoint
+         * @return this builder for fluent method chaining
+         */
+        public Builder resume(boolean resume) {
+            this.resume = resume;
+            return this;
+        }
+
+        /**
+         * Returns an instance of segmented output with the directory and
+         * options given to its builder.
+         *
+         * @return instance of segmented output created with this builder
+         */
+        public SegmentedOutput build() {
+            return new SegmentedOutput(this);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link SourceMap} interface that reads the equal source
+ * maps of many entity maps in a single scan. The entity reference of the
+ * first source map is used, projected with the columns needed by every
+ * entity map sharing the scan.
+ */
+class SharedSourceMap implements SourceMap {
+
+    private final String uniqueId;
+    private final EntityReference entityReference;
+
+    /**
+     * Constructs a SharedSourceMap with the specified entity maps whose
+     * source maps are all equal.
+     *
+     * @param entityMaps the entity maps sharing the scan
+     */
+    private SharedSourceMap(List<EntityMap> entityMaps) {
+        uniqueId = entityMaps.stream()
+                .map((t) -> t.getSourceMap().getUniqueId())
+                .collect(Collectors.joining("+"));
+        entityReference = new SharedEntityReference(entityMaps.get(0).getSourceMap().getEntityReference(),
+                listProjectedColumns(entityMaps));
+    }
+
+    /**
+     * Returns the source map to scan once for all of the given entity maps.
+     * If every entity map needs the same columns, the source map of the
+     * first entity map is returned as it is.
+     *
+     * @param entityMaps the entity maps with equal source maps
+     * @return the source map to scan for all entity maps
+     */
+    static SourceMap of(List<EntityMap> entityMaps) {
+        SourceMap first = entityMaps.get(0).getSourceMap();
+        if (entityMaps.size() == 1) {
+            return first;
+        }
+        Set<String> columns = first.getEntityReference().listProjectedColumns();
+        if (columns.equals(listProjectedColumns(entityMaps))) {
+            return first;
+        }
+        return new SharedSourceMap(entityMaps);
+    }
+
+    /**
+     * Returns the union of the projected columns of the given entity maps;
+     * Or an empty set if any of them needs every column.
+     *
+     * @param entityMaps the entity maps to merge the projections of
+     * @return the union of the projected columns, otherwise an empty set
+     */
+    private static Set<String> listProjectedColumns(List<EntityMap> entityMaps) {
+        Set<String> union = new TreeSet<>();
+        for (EntityMap t : entityMaps) {
+            Set<String> columns = t.getSourceMap().getEntityReference().listProjectedColumns();
+            if (columns.isEmpty()) {
+                return Set.of();
+            }
+            union.addAll(columns);
+        }
+        return union;
+    }
+
+    @Override
+    public EntityReference getEntityReference() {
+        return entityReference;
+    }
+
+    @Override
+    public String getUniqueId() {
+        return uniqueId;
+    }
+
+    /**
+     * Implementation of {@link EntityReference} interface that delegates to
+     * another reference with a different projection.
+     */
+    private static class SharedEntityReference implements EntityReference {
+
+        private final EntityReference entityReference;
+        private final Set<String> projectedColumns;
+
+        private SharedEntityReference(EntityReference entityReference, Set<String> projectedColumns) {
+            this.entityReference = entityReference;
+            this.projectedColumns = Collections.unmodifiableSet(projectedColumns);
+        }
+
+        @Override
+        public PayloadType getPayloadType() {
+            return entityReference.getPayloadType();
+        }
+
+        @Override
+        public String getPayload() {
+            return entityReference.getPayload();
+        }
+
+        @Override
+        public String getIteratorDef() {
+            return entityReference.getIteratorDef();
+        }
+
+        @Override
+        public String getProperty(String propertyName) {
+            return entityReference.getProperty(propertyName);
+        }
+
+        @Override
+        public Set<String> listProjectedColumns() {
+            return projectedColumns;
+        }
+    }
+}
@@ -6,6 +6,7 @@
 package io.github.jiefenn8.graphloom.rdf.r2rml;
 
 import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityLayout;
 import io.github.jiefenn8.graphloom.exceptions.MapperException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.jena.datatypes.RDFDatatype;
@@ -14,11 +15,8 @@ import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.ResourceFactory;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
 
 /**
  * This abstract class defines the implementation of the base methods specified
@@ -26,12 +24,17 @@ import java.util.regex.Pattern;
  */
 public abstract class AbstractTermMap implements TermMap {
 
-    private static final Pattern pattern = Pattern.compile("\\{(.*?)}");
+    static final int DEFAULT_NODE_CACHE_SIZE = 1024;
     protected final ValuedType valuedType;
     protected final String lang;
     protected final RDFDatatype dataType;
     private final RDFNode baseValue;
     private final TermType termType;
+    private final Template template;
+    private final boolean iriSafe;
+    private final String column;
+    private final NodeCache nodeCache;
+    private volatile LayoutBinding layoutBinding;
 
     /**
      * Constructs a TermMap with the specified TermMap Builder containing the
@@ -45,6 +48,17 @@ public abstract class AbstractTermMap implements TermMap {
         this.valuedType = builder.valuedType;
         this.lang = builder.lang;
         this.dataType = builder.dataType;
+        boolean hasLiteralValue = baseValue != null && baseValue.isLiteral();
+        this.template = hasLiteralValue && valuedType == ValuedType.TEMPLATE
+                ? Template.compile(baseValue.asLiteral().getString())
+                : null;
+        TermType resolvedType = termType == TermType.UNDEFINED ? getDefaultTermType() : termType;
+        this.iriSafe = resolvedType == TermType.IRI;
+        this.column = hasLiteralValue && valuedType == ValuedType.COLUMN
+                ? baseValue.asLiteral().getString()
+                : null;
+        boolean generatesTerms = valuedType != ValuedType.CONSTANT && termType != TermType.BLANK;
+        this.nodeCache = generatesTerms && builder.nodeCacheSize > 0 ? new NodeCache(builder.nodeCacheSize) : null;
     }
 
     @Override
@@ -57,6 +71,60 @@ public abstract class AbstractTermMap implements TermMap {
         };
     }
 
+    @Override
+    public Set<String> listReferencedColumns() {
+        return switch (valuedType) {
+            case CONSTANT -> Set.of();
+            case TEMPLATE -> template == null ? Set.of() : template.listColumns();
+            case COLUMN -> column == null ? Set.of() : Set.of(column);
+        };
+    }
+
+    /**
+     * Returns the base value this term map generates its terms from.
+     *
+     * @return the constant, template or column name node of this term map
+     */
+    RDFNode getBaseValue() {
+        return baseValue;
+    }
+
+    /**
+     * Returns the valued type that determines how the base value is used.
+     *
+     * @return the valued type of this term map
+     */
+    ValuedType getValuedType() {
+        return valuedType;
+    }
+
+    /**
+     * Returns the term type that generated terms are returned as.
+     *
+     * @return the term type of this term map
+     */
+    TermType getTermType() {
+        return termType;
+    }
+
+    /**
+     * Returns the language tag of generated literal terms.
+     *
+     * @return the language tag, otherwise an empty string
+     */
+    String getLanguage() {
+        return lang;
+    }
+
+    /**
+     * Returns the data type of generated literal terms.
+     *
+     * @return the data type, otherwise null
+     */
+    RDFDatatype getDataType() {
+        return dataType;
+    }
+
     /**
      * Returns the base value as a constant RDF term. Constant term does not
      * require any further interaction with any source to generate RDF term.
@@ -69,31 +137,17 @@ public abstract class AbstractTermMap implements TermMap {
 
     /**
      * Returns a generated RDF term using the base value as template with the
-     * value from entity source. The base value (as template) MUST specify a
-     * valid column name identifier that can be used with entity to retrieve
-     * the target data. Column name syntax rules as follows:
-     * </p>
-     * - At least one column name in template.
-     * - Column names are enclosed by curly braces '{column_name}'.
-     * - Any curly braces within the column_name must be escaped.
-     * - Multiple column names should be separate from each other.
+     * value from entity source. The base value (as template) is compiled once
+     * when this term map is created; see {@link Template} for the template
+     * syntax rules. The values are only made IRI-safe if the terms generated
+     * are IRIs.
      *
      * @param entity the entity source containing the data for generation
      * @return the term generated, otherwise null if no value cannot be found
      */
     private RDFNode createTemplateTerm(Entity entity) {
-        String template = baseValue.asLiteral().getString();
-        Matcher matcher = pattern.matcher(template);
-        if (!matcher.find()) {
-            throw new MapperException("Template given cannot be matched. Must have: {name}.");
-        }
-        String value = entity.getPropertyValue(matcher.group(1));
-        if (value != null) {
-            value = URLEncoder.encode(value, StandardCharsets.UTF_8);
-            String term = template.replace(matcher.group(0), value);
-            return asRDFTerm(term, termType);
-        }
-        return null;
+        String term = getTemplate().render(entity, bindLayout(entity), iriSafe);
+        return term == null ? null : asCachedRDFTerm(term);
     }
 
     /**
@@ -104,9 +158,97 @@ public abstract class AbstractTermMap implements TermMap {
      * @return the value retrieved from source as RDF term
      */
     private RDFNode createColumnTerm(Entity entity) {
-        String column = baseValue.asLiteral().getString();
-        String value = entity.getPropertyValue(column);
-        return value == null ? null : asRDFTerm(value, termType);
+        int[] slots = bindLayout(entity);
+        String value;
+        if (slots == null) {
+            value = entity.getPropertyValue(getColumn());
+        } else {
+            value = slots[0] < 0 ? null : entity.getPropertyValue(slots[0]);
+        }
+        return value == null ? null : asCachedRDFTerm(value);
+    }
+
+    /**
+     * Returns the term created from the given value with the term type of
+     * this term map; The same instance as before if the value was recently
+     * seen and is still cached. Blank nodes are never cached as each must
+     * be a new node.
+     *
+     * @param value the String value of the term to turn into RDF
+     * @return the generated or cached term
+     */
+    private RDFNode asCachedRDFTerm(String value) {
+        if (nodeCache == null) {
+            return asRDFTerm(value, termType);
+        }
+        RDFNode node = nodeCache.get(value);
+        if (node == null) {
+            node = asRDFTerm(value, termType);
+            if (!node.isAnon()) {
+                nodeCache.put(value, node);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns the node cache of this term map.
+     *
+     * @return the node cache, otherwise null if terms are not cached
+     */
+    NodeCache getNodeCache() {
+        return nodeCache;
+    }
+
+    /**
+     * Returns the positions of the columns referenced by this term map in
+     * the layout of the given entity; Or null if the entity has no layout.
+     * The positions are resolved once per layout and reused for every
+     * entity sharing the same layout instance.
+     *
+     * @param entity the entity to resolve the column positions with
+     * @return the positions of the referenced columns, otherwise null
+     */
+    private int[] bindLayout(Entity entity) {
+        EntityLayout layout = entity.getLayout();
+        if (layout == null) {
+            return null;
+        }
+        LayoutBinding binding = layoutBinding;
+        if (binding == null || binding.layout != layout) {
+            int[] slots = valuedType == ValuedType.TEMPLATE
+                    ? getTemplate().bind(layout)
+                    : new int[]{layout.indexOf(getColumn())};
+            binding = new LayoutBinding(layout, slots);
+            layoutBinding = binding;
+        }
+        return binding.slots;
+    }
+
+    /**
+     * Returns the template compiled from the base value.
+     *
+     * @return the compiled template of this term map
+     * @throws MapperException if the base value is not a template
+     */
+    private Template getTemplate() {
+        if (template == null) {
+            throw new MapperException("Template given cannot be matched. Must have: {name}.");
+        }
+        return template;
+    }
+
+    /**
+     * Returns the column name of the base value.
+     *
+     * @return the column name of this term map
+     * @throws MapperException if the base value is not a column name
+     */
+    private String getColumn() {
+        if (column == null) {
+            throw new MapperException("Column given must be a literal column name.");
+        }
+        return column;
     }
 
     /**
@@ -137,6 +279,16 @@ public abstract class AbstractTermMap implements TermMap {
         return ResourceFactory.createStringLiteral(term);
     }
 
+    /**
+     * Returns the term type of the terms generated if no term type is
+     * given. Called once while this term map is constructed.
+     *
+     * @return the default term type of this term map
+     */
+    protected TermType getDefaultTermType() {
+        return TermType.IRI;
+    }
+
     /**
      * Returns the term created from the given value with the default
      * generation rule defined.
@@ -146,6 +298,20 @@ public abstract class AbstractTermMap implements TermMap {
      */
     protected abstract RDFNode handleDefaultGeneration(String term);
 
+    /**
+     * Column positions of this term map resolved against an entity layout.
+     */
+    private static class LayoutBinding {
+
+        private final EntityLayout layout;
+        private final int[] slots;
+
+        private LayoutBinding(EntityLayout layout, int[] slots) {
+            this.layout = layout;
+            this.slots = slots;
+        }
+    }
+
     /**
      * ENUM to manage different valued TermMaps.
      */
@@ -167,6 +333,7 @@ public abstract class AbstractTermMap implements TermMap {
         private TermType termType;
         private String lang = StringUtils.EMPTY;
         private RDFDatatype dataType;
+        private int nodeCacheSize = DEFAULT_NODE_CACHE_SIZE;
 
         /**
          * Constructs an instance of AbstractBuilder with specified base value
@@ -216,6 +383,21 @@ public abstract class AbstractTermMap implements TermMap {
             return this;
         }
 
+        /**
+         * Set the number of slots of the cache of recently generated terms
+         * of this TermMap; 0 turns the cache off. Defaults to 1024.
+         *
+         * @param nodeCacheSize the number of terms to cache
+         * @return this builder for method chaining
+         */
+        public AbstractBuilder<T> nodeCacheSize(int nodeCacheSize) {
+            if (nodeCacheSize < 0) {
+                throw new IllegalArgumentException("Node cache size must not be negative.");
+            }
+            this.nodeCacheSize = nodeCacheSize;
+            return this;
+        }
+
         /**
          * Returns an instance of TermMap with the specified data given to
          * this builder.
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import org.apache.jena.rdf.model.RDFNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * This class defines the base methods of an in-memory hash join between the
+ * logical table of a triples map and the logical table of the parent triples
+ * map referenced by a {@link RefObjectMap}. The parent logical table is read
+ * once to index the parent entity terms by their join condition values; each
+ * child entity is then matched by probing the index with its own values.
+ * Values are compared by their string form and null values never match, as
+ * with a SQL equi-join.
+ */
+class HashJoinIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashJoinIndex.class);
+    private final List<JoinCondition> joinConditions;
+    private final Map<Object, List<RDFNode>> index = new HashMap<>();
+
+    /**
+     * Constructs a HashJoinIndex with the specified join conditions that
+     * keys the index.
+     *
+     * @param joinConditions the join conditions to index and probe with
+     */
+    private HashJoinIndex(Set<JoinCondition> joinConditions) {
+        this.joinConditions = List.copyOf(joinConditions);
+    }
+
+    /**
+     * Returns a join index of the parent triples map in the given ref object
+     * map, built by reading its logical table from the given source once.
+     *
+     * @param refObjectMap the ref object map with the parent and joins
+     * @param source       the source containing the parent entities
+     * @return the index of the parent entity terms by join values
+     */
+    static HashJoinIndex build(RefObjectMap refObjectMap, InputSource source) {
+        HashJoinIndex joinIndex = new HashJoinIndex(refObjectMap.listJoinConditions());
+        refObjectMap.getParentTriplesMap()
+                .getSourceMap()
+                .forEachEntity(source, (e) -> joinIndex.put(e, refObjectMap));
+        LOGGER.debug("Indexed {} join keys of '{}'.", joinIndex.index.size(),
+                refObjectMap.getParentTriplesMap().getIdName());
+        return joinIndex;
+    }
+
+    /**
+     * Returns the parent terms that the given child entity joins to, or an
+     * empty list if there is no match.
+     *
+     * @param child the child entity to match with
+     * @return the list of matching parent terms
+     */
+    List<RDFNode> probe(Entity child) {
+        Object key = createKey(child, false);
+        if (key == null) {
+            return List.of();
+        }
+        return index.getOrDefault(key, List.of());
+    }
+
+    /**
+     * Adds the term generated from the given parent entity to the index
+     * using the join values from the same entity.
+     *
+     * @param parent       the parent entity with the join values
+     * @param refObjectMap the ref object map to generate the parent term
+     */
+    private void put(Entity parent, RefObjectMap refObjectMap) {
+        Object key = createKey(parent, true);
+        if (key == null) {
+            return;
+        }
+        RDFNode term = refObjectMap.generateNodeTerm(parent);
+        if (term != null) {
+            index.computeIfAbsent(key, (k) -> new ArrayList<>(1)).add(term);
+        }
+    }
+
+    /**
+     * Returns the key of the given entity made from the values of the
+     * parent or child columns of the join conditions. Returns null if any
+     * of the values are null.
+     *
+     * @param entity the entity containing the join values
+     * @param parent true to use the parent columns, otherwise child columns
+     * @return the key of the entity, otherwise null
+     */
+    private Object createKey(Entity entity, boolean parent) {
+        if (joinConditions.size() == 1) {
+            return getJoinValue(entity, joinConditions.get(0), parent);
+        }
+        String[] values = new String[joinConditions.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getJoinValue(entity, joinConditions.get(i), parent);
+            if (values[i] == null) {
+                return null;
+            }
+        }
+        return Arrays.asList(values);
+    }
+
+    private String getJoinValue(Entity entity, JoinCondition joinCondition, boolean parent) {
+        return entity.getPropertyValue(parent ? joinCondition.getParent() : joinCondition.getChild());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Implementation of {@link Entity} interface that exposes either the child or
+ * the parent side of an entity returned by a joint query. Each column of a
+ * side is selected by the joint query under an alias prefixed with the side
+ * name; e.g. column {@code DEPTNO} of the parent is aliased
+ * {@code parent_DEPTNO}.
+ */
+class JointEntity implements Entity {
+
+    static final String CHILD = "child";
+    static final String PARENT = "parent";
+    private final Entity entity;
+    private final String side;
+
+    /**
+     * Constructs a JointEntity with the specified joint query entity and
+     * the side of the join to expose.
+     *
+     * @param entity the entity returned by the joint query
+     * @param side   the side of the join to expose
+     */
+    JointEntity(Entity entity, String side) {
+        this.entity = entity;
+        this.side = side;
+    }
+
+    /**
+     * Returns the alias that the given column of the given side of the join
+     * is selected as in a joint query. Any delimiting double quotes of the
+     * column name are not part of the alias.
+     *
+     * @param side   the side of the join the column belongs to
+     * @param column the column name to alias
+     * @return the alias of the column
+     */
+    static String getAlias(String side, String column) {
+        return side + "_" + StringUtils.strip(column, "\"");
+    }
+
+    @Override
+    public String getPropertyValue(String name) {
+        return entity.getPropertyValue(getAlias(side, name));
+    }
+}
@@ -16,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.UUID;
 
 /**
@@ -54,6 +55,26 @@ public class LogicalTable implements SourceMap {
                 .build();
     }
 
+    /**
+     * Retrieves the LogicalTable from the parent TriplesMap found in the given
+     * RefObjectMap. Returns a LogicalTable with a Joint SQL query of this
+     * instance and the given LogicalTable that selects the given columns of
+     * both sides of the join; each aliased as described in
+     * {@link JointEntity}.
+     *
+     * @param refObjectMap  the reference containing the parent TriplesMap
+     * @param childColumns  the columns of this logical table to select
+     * @param parentColumns the columns of the parent logical table to select
+     * @return the LogicalTable of two Joint SQL tables
+     */
+    public LogicalTable asJointLogicalTable(RefObjectMap refObjectMap, Set<String> childColumns,
+                                            Set<String> parentColumns) {
+        LogicalTable logicalTable = (LogicalTable) refObjectMap.getParentTriplesMap().getSourceMap();
+        return new LogicalTable.Builder(this)
+                .withJointQuery(logicalTable, refObjectMap.listJoinConditions(), childColumns, parentColumns)
+                .build();
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -122,11 +143,45 @@ public class LogicalTable implements SourceMap {
          * @return this builder for fluent method chaining
          */
         public Builder withJointQuery(LogicalTable logicalTable, Set<JoinCondition> joinConditions) {
+            return withJointQuery(logicalTable, joinConditions, "child.*");
+        }
+
+        /**
+         * Builds a query config with a join query consisting of two query,
+         * table or mixed that is associated to each other through join
+         * conditions. The join query selects only the given columns of each
+         * side; each aliased as described in {@link JointEntity}.
+         *
+         * @param logicalTable   the second query or table to build a joint query
+         * @param joinConditions the set of joins conditions to use
+         * @param childColumns   the columns of this query or table to select
+         * @param parentColumns  the columns of the second query or table to select
+         * @return this builder for fluent method chaining
+         */
+        public Builder withJointQuery(LogicalTable logicalTable, Set<JoinCondition> joinConditions,
+                                      Set<String> childColumns, Set<String> parentColumns) {
+            StringJoiner selectList = new StringJoiner(", ");
+            childColumns.forEach((c) -> selectList.add(buildSelectItem(JointEntity.CHILD, c)));
+            parentColumns.forEach((c) -> selectList.add(buildSelectItem(JointEntity.PARENT, c)));
+            return withJointQuery(logicalTable, joinConditions, selectList.toString());
+        }
+
+        /**
+         * Builds a query config with a join query selecting the given select
+         * list.
+         *
+         * @param logicalTable   the second query or table to build a joint query
+         * @param joinConditions the set of joins conditions to use
+         * @param selectList     the select list of the joint query
+         * @return this builder for fluent method chaining
+         */
+        private Builder withJointQuery(LogicalTable logicalTable, Set<JoinCondition> joinConditions,
+                                       String selectList) {
             if (joinConditions.isEmpty()) {
                 throw new MapperException("Expected JoinConditions with joint query creation.");
             }
 
-            String jointQuery = "SELECT child.* FROM " + prepareQuery(entityReference) + " AS child, ";
+            String jointQuery = "SELECT " + selectList + " FROM " + prepareQuery(entityReference) + " AS child, ";
             jointQuery += prepareQuery(logicalTable.entityReference) + " AS parent";
             jointQuery += " WHERE " + buildJoinsRecursively(joinConditions.iterator());
 
@@ -135,6 +190,18 @@ public class LogicalTable implements SourceMap {
             return this;
         }
 
+        /**
+         * Returns the select list item of the given column in the given side
+         * of the join, aliased with the side name.
+         *
+         * @param side   the side of the join the column belongs to
+         * @param column the column name to select
+         * @return the aliased select list item
+         */
+        private String buildSelectItem(String side, String column) {
+            return side + "." + column + " AS \"" + JointEntity.getAlias(side, column) + "\"";
+        }
+
         /**
          * Recursively build all join conditions and return result as String.
          *
@@ -145,7 +212,7 @@ public class LogicalTable implements SourceMap {
             JoinCondition join = iterator.next();
             String joins = join.getJoinString();
             if (iterator.hasNext()) {
-                joins = joins + "AND" + buildJoinsRecursively(iterator);
+                joins = joins + " AND " + buildJoinsRecursively(iterator);
             }
             return joins;
         }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import org.apache.jena.rdf.model.RDFNode;
+
+/**
+ * This class caches the RDF terms generated by a term map from its most
+ * recent values, so that a value repeated over many entities (e.g. a status
+ * code or the IRI of a department) returns the same term instance instead
+ * of creating a new one each time.
+ * <p>
+ * The cache is direct-mapped rather than least recently or least frequently
+ * used; Each value has a single slot chosen by its hash, replacing whatever
+ * term was there before. It keeps no order of use or count of hits, so two
+ * frequent values sharing a slot keep replacing each other where an LRU
+ * cache of the same size would keep both. In return a lookup is one array
+ * read and a string comparison, and a hit writes nothing; An LRU or
+ * frequency cache updates its order on every hit and must lock to do so,
+ * which would make the threads mapping the entities of a term map wait on
+ * each other. Entries are immutable and the slots are the only state, so
+ * the cache can be shared by threads without locking; A racing thread may
+ * only miss an entry and create the term again.
+ * <p>
+ * The number of slots is configurable and a size of 0 turns the cache off,
+ * which suits a term map of unique values, such as a primary key, where
+ * the cache would only add work.
+ */
+class NodeCache {
+
+    private final Entry[] entries;
+    private final int mask;
+
+    /**
+     * Constructs a NodeCache with at least the specified number of slots,
+     * rounded up to a power of two.
+     *
+     * @param size the minimum number of slots
+     */
+    NodeCache(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Node cache size must be positive.");
+        }
+        int slots = Integer.highestOneBit(size);
+        slots = slots < size ? slots << 1 : slots;
+        entries = new Entry[slots];
+        mask = slots - 1;
+    }
+
+    /**
+     * Returns the term cached for the given value.
+     *
+     * @param value the value the term was generated from
+     * @return the cached term, otherwise null
+     */
+    RDFNode get(String value) {
+        Entry entry = entries[indexOf(value)];
+        return entry != null && entry.value.equals(value) ? entry.node : null;
+    }
+
+    /**
+     * Caches the given term generated from the given value.
+     *
+     * @param value the value the term was generated from
+     * @param node  the term to cache
+     */
+    void put(String value, RDFNode node) {
+        entries[indexOf(value)] = new Entry(value, node);
+    }
+
+    /**
+     * Returns the number of slots of this cache.
+     *
+     * @return the number of slots
+     */
+    int size() {
+        return entries.length;
+    }
+
+    private int indexOf(String value) {
+        int h = value.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Immutable pair of a value and the term generated from it.
+     */
+    private static class Entry {
+
+        private final String value;
+        private final RDFNode node;
+
+        private Entry(String value, RDFNode node) {
+            this.value = value;
+            this.node = node;
+        }
+    }
+}
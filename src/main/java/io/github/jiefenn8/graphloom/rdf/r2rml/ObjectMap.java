@@ -49,11 +49,16 @@ public class ObjectMap extends AbstractTermMap implements NodeMap {
     }
 
     @Override
-    protected RDFNode handleDefaultGeneration(String term) {
+    protected TermType getDefaultTermType() {
         if (valuedType.equals(ValuedType.COLUMN) || !lang.isEmpty() || dataType != null) {
-            return asRDFTerm(term, TermType.LITERAL);
+            return TermType.LITERAL;
         }
-        return asRDFTerm(term, TermType.IRI);
+        return TermType.IRI;
+    }
+
+    @Override
+    protected RDFNode handleDefaultGeneration(String term) {
+        return asRDFTerm(term, getDefaultTermType());
     }
 
     public static class Builder extends AbstractBuilder<ObjectMap> {
@@ -14,6 +14,7 @@ import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -23,6 +24,7 @@ import java.util.UUID;
 public class PredicateMap extends AbstractTermMap implements RelationMap {
 
     private final UUID uuid = UUID.randomUUID();
+    private final transient Property constantProperty;
 
     /**
      * Constructs an PredicateMap with the specified TermMap Builder containing the
@@ -32,12 +34,33 @@ public class PredicateMap extends AbstractTermMap implements RelationMap {
      */
     protected PredicateMap(Builder builder) {
         super(builder);
+        RDFNode baseValue = getBaseValue();
+        constantProperty = valuedType == ValuedType.CONSTANT && baseValue != null && baseValue.isURIResource()
+                ? asProperty(baseValue.asResource())
+                : null;
     }
 
     @Override
     public Property generateRelationTerm(Entity entity) {
-        Resource term = generateRDFTerm(entity).asResource();
-        return ResourceFactory.createProperty(term.getURI());
+        Objects.requireNonNull(entity, "Entity is null.");
+        if (constantProperty != null) {
+            return constantProperty;
+        }
+        return asProperty(generateRDFTerm(entity).asResource());
+    }
+
+    /**
+     * Returns the property of this predicate map if it is constant valued;
+     * Created once when this predicate map is built.
+     *
+     * @return the constant property, otherwise null
+     */
+    Property getConstantProperty() {
+        return constantProperty;
+    }
+
+    private static Property asProperty(Resource term) {
+        return term instanceof Property ? (Property) term : ResourceFactory.createProperty(term.getURI());
     }
 
     @Override
@@ -54,7 +77,7 @@ public class PredicateMap extends AbstractTermMap implements RelationMap {
 
     @Override
     protected RDFNode handleDefaultGeneration(String term) {
-        return asRDFTerm(term, TermType.IRI);
+        return ResourceFactory.createProperty(term);
     }
 
     public static class Builder extends AbstractBuilder<PredicateMap> {
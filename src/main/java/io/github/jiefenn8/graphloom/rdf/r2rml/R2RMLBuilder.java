@@ -29,6 +29,7 @@ public class R2RMLBuilder {
 
     private final R2RMLParser r2rmlParser;
     private final Map<String, TriplesMap> triplesMapRegister = new HashMap<>();
+    private int nodeCacheSize = AbstractTermMap.DEFAULT_NODE_CACHE_SIZE;
 
     /**
      * Constructs a R2RMLBuilder with default parser.
@@ -47,6 +48,22 @@ public class R2RMLBuilder {
         this.r2rmlParser = r2rmlParser;
     }
 
+    /**
+     * Sets the number of recently generated terms cached by each template
+     * and column valued term map built; 0 turns the caches off. Defaults
+     * to 1024.
+     *
+     * @param nodeCacheSize the number of terms to cache per term map
+     * @return this builder for fluent method chaining
+     */
+    public R2RMLBuilder nodeCacheSize(int nodeCacheSize) {
+        if (nodeCacheSize < 0) {
+            throw new IllegalArgumentException("Node cache size must not be negative.");
+        }
+        this.nodeCacheSize = nodeCacheSize;
+        return this;
+    }
+
     /**
      * Parse a given r2rml document and returns an R2RMLMap with
      * the mapping configurations defined in the r2rml document
@@ -157,6 +174,7 @@ public class R2RMLBuilder {
         ValuedType valuedType = getTermMapValuedType(sm);
         return new SubjectMap.Builder(getTermMapValue(sm, valuedType), valuedType)
                 .addEntityClasses(r2rmlParser.listEntityClasses(sm.getResource()))
+                .nodeCacheSize(nodeCacheSize)
                 .build();
     }
 
@@ -224,7 +242,7 @@ public class R2RMLBuilder {
     private PredicateMap buildPredicateMap(Statement pm) {
         ValuedType type = getTermMapValuedType(pm);
         RDFNode base = getTermMapValue(pm, type);
-        return new PredicateMap.Builder(base, type).build();
+        return new PredicateMap.Builder(base, type).nodeCacheSize(nodeCacheSize).build();
     }
 
     /**
@@ -257,7 +275,7 @@ public class R2RMLBuilder {
     private ObjectMap buildDefaultObjectMap(Statement om) {
         ValuedType type = getTermMapValuedType(om);
         RDFNode base = getTermMapValue(om, type);
-        return new ObjectMap.Builder(base, type).build();
+        return new ObjectMap.Builder(base, type).nodeCacheSize(nodeCacheSize).build();
     }
 
     /**
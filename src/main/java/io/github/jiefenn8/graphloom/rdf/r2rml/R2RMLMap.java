@@ -8,6 +8,8 @@ package io.github.jiefenn8.graphloom.rdf.r2rml;
 import com.google.gson.GsonBuilder;
 import io.github.jiefenn8.graphloom.api.ConfigMaps;
 import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.inputsource.BaseEntityReference;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
 import io.github.jiefenn8.graphloom.util.GsonHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -91,6 +93,41 @@ public class R2RMLMap implements ConfigMaps {
             return this;
         }
 
+        /**
+         * Sets the columns referenced from each logical table as the
+         * projection of its entity reference. The logical table of a parent
+         * triples map is also projected with the parent columns of the join
+         * conditions referencing it, so that it can be joined on.
+         */
+        private void projectColumns() {
+            Map<EntityReference, Set<String>> projections = new IdentityHashMap<>();
+            triplesMaps.forEach((t) -> {
+                addProjection(projections, t, t.listReferencedColumns());
+                t.listRefObjectMaps().stream()
+                        .filter(RefObjectMap::hasJoinCondition)
+                        .forEach((n) -> {
+                            TriplesMap parent = n.getParentTriplesMap();
+                            Set<String> columns = new TreeSet<>(parent.getSubjectMap().listReferencedColumns());
+                            n.listJoinConditions().forEach((j) -> columns.add(j.getParent()));
+                            addProjection(projections, parent, columns);
+                        });
+            });
+            projections.forEach((e, c) -> {
+                if (e instanceof BaseEntityReference) {
+                    ((BaseEntityReference) e).setProjectedColumns(c);
+                }
+            });
+        }
+
+        private void addProjection(Map<EntityReference, Set<String>> projections, TriplesMap triplesMap,
+                                   Set<String> columns) {
+            if (columns.isEmpty()) {
+                return;
+            }
+            EntityReference entityReference = triplesMap.getSourceMap().getEntityReference();
+            projections.computeIfAbsent(entityReference, (k) -> new TreeSet<>()).addAll(columns);
+        }
+
         /**
          * Returns an immutable instance of R2RMLMap with this builder containing
          * the parameters given to populate the object.
@@ -99,6 +136,7 @@ public class R2RMLMap implements ConfigMaps {
          */
         public R2RMLMap build() {
             nsPrefixMap.putIfAbsent(RR_PREFIX, R2RMLSyntax.getURI());
+            projectColumns();
             LOGGER.debug("Building R2RMLMap from parameters.");
             R2RMLMap r2rmlMap = new R2RMLMap(this);
             LOGGER.debug("{}", r2rmlMap);
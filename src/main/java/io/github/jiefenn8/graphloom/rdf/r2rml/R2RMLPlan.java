@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.NodeMap;
+import io.github.jiefenn8.graphloom.api.RelationMap;
+import io.github.jiefenn8.graphloom.api.inputsource.BaseEntityReference;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import io.github.jiefenn8.graphloom.exceptions.ParserException;
+import io.github.jiefenn8.graphloom.rdf.r2rml.AbstractTermMap.AbstractBuilder;
+import io.github.jiefenn8.graphloom.rdf.r2rml.AbstractTermMap.ValuedType;
+import io.github.jiefenn8.graphloom.rdf.r2rml.TermMap.TermType;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.jena.datatypes.RDFDatatype;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.rdf.model.Literal;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * This class reads and writes a {@link R2RMLMap} as a compiled mapping plan;
+ * A compact binary file that is loaded without parsing the r2rml document.
+ * Every string of the plan is kept once in a string table and every parent
+ * triples map is resolved to the position of its triples map in the plan,
+ * so that loading a plan only has to build the maps in the order given.
+ * <p>
+ * A plan is only valid for the version of this class that wrote it; a plan
+ * of any other version must be compiled again from its r2rml document.
+ */
+public final class R2RMLPlan {
+
+    private static final int MAGIC = 0x474C504E;
+    private static final int VERSION = 2;
+    private static final byte TABLE_NAME = 0;
+    private static final byte QUERY = 1;
+    private static final byte NULL_NODE = 0;
+    private static final byte IRI_NODE = 1;
+    private static final byte LITERAL_NODE = 2;
+
+    private R2RMLPlan() {
+    }
+
+    /**
+     * Writes the given r2rml map as a mapping plan to the given stream. The
+     * stream is not closed by this method.
+     *
+     * @param r2rmlMap the r2rml map to compile
+     * @param out      the stream to write the plan to
+     * @throws IOException     if the plan cannot be written
+     * @throws ParserException if the r2rml map holds a term or entity
+     *                         reference the plan cannot hold; e.g. a blank
+     *                         node constant or a custom entity reference
+     */
+    public static void write(R2RMLMap r2rmlMap, OutputStream out) throws IOException {
+        Objects.requireNonNull(r2rmlMap, "R2RML map must not be null.");
+        Objects.requireNonNull(out, "Output stream must not be null.");
+        new PlanWriter().write(r2rmlMap, out);
+    }
+
+    /**
+     * Returns the r2rml map read from the mapping plan in the given stream.
+     * The stream is not closed by this method.
+     *
+     * @param in the stream to read the plan from
+     * @return the r2rml map of the plan
+     * @throws IOException     if the plan cannot be read
+     * @throws ParserException if the stream does not hold a plan of this
+     *                         version
+     */
+    public static R2RMLMap read(InputStream in) throws IOException {
+        Objects.requireNonNull(in, "Input stream must not be null.");
+        return new PlanReader(new DataInputStream(new BufferedInputStream(in))).read();
+    }
+
+    /**
+     * Writer of a single mapping plan. The body of the plan is written
+     * first to collect the string table that precedes it.
+     */
+    private static class PlanWriter {
+
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final Map<TriplesMap, Integer> positions = new IdentityHashMap<>();
+        private final List<TriplesMap> order = new ArrayList<>();
+        private DataOutputStream body;
+
+        private void write(R2RMLMap r2rmlMap, OutputStream out) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            body = new DataOutputStream(buffer);
+            Map<String, String> namespaces = new TreeMap<>(r2rmlMap.getNamespaceMap());
+            body.writeInt(namespaces.size());
+            for (Map.Entry<String, String> e : namespaces.entrySet()) {
+                writeString(e.getKey());
+                writeString(e.getValue());
+            }
+            Set<TriplesMap> roots = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<EntityMap> entityMaps = new ArrayList<>(r2rmlMap.getEntityMaps());
+            entityMaps.sort(Comparator.comparing(EntityMap::getIdName));
+            for (EntityMap entityMap : entityMaps) {
+                TriplesMap triplesMap = (TriplesMap) entityMap;
+                roots.add(triplesMap);
+                addInOrder(triplesMap);
+            }
+            body.writeInt(order.size());
+            for (TriplesMap triplesMap : order) {
+                body.writeBoolean(roots.contains(triplesMap));
+                writeTriplesMap(triplesMap);
+            }
+            body.flush();
+
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(strings.size());
+            for (String s : strings.keySet()) {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+            buffer.writeTo(data);
+            data.flush();
+        }
+
+        /**
+         * Adds the given triples map to the plan order after every parent
+         * triples map it references, so that a parent is always read before
+         * the triples maps referencing it.
+         *
+         * @param triplesMap the triples map to add
+         */
+        private void addInOrder(TriplesMap triplesMap) {
+            if (positions.containsKey(triplesMap)) {
+                return;
+            }
+            triplesMap.listRefObjectMaps().forEach((n) -> addInOrder(n.getParentTriplesMap()));
+            positions.put(triplesMap, order.size());
+            order.add(triplesMap);
+        }
+
+        private void writeTriplesMap(TriplesMap triplesMap) throws IOException {
+            writeString(triplesMap.getIdName());
+            writeEntityReference(triplesMap.getSourceMap().getEntityReference());
+            SubjectMap subjectMap = triplesMap.getSubjectMap();
+            writeTermMap(subjectMap);
+            List<Resource> classes = subjectMap.listEntityClasses();
+            body.writeInt(classes.size());
+            for (Resource c : classes) {
+                writeString(c.getURI());
+            }
+            Map<RelationMap, ObjectMap> predicateObjectMaps = triplesMap.getPredicateObjectMaps();
+            body.writeInt(predicateObjectMaps.size());
+            for (Map.Entry<RelationMap, ObjectMap> e : predicateObjectMaps.entrySet()) {
+                writeTermMap((PredicateMap) e.getKey());
+                writeTermMap(e.getValue());
+            }
+            Map<RelationMap, RefObjectMap> predicateRefObjectMaps = triplesMap.getPredicateRefObjectMaps();
+            body.writeInt(predicateRefObjectMaps.size());
+            for (Map.Entry<RelationMap, RefObjectMap> e : predicateRefObjectMaps.entrySet()) {
+                writeTermMap((PredicateMap) e.getKey());
+                RefObjectMap refObjectMap = e.getValue();
+                body.writeInt(positions.get(refObjectMap.getParentTriplesMap()));
+                Set<JoinCondition> joinConditions = refObjectMap.listJoinConditions();
+                body.writeInt(joinConditions.size());
+                for (JoinCondition j : joinConditions) {
+                    writeString(j.getParent());
+                    writeString(j.getChild());
+                }
+            }
+        }
+
+        private void writeEntityReference(EntityReference entityReference) throws IOException {
+            if (entityReference.getClass() == R2RMLView.class) {
+                body.writeByte(QUERY);
+            } else if (entityReference.getClass() == BaseTableOrView.class) {
+                body.writeByte(TABLE_NAME);
+            } else {
+                throw new ParserException("Mapping plan cannot hold entity reference " + entityReference + ".");
+            }
+            writeString(entityReference.getPayload());
+            BaseEntityReference reference = (BaseEntityReference) entityReference;
+            List<String> names = new ArrayList<>();
+            for (String name : reference.listPropertyNames()) {
+                if (reference.getProperty(name) != null) {
+                    names.add(name);
+                }
+            }
+            body.writeInt(names.size());
+            for (String name : names) {
+                writeString(name);
+                writeString(reference.getProperty(name));
+            }
+        }
+
+        private void writeTermMap(AbstractTermMap termMap) throws IOException {
+            body.writeByte(termMap.getValuedType().ordinal());
+            body.writeByte(termMap.getTermType().ordinal());
+            writeString(termMap.getLanguage());
+            RDFDatatype dataType = termMap.getDataType();
+            writeString(dataType == null ? StringUtils.EMPTY : dataType.getURI());
+            writeNode(termMap.getBaseValue());
+        }
+
+        private void writeNode(RDFNode node) throws IOException {
+            if (node == null) {
+                body.writeByte(NULL_NODE);
+            } else if (node.isURIResource()) {
+                body.writeByte(IRI_NODE);
+                writeString(node.asResource().getURI());
+            } else if (node.isLiteral()) {
+                Literal literal = node.asLiteral();
+                body.writeByte(LITERAL_NODE);
+                writeString(literal.getLexicalForm());
+                writeString(literal.getLanguage());
+                writeString(literal.getDatatypeURI());
+            } else {
+                throw new ParserException("Mapping plan cannot hold term " + node + ".");
+            }
+        }
+
+        private void writeString(String s) throws IOException {
+            Integer index = strings.get(s);
+            if (index == null) {
+                index = strings.size();
+                strings.put(s, index);
+            }
+            body.writeInt(index);
+        }
+    }
+
+    /**
+     * Reader of a single mapping plan.
+     */
+    private static class PlanReader {
+
+        private final DataInputStream in;
+        private String[] strings;
+
+        private PlanReader(DataInputStream in) {
+            this.in = in;
+        }
+
+        private R2RMLMap read() throws IOException {
+            if (in.readInt() != MAGIC) {
+                throw new ParserException("Stream does not contain a mapping plan.");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new ParserException("Unsupported mapping plan version " + version + ".");
+            }
+            strings = new String[in.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            R2RMLMap.Builder builder = new R2RMLMap.Builder();
+            int namespaceCount = in.readInt();
+            for (int i = 0; i < namespaceCount; i++) {
+                builder.addNsPrefix(readString(), readString());
+            }
+            TriplesMap[] triplesMaps = new TriplesMap[in.readInt()];
+            for (int i = 0; i < triplesMaps.length; i++) {
+                boolean root = in.readBoolean();
+                triplesMaps[i] = readTriplesMap(triplesMaps);
+                if (root) {
+                    builder.addTriplesMap(triplesMaps[i]);
+                }
+            }
+            return builder.build();
+        }
+
+        private TriplesMap readTriplesMap(TriplesMap[] triplesMaps) throws IOException {
+            String idName = readString();
+            LogicalTable logicalTable = new LogicalTable.Builder(readEntityReference()).build();
+            SubjectMap.Builder subjectMapBuilder = readTermMap(SubjectMap.Builder::new);
+            Set<Resource> classes = new LinkedHashSet<>();
+            int classCount = in.readInt();
+            for (int i = 0; i < classCount; i++) {
+                classes.add(ResourceFactory.createResource(readString()));
+            }
+            SubjectMap subjectMap = subjectMapBuilder.addEntityClasses(classes).build();
+            TriplesMap.Builder builder = new TriplesMap.Builder(idName, logicalTable, subjectMap);
+            int predicateObjectMapCount = in.readInt();
+            for (int i = 0; i < predicateObjectMapCount; i++) {
+                PredicateMap predicateMap = readTermMap(PredicateMap.Builder::new).build();
+                NodeMap objectMap = readTermMap(ObjectMap.Builder::new).build();
+                builder.addPredicateObjectMap(new ImmutablePair<>(predicateMap, objectMap));
+            }
+            int predicateRefObjectMapCount = in.readInt();
+            for (int i = 0; i < predicateRefObjectMapCount; i++) {
+                PredicateMap predicateMap = readTermMap(PredicateMap.Builder::new).build();
+                RefObjectMap.Builder refObjectMapBuilder = new RefObjectMap.Builder(triplesMaps[in.readInt()]);
+                int joinConditionCount = in.readInt();
+                for (int j = 0; j < joinConditionCount; j++) {
+                    refObjectMapBuilder.addJoinCondition(readString(), readString());
+                }
+                NodeMap refObjectMap = refObjectMapBuilder.build();
+                builder.addPredicateObjectMap(new ImmutablePair<>(predicateMap, refObjectMap));
+            }
+            return builder.build();
+        }
+
+        private EntityReference readEntityReference() throws IOException {
+            byte type = in.readByte();
+            String payload = readString();
+            BaseEntityReference reference = type == QUERY
+                    ? new R2RMLView.Builder(payload, null).build()
+                    : new BaseTableOrView(payload);
+            int properties = in.readInt();
+            for (int i = 0; i < properties; i++) {
+                reference.setProperty(readString(), readString());
+            }
+            return reference;
+        }
+
+        private <B extends AbstractBuilder<?>> B readTermMap(TermMapBuilderFactory<B> factory) throws IOException {
+            ValuedType valuedType = ValuedType.values()[in.readByte()];
+            TermType termType = TermType.values()[in.readByte()];
+            String lang = readString();
+            String dataType = readString();
+            B builder = factory.create(readNode(), valuedType);
+            builder.termType(termType);
+            builder.language(lang);
+            if (!dataType.isEmpty()) {
+                builder.dataType(dataType);
+            }
+            return builder;
+        }
+
+        private RDFNode readNode() throws IOException {
+            byte kind = in.readByte();
+            if (kind == IRI_NODE) {
+                return ResourceFactory.createResource(readString());
+            }
+            if (kind == LITERAL_NODE) {
+                String lexicalForm = readString();
+                String lang = readString();
+                String dataType = readString();
+                if (!lang.isEmpty()) {
+                    return ResourceFactory.createLangLiteral(lexicalForm, lang);
+                }
+                return ResourceFactory.createTypedLiteral(lexicalForm, NodeFactory.getType(dataType));
+            }
+            return null;
+        }
+
+        private String readString() throws IOException {
+            return strings[in.readInt()];
+        }
+    }
+
+    /**
+     * Functional interface of the term map builder constructors.
+     *
+     * @param <B> the type of term map builder created
+     */
+    @FunctionalInterface
+    private interface TermMapBuilderFactory<B> {
+
+        B create(RDFNode baseValue, ValuedType valuedType);
+    }
+}
@@ -84,6 +84,9 @@ public class RefObjectMap implements NodeMap {
     @Override
     public RDFNode generateNodeTerm(Entity entity) {
         RDFNode term = parentTriplesMap.generateEntityTerm(entity);
+        if (term == null) {
+            return null;
+        }
         if (term.isLiteral()) {
             throw new MapperException("RefObjectMap should only return IRI.");
         }
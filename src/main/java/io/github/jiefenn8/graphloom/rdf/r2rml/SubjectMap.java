@@ -22,6 +22,7 @@ public class SubjectMap extends AbstractTermMap implements PropertyMap {
 
     private final UUID uuid = UUID.randomUUID();
     private final Set<Resource> classes;
+    private final transient List<Resource> classList;
 
     /**
      * Constructs a SubjectMap with the specified TermMap Builder containing the
@@ -32,6 +33,7 @@ public class SubjectMap extends AbstractTermMap implements PropertyMap {
     private SubjectMap(Builder builder) {
         super(builder);
         this.classes = Set.copyOf(builder.classes);
+        this.classList = List.copyOf(classes);
     }
 
     @Override
@@ -42,7 +44,7 @@ public class SubjectMap extends AbstractTermMap implements PropertyMap {
 
     @Override
     public List<Resource> listEntityClasses() {
-        return new ArrayList<>(classes);
+        return classList;
     }
 
     @Override
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityLayout;
+import io.github.jiefenn8.graphloom.exceptions.MapperException;
+
+import java.util.*;
+
+/**
+ * This class defines the base methods that manages a R2RML template string
+ * compiled into its literal segments and the column name slots between them.
+ * A template is compiled once and rendered for each entity in a single pass
+ * without the need of any pattern matching. Template syntax rules as follows:
+ * <p>
+ * - At least one column name in template.
+ * - Column names are enclosed by curly braces '{column_name}'.
+ * - Any curly braces or backslashes outside of a column name must be escaped
+ * with a backslash.
+ * - Multiple column names should be separate from each other.
+ * <p>
+ * When rendered for an IRI term, each value is made IRI-safe before being
+ * placed into the template as defined by R2RML; Any character that is not
+ * unreserved in RFC 3987 is replaced by the percent-encoding of its UTF-8
+ * octets. Values of other term types are placed as they are.
+ */
+public class Template {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final boolean[] ASCII_UNRESERVED = new boolean[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            ASCII_UNRESERVED[c] = true;
+            ASCII_UNRESERVED[Character.toLowerCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ASCII_UNRESERVED[c] = true;
+        }
+        for (char c : "-._~".toCharArray()) {
+            ASCII_UNRESERVED[c] = true;
+        }
+    }
+
+    private final String[] segments;
+    private final String[] columns;
+    private final int segmentsLength;
+
+    /**
+     * Constructs a Template with the specified literal segments and the
+     * column names that are placed between them.
+     *
+     * @param segments the literal segments; one more than the columns
+     * @param columns  the column names between each segment
+     */
+    private Template(List<String> segments, List<String> columns) {
+        this.segments = segments.toArray(String[]::new);
+        this.columns = columns.toArray(String[]::new);
+        this.segmentsLength = segments.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Returns the given template string compiled into a template instance.
+     *
+     * @param template the template string to compile
+     * @return the compiled template
+     * @throws MapperException if the template is not valid
+     */
+    public static Template compile(String template) {
+        Objects.requireNonNull(template, "Template must not be null.");
+        List<String> segments = new ArrayList<>();
+        List<String> columns = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean inColumn = false;
+        for (int i = 0; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c == '\\' && i + 1 < template.length()) {
+                token.append(template.charAt(++i));
+            } else if (c == '{' && !inColumn) {
+                segments.add(token.toString());
+                token.setLength(0);
+                inColumn = true;
+            } else if (c == '}' && inColumn) {
+                if (token.length() == 0) {
+                    throw new MapperException("Template " + template + " has an empty column name.");
+                }
+                columns.add(token.toString());
+                token.setLength(0);
+                inColumn = false;
+            } else {
+                token.append(c);
+            }
+        }
+        if (inColumn) {
+            throw new MapperException("Template " + template + " has an unclosed column name.");
+        }
+        if (columns.isEmpty()) {
+            throw new MapperException("Template given cannot be matched. Must have: {name}.");
+        }
+        segments.add(token.toString());
+        return new Template(segments, columns);
+    }
+
+    /**
+     * Returns the set of column names in this template in order of
+     * appearance.
+     *
+     * @return the set of column names in this template
+     */
+    public Set<String> listColumns() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(columns)));
+    }
+
+    /**
+     * Returns the positions of the column names in this template resolved
+     * against the given layout, in order of appearance. Any column name not
+     * found in the layout has a position of -1.
+     *
+     * @param layout the layout to resolve the column names with
+     * @return the positions of each column name in the layout
+     */
+    public int[] bind(EntityLayout layout) {
+        int[] slots = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            slots[i] = layout.indexOf(columns[i]);
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the template rendered with the values of the column names
+     * retrieved from the given entity, for an IRI term. Each value is made
+     * IRI-safe before being placed into the template. Returns null if any
+     * value is null.
+     *
+     * @param entity the entity source containing the values
+     * @return the rendered template, otherwise null if any value is null
+     */
+    public String render(Entity entity) {
+        return render(entity, null);
+    }
+
+    /**
+     * Returns the template rendered with the values retrieved from the
+     * given entity by the positions given; as resolved with {@link #bind}
+     * against the layout of the entity, for an IRI term. If no positions
+     * are given, the values are retrieved by column name instead. Returns
+     * null if any value is null.
+     *
+     * @param entity the entity source containing the values
+     * @param slots  the positions of the column values, or null
+     * @return the rendered template, otherwise null if any value is null
+     */
+    public String render(Entity entity, int[] slots) {
+        return render(entity, slots, true);
+    }
+
+    /**
+     * Returns the template rendered with the values retrieved from the
+     * given entity by the positions given, or by column name if none are
+     * given. The values are made IRI-safe only if iriSafe is true; i.e. the
+     * template generates IRI terms. Returns null if any value is null.
+     *
+     * @param entity  the entity source containing the values
+     * @param slots   the positions of the column values, or null
+     * @param iriSafe true to make each value IRI-safe
+     * @return the rendered template, otherwise null if any value is null
+     */
+    public String render(Entity entity, int[] slots, boolean iriSafe) {
+        String[] values = new String[columns.length];
+        int length = segmentsLength;
+        for (int i = 0; i < columns.length; i++) {
+            String value = getValue(entity, i, slots);
+            if (value == null) {
+                return null;
+            }
+            values[i] = value;
+            length += value.length();
+        }
+        StringBuilder builder = new StringBuilder(length);
+        builder.append(segments[0]);
+        for (int i = 0; i < values.length; i++) {
+            if (iriSafe) {
+                appendIRISafe(builder, values[i]);
+            } else {
+                builder.append(values[i]);
+            }
+            builder.append(segments[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the given value made IRI-safe; The same instance if no
+     * character needs to be replaced.
+     *
+     * @param value the value to make IRI-safe
+     * @return the IRI-safe value
+     */
+    static String encodeIRISafe(String value) {
+        int start = indexOfUnsafe(value);
+        if (start < 0) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length() + 16);
+        appendIRISafe(builder, value, start);
+        return builder.toString();
+    }
+
+    private static void appendIRISafe(StringBuilder builder, String value) {
+        int start = indexOfUnsafe(value);
+        if (start < 0) {
+            builder.append(value);
+            return;
+        }
+        appendIRISafe(builder, value, start);
+    }
+
+    /**
+     * Appends the given value to the builder, copying the characters before
+     * the given position as is and percent-encoding any character from the
+     * position onwards that is not unreserved. An unpaired surrogate is
+     * encoded as the replacement character U+FFFD.
+     *
+     * @param builder the builder to append to
+     * @param value   the value to append
+     * @param start   the position of the first character to encode
+     */
+    private static void appendIRISafe(StringBuilder builder, String value, int start) {
+        builder.append(value, 0, start);
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 128 ? ASCII_UNRESERVED[c] : !Character.isSurrogate(c) && isUnreserved(c)) {
+                builder.append(c);
+            } else if (!Character.isSurrogate(c)) {
+                appendPercentEncoded(builder, c);
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                if (isUnreserved(codePoint)) {
+                    builder.append(c).append(value.charAt(i));
+                } else {
+                    appendPercentEncoded(builder, codePoint);
+                }
+            } else {
+                appendPercentEncoded(builder, 0xFFFD);
+            }
+        }
+    }
+
+    private static int indexOfUnsafe(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 128) {
+                if (!ASCII_UNRESERVED[c]) {
+                    return i;
+                }
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                if (!isUnreserved(Character.toCodePoint(c, value.charAt(++i)))) {
+                    return i - 1;
+                }
+            } else if (!isUnreserved(c)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the given code point is in the iunreserved production
+     * of RFC 3987; Letters, digits, '-', '.', '_', '~' and the ucschar
+     * ranges. Private use characters and the last two code points of each
+     * plane are not unreserved.
+     *
+     * @param codePoint the code point to check
+     * @return true if the code point does not need to be encoded
+     */
+    private static boolean isUnreserved(int codePoint) {
+        if (codePoint < 128) {
+            return ASCII_UNRESERVED[codePoint];
+        }
+        if (codePoint < 0x10000) {
+            return (codePoint >= 0xA0 && codePoint <= 0xD7FF)
+                    || (codePoint >= 0xF900 && codePoint <= 0xFDCF)
+                    || (codePoint >= 0xFDF0 && codePoint <= 0xFFEF);
+        }
+        return codePoint <= 0xEFFFD && (codePoint & 0xFFFE) != 0xFFFE
+                && (codePoint < 0xE0000 || codePoint >= 0xE1000);
+    }
+
+    private static void appendPercentEncoded(StringBuilder builder, int codePoint) {
+        if (codePoint < 0x80) {
+            appendOctet(builder, codePoint);
+        } else if (codePoint < 0x800) {
+            appendOctet(builder, 0xC0 | (codePoint >> 6));
+            appendOctet(builder, 0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            appendOctet(builder, 0xE0 | (codePoint >> 12));
+            appendOctet(builder, 0x80 | ((codePoint >> 6) & 0x3F));
+            appendOctet(builder, 0x80 | (codePoint & 0x3F));
+        } else {
+            appendOctet(builder, 0xF0 | (codePoint >> 18));
+            appendOctet(builder, 0x80 | ((codePoint >> 12) & 0x3F));
+            appendOctet(builder, 0x80 | ((codePoint >> 6) & 0x3F));
+            appendOctet(builder, 0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private static void appendOctet(StringBuilder builder, int octet) {
+        builder.append('%').append(HEX_DIGITS[octet >> 4]).append(HEX_DIGITS[octet & 0xF]);
+    }
+
+    private String getValue(Entity entity, int column, int[] slots) {
+        if (slots == null) {
+            return entity.getPropertyValue(columns[column]);
+        }
+        return slots[column] < 0 ? null : entity.getPropertyValue(slots[column]);
+    }
+}
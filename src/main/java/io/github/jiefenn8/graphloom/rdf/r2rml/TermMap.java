@@ -8,6 +8,8 @@ package io.github.jiefenn8.graphloom.rdf.r2rml;
 import io.github.jiefenn8.graphloom.api.inputsource.Entity;
 import org.apache.jena.rdf.model.RDFNode;
 
+import java.util.Set;
+
 /**
  * This interface defines the base methods that manages the common mapping of
  * any given source to their respective rdf terms.
@@ -24,6 +26,15 @@ public interface TermMap {
      */
     RDFNode generateRDFTerm(Entity entity);
 
+    /**
+     * Returns the set of column names that this term map reads from an
+     * entity to generate its term. Returns an empty set if the term does
+     * not depend on any entity data.
+     *
+     * @return the set of column names referenced by this term map
+     */
+    Set<String> listReferencedColumns();
+
     /**
      * The TermType to return generated term as.
      */
@@ -8,19 +8,18 @@ package io.github.jiefenn8.graphloom.rdf.r2rml;
 import com.google.gson.GsonBuilder;
 import io.github.jiefenn8.graphloom.api.*;
 import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.exceptions.MapperException;
+import io.github.jiefenn8.graphloom.rdf.r2rml.AbstractTermMap.ValuedType;
 import io.github.jiefenn8.graphloom.util.GsonHelper;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.jena.rdf.model.Model;
-import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.vocabulary.RDF;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * Implementation of R2RML TriplesMap with {@link EntityMap} interface.
@@ -34,6 +33,11 @@ public class TriplesMap implements EntityMap {
     private final SubjectMap subjectMap;
     private final Map<RelationMap, ObjectMap> predicateObjectMaps;
     private final Map<RelationMap, RefObjectMap> predicateRefObjectMaps;
+    private final transient Resource[] entityClasses;
+    private final transient Property[] constantPredicates;
+    private final transient RDFNode[] constantObjects;
+    private final transient RelationMap[] relationMaps;
+    private final transient ObjectMap[] objectMaps;
 
     /**
      * Constructs a TriplesMap with the specified Builder containing the
@@ -48,6 +52,25 @@ public class TriplesMap implements EntityMap {
         subjectMap = builder.subjectMap;
         predicateObjectMaps = Map.copyOf(builder.predicateObjectMaps);
         predicateRefObjectMaps = Map.copyOf(builder.predicateRefObjectMaps);
+        entityClasses = subjectMap.listEntityClasses().toArray(new Resource[0]);
+        List<Property> predicates = new ArrayList<>();
+        List<RDFNode> objects = new ArrayList<>();
+        List<RelationMap> relations = new ArrayList<>();
+        List<ObjectMap> nodes = new ArrayList<>();
+        predicateObjectMaps.forEach((r, n) -> {
+            Property predicate = r instanceof PredicateMap ? ((PredicateMap) r).getConstantProperty() : null;
+            if (predicate != null && n.getValuedType() == ValuedType.CONSTANT && n.getBaseValue() != null) {
+                predicates.add(predicate);
+                objects.add(n.getBaseValue());
+            } else {
+                relations.add(r);
+                nodes.add(n);
+            }
+        });
+        constantPredicates = predicates.toArray(new Property[0]);
+        constantObjects = objects.toArray(new RDFNode[0]);
+        relationMaps = relations.toArray(new RelationMap[0]);
+        objectMaps = nodes.toArray(new ObjectMap[0]);
     }
 
     @Override
@@ -61,39 +84,213 @@ public class TriplesMap implements EntityMap {
     }
 
     @Override
-    public Model generateClassTerms(Resource term) {
-        Model model = ModelFactory.createDefaultModel();
-        subjectMap.listEntityClasses().forEach((c) -> {
-            model.add(term, RDF.type, c);
-        });
-        return model;
+    public void emitClassTerms(Resource term, TripleSink sink) {
+        for (Resource c : entityClasses) {
+            sink.triple(term, RDF.type, c);
+        }
     }
 
+    /**
+     * Emits the triples of each predicate object map of the given entity.
+     * The predicate and object of each pair where both are constant valued
+     * are resolved once when this triples map is built, so only the term
+     * maps depending on the entity are evaluated for each entity.
+     *
+     * @param term   of the entity that represent this entity map
+     * @param entity containing the entity data to generate the terms
+     * @param sink   the sink to receive the triples of the entity
+     */
     @Override
-    public Model generateNodeTerms(Resource term, Entity entity) {
-        Model model = ModelFactory.createDefaultModel();
-        predicateObjectMaps.forEach((r, n) -> {
-            RDFNode node = n.generateNodeTerm(entity);
+    public void emitNodeTerms(Resource term, Entity entity, TripleSink sink) {
+        for (int i = 0; i < constantPredicates.length; i++) {
+            sink.triple(term, constantPredicates[i], constantObjects[i]);
+        }
+        for (int i = 0; i < objectMaps.length; i++) {
+            RDFNode node = objectMaps[i].generateNodeTerm(entity);
             if (node != null) {
-                model.add(term, r.generateRelationTerm(entity), n.generateNodeTerm(entity));
+                sink.triple(term, relationMaps[i].generateRelationTerm(entity), node);
             }
-        });
-        return model;
+        }
     }
 
     @Override
-    public Model generateRefNodeTerms(Resource term, InputSource source) {
-        Model model = ModelFactory.createDefaultModel();
+    public void emitRefNodeTerms(Resource term, InputSource source, TripleSink sink) {
         predicateRefObjectMaps.forEach((r, n) -> {
             LogicalTable jointLogicalTable = logicalTable.asJointLogicalTable(n);
             jointLogicalTable.forEachEntity(source, (e) -> {
                 RDFNode node = n.generateNodeTerm(e);
                 if (node != null) {
-                    model.add(term, r.generateRelationTerm(e), node);
+                    sink.triple(term, r.generateRelationTerm(e), node);
                 }
             });
         });
-        return model;
+    }
+
+    /**
+     * Returns an emitter of the reference triples of an entity. Every ref
+     * object map with join conditions has the logical table of its parent
+     * triples map read once into a {@link HashJoinIndex} that each entity
+     * of this triples map is probed against. Ref object maps without join
+     * conditions share the logical table of this triples map and generate
+     * the parent term from the entity itself.
+     *
+     * @param source containing the data source to query data
+     * @return the emitter of the reference triples of an entity
+     * @throws MapperException if a ref object map without join conditions
+     *                         does not share the logical table
+     */
+    @Override
+    public RefNodeEmitter prepareRefNodeTerms(InputSource source) {
+        if (predicateRefObjectMaps.isEmpty()) {
+            return (term, entity, sink) -> {
+            };
+        }
+        Map<RelationMap, HashJoinIndex> joinIndexes = new HashMap<>();
+        predicateRefObjectMaps.forEach((r, n) -> {
+            if (n.hasJoinCondition()) {
+                joinIndexes.put(r, HashJoinIndex.build(n, source));
+            } else if (!n.isQueryEqual(logicalTable)) {
+                throw new MapperException("RefObjectMap without JoinConditions must share the same logical table.");
+            }
+        });
+        return (term, entity, sink) -> predicateRefObjectMaps.forEach((r, n) -> {
+            HashJoinIndex joinIndex = joinIndexes.get(r);
+            if (joinIndex == null) {
+                RDFNode node = n.generateNodeTerm(entity);
+                if (node != null) {
+                    sink.triple(term, r.generateRelationTerm(entity), node);
+                }
+                return;
+            }
+            List<RDFNode> nodes = joinIndex.probe(entity);
+            if (!nodes.isEmpty()) {
+                Property relation = r.generateRelationTerm(entity);
+                nodes.forEach((node) -> sink.triple(term, relation, node));
+            }
+        });
+    }
+
+    /**
+     * Emits the reference triples of every entity in this triples map. Each
+     * ref object map with join conditions is executed as one joint query that
+     * selects the columns needed for the subject and predicate terms from
+     * this logical table, and for the object term from the parent logical
+     * table. Ref object maps without join conditions are generated from a
+     * single read of this logical table.
+     *
+     * @param source containing the data source to query data
+     * @param sink   the sink to receive the reference triples
+     */
+    @Override
+    public void emitJointRefNodeTerms(InputSource source, TripleSink sink) {
+        predicateRefObjectMaps.forEach((r, n) -> {
+            if (!n.hasJoinCondition()) {
+                logicalTable.forEachEntity(source, (e) -> emitRefNodeTerm(e, e, r, n, sink));
+                return;
+            }
+            Set<String> childColumns = new LinkedHashSet<>(subjectMap.listReferencedColumns());
+            if (r instanceof TermMap) {
+                childColumns.addAll(((TermMap) r).listReferencedColumns());
+            }
+            Set<String> parentColumns = n.getParentTriplesMap().getSubjectMap().listReferencedColumns();
+            logicalTable.asJointLogicalTable(n, childColumns, parentColumns).forEachEntity(source, (e) -> {
+                Entity child = new JointEntity(e, JointEntity.CHILD);
+                Entity parent = new JointEntity(e, JointEntity.PARENT);
+                emitRefNodeTerm(child, parent, r, n, sink);
+            });
+        });
+    }
+
+    /**
+     * Emits the reference triple of the given child and parent entity if
+     * both the subject and object term can be generated.
+     *
+     * @param child  the entity to generate the subject and predicate from
+     * @param parent the entity to generate the object from
+     * @param r      the relation map to generate the predicate
+     * @param n      the ref object map to generate the object
+     * @param sink   the sink to receive the reference triple
+     */
+    private void emitRefNodeTerm(Entity child, Entity parent, RelationMap r, RefObjectMap n, TripleSink sink) {
+        Resource term = subjectMap.generateEntityTerm(child);
+        if (term == null) {
+            return;
+        }
+        RDFNode node = n.generateNodeTerm(parent);
+        if (node != null) {
+            sink.triple(term, r.generateRelationTerm(child), node);
+        }
+    }
+
+    /**
+     * Returns the set of column names referenced by this triples map from
+     * its logical table, in alphabetical order. This includes the columns of
+     * the subject map, each predicate and object map, the child columns of
+     * each join condition and the columns of the parent subject map of each
+     * ref object map without join conditions.
+     *
+     * @return the set of column names referenced from the logical table
+     */
+    public Set<String> listReferencedColumns() {
+        Set<String> columns = new TreeSet<>(subjectMap.listReferencedColumns());
+        predicateObjectMaps.forEach((r, n) -> {
+            addReferencedColumns(r, columns);
+            addReferencedColumns(n, columns);
+        });
+        predicateRefObjectMaps.forEach((r, n) -> {
+            addReferencedColumns(r, columns);
+            if (n.hasJoinCondition()) {
+                n.listJoinConditions().forEach((j) -> columns.add(j.getChild()));
+            } else {
+                columns.addAll(n.getParentTriplesMap().getSubjectMap().listReferencedColumns());
+            }
+        });
+        return columns;
+    }
+
+    private void addReferencedColumns(Object map, Set<String> columns) {
+        if (map instanceof TermMap) {
+            columns.addAll(((TermMap) map).listReferencedColumns());
+        }
+    }
+
+    /**
+     * Returns the predicate maps of this triples map paired with the object
+     * map each generates the object terms with.
+     *
+     * @return the map of predicate maps to object maps
+     */
+    Map<RelationMap, ObjectMap> getPredicateObjectMaps() {
+        return predicateObjectMaps;
+    }
+
+    /**
+     * Returns the predicate maps of this triples map paired with the ref
+     * object map each generates the object terms with.
+     *
+     * @return the map of predicate maps to ref object maps
+     */
+    Map<RelationMap, RefObjectMap> getPredicateRefObjectMaps() {
+        return predicateRefObjectMaps;
+    }
+
+    /**
+     * Returns the ref object maps of this triples map.
+     *
+     * @return the collection of ref object maps
+     */
+    Collection<RefObjectMap> listRefObjectMaps() {
+        return predicateRefObjectMaps.values();
+    }
+
+    /**
+     * Returns the subject map that generates the entity terms of this
+     * triples map.
+     *
+     * @return the subject map of this triples map
+     */
+    public SubjectMap getSubjectMap() {
+        return subjectMap;
     }
 
     @Override
@@ -106,6 +303,11 @@ public class TriplesMap implements EntityMap {
         return !predicateObjectMaps.isEmpty();
     }
 
+    @Override
+    public int countNodeMapPairs() {
+        return predicateObjectMaps.size();
+    }
+
     @Override
     public String toString() {
         return GsonHelper.loadTypeAdapters(new GsonBuilder())
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.sink;
+
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import io.github.jiefenn8.graphloom.exceptions.ParserException;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.rdf.model.AnonId;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.impl.ResourceImpl;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class reads a stream written by {@link BinaryRDFSink} and hands its
+ * prefixes and triples to a sink. Each term is created once when its record
+ * is read and reused by every triple referring to its id, until the terms
+ * are reset. Blank nodes keep their labels so that a blank node written
+ * again after a reset is the same node.
+ */
+public final class BinaryRDFReader {
+
+    private final DataInputStream in;
+    private final List<RDFNode> terms = new ArrayList<>();
+
+    private BinaryRDFReader(InputStream in) {
+        this.in = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+    }
+
+    /**
+     * Reads the binary rdf stream from the given input stream and hands the
+     * prefixes and triples to the given sink, in the order they were
+     * written. The input stream is not closed by this method.
+     *
+     * @param in   the stream to read from
+     * @param sink the sink to receive the prefixes and triples
+     * @throws IOException     if the stream cannot be read
+     * @throws ParserException if the stream is not a complete binary rdf
+     *                         stream of this version
+     */
+    public static void read(InputStream in, TripleSink sink) throws IOException {
+        Objects.requireNonNull(in, "Input stream must not be null.");
+        Objects.requireNonNull(sink, "Sink must not be null.");
+        new BinaryRDFReader(in).readTo(sink);
+    }
+
+    private void readTo(TripleSink sink) throws IOException {
+        byte[] magic = new byte[BinaryRDFSink.MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, BinaryRDFSink.MAGIC)) {
+            throw new ParserException("Stream does not contain binary RDF.");
+        }
+        int version = in.readUnsignedByte();
+        if (version != BinaryRDFSink.VERSION) {
+            throw new ParserException("Unsupported binary RDF version " + version + ".");
+        }
+        sink.start();
+        while (true) {
+            int tag = in.read();
+            switch (tag) {
+                case BinaryRDFSink.END -> {
+                    sink.finish();
+                    return;
+                }
+                case BinaryRDFSink.PREFIX -> sink.prefix(readString(), readString());
+                case BinaryRDFSink.IRI -> terms.add(ResourceFactory.createProperty(readString()));
+                case BinaryRDFSink.BLANK -> terms.add(new ResourceImpl(AnonId.create(readString())));
+                case BinaryRDFSink.SIMPLE_LITERAL -> terms.add(ResourceFactory.createStringLiteral(readString()));
+                case BinaryRDFSink.LANG_LITERAL -> terms.add(ResourceFactory.createLangLiteral(readString(),
+                        readString()));
+                case BinaryRDFSink.TYPED_LITERAL -> {
+                    String lexicalForm = readString();
+                    String dataType = readTerm().asResource().getURI();
+                    terms.add(ResourceFactory.createTypedLiteral(lexicalForm, NodeFactory.getType(dataType)));
+                }
+                case BinaryRDFSink.TRIPLE -> {
+                    Resource subject = readTerm().asResource();
+                    RDFNode predicate = readTerm();
+                    if (!(predicate instanceof Property)) {
+                        throw new ParserException("Binary RDF predicate " + predicate + " is not an IRI.");
+                    }
+                    sink.triple(subject, (Property) predicate, readTerm());
+                }
+                case BinaryRDFSink.RESET -> terms.clear();
+                case -1 -> throw new ParserException("Binary RDF stream ended before its end record.");
+                default -> throw new ParserException("Unknown binary RDF record " + tag + ".");
+            }
+        }
+    }
+
+    private RDFNode readTerm() throws IOException {
+        int id = readVarInt();
+        if (id >= terms.size()) {
+            throw new ParserException("Binary RDF refers to undefined term " + id + ".");
+        }
+        return terms.get(id);
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new ParserException("Malformed variable-length integer in binary RDF.");
+    }
+
+    private String readString() throws IOException {
+        byte[] bytes = new byte[readVarInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.sink;
+
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link TripleSink} interface that writes the triples in
+ * the GraphLoom binary RDF format; A stream of records where each term is
+ * written once, the first time it is used, and each triple is written as
+ * the ids of its three terms. Reading the stream back with
+ * {@link BinaryRDFReader} never parses an IRI or literal more than once.
+ * <p>
+ * The stream starts with the magic bytes {@code GLRB} and a version byte,
+ * followed by records that each start with a tag byte:
+ * <ul>
+ * <li>prefix: the prefix and namespace as strings</li>
+ * <li>IRI, blank node or simple literal: the IRI, label or lexical form as
+ * a string; The term is given the next id, starting from zero</li>
+ * <li>language-tagged literal: the lexical form and language tag as
+ * strings</li>
+ * <li>typed literal: the lexical form as a string and the id of the
+ * datatype IRI</li>
+ * <li>triple: the ids of the subject, predicate and object</li>
+ * <li>reset: every term written before is forgotten; The next term is given
+ * the id zero again</li>
+ * <li>end: the last record of a complete stream</li>
+ * </ul>
+ * Ids and string lengths are written as unsigned variable-length integers
+ * of seven bits per byte; Strings as their UTF-8 bytes.
+ * <p>
+ * The terms kept to look up their ids are bounded by the max terms of the
+ * sink. Once the next triple could exceed it, a reset record is written and
+ * the terms are written again as they are used, so that the memory of both
+ * the sink and the reader stays bounded on a stream of any size.
+ * <p>
+ * This class is not thread-safe; The id of each term depends on the order
+ * the triples are written in.
+ */
+public class BinaryRDFSink implements TripleSink, AutoCloseable {
+
+    static final byte[] MAGIC = {'G', 'L', 'R', 'B'};
+    static final int VERSION = 2;
+    static final int END = 0;
+    static final int PREFIX = 1;
+    static final int IRI = 2;
+    static final int BLANK = 3;
+    static final int SIMPLE_LITERAL = 4;
+    static final int LANG_LITERAL = 5;
+    static final int TYPED_LITERAL = 6;
+    static final int TRIPLE = 7;
+    static final int RESET = 8;
+    private static final int TERMS_PER_TRIPLE = 4;
+    private static final String XSD_STRING = XSDDatatype.XSDstring.getURI();
+    private final TermDictionary dictionary = new TermDictionary();
+    private final WritableByteChannel channel;
+    private final boolean ownsChannel;
+    private final ByteBuffer buffer;
+    private final int maxTerms;
+    private long size;
+
+    /**
+     * Constructs a BinaryRDFSink with the specified Builder containing the
+     * channel and options to populate and initialise this instance.
+     *
+     * @param builder the binary rdf sink builder to build from
+     */
+    private BinaryRDFSink(Builder builder) {
+        ownsChannel = builder.channel == null;
+        channel = ownsChannel ? openFile(builder.file) : builder.channel;
+        buffer = ByteBuffer.allocateDirect(builder.bufferSize);
+        maxTerms = builder.maxTerms;
+        buffer.put(MAGIC);
+        buffer.put((byte) VERSION);
+    }
+
+    private static WritableByteChannel openFile(Path file) {
+        try {
+            return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open output file " + file + ".", ex);
+        }
+    }
+
+    @Override
+    public void prefix(String prefix, String uri) {
+        putTag(PREFIX);
+        putString(prefix);
+        putString(uri);
+    }
+
+    @Override
+    public void triple(Resource subject, Property predicate, RDFNode object) {
+        if (dictionary.size() > maxTerms - TERMS_PER_TRIPLE) {
+            putTag(RESET);
+            dictionary.clear();
+        }
+        int s = encode(subject.asNode());
+        int p = encode(predicate.asNode());
+        int o = encode(object.asNode());
+        putTag(TRIPLE);
+        putVarInt(s);
+        putVarInt(p);
+        putVarInt(o);
+        size++;
+    }
+
+    /**
+     * Writes the end record and all buffered records to the channel.
+     */
+    @Override
+    public void finish() {
+        putTag(END);
+        flush();
+    }
+
+    /**
+     * Returns the number of triples written by this sink.
+     *
+     * @return the number of triples received
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Writes all buffered records to the channel and closes it if it was
+     * opened by this sink. A channel given to this sink is left open.
+     */
+    @Override
+    public void close() {
+        flush();
+        if (!ownsChannel) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to close output channel.", ex);
+        }
+    }
+
+    /**
+     * Returns the id of the given term, writing its record first if the
+     * term has not been written before.
+     *
+     * @param term the term to encode
+     * @return the id of the term
+     */
+    private int encode(Node term) {
+        int id = dictionary.lookup(term);
+        if (id >= 0) {
+            return id;
+        }
+        if (term.isURI()) {
+            putTag(IRI);
+            putString(term.getURI());
+        } else if (term.isBlank()) {
+            putTag(BLANK);
+            putString(term.getBlankNodeLabel());
+        } else {
+            writeLiteral(term);
+        }
+        return dictionary.encode(term);
+    }
+
+    private void writeLiteral(Node term) {
+        String lang = term.getLiteralLanguage();
+        String dataType = term.getLiteralDatatypeURI();
+        if (!lang.isEmpty()) {
+            putTag(LANG_LITERAL);
+            putString(term.getLiteralLexicalForm());
+            putString(lang);
+        } else if (dataType == null || dataType.equals(XSD_STRING)) {
+            putTag(SIMPLE_LITERAL);
+            putString(term.getLiteralLexicalForm());
+        } else {
+            int dataTypeId = encode(NodeFactory.createURI(dataType));
+            putTag(TYPED_LITERAL);
+            putString(term.getLiteralLexicalForm());
+            putVarInt(dataTypeId);
+        }
+    }
+
+    private void putTag(int tag) {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) tag);
+    }
+
+    private void putVarInt(int value) {
+        if (buffer.remaining() < 5) {
+            flush();
+        }
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private void putString(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        putVarInt(bytes.length);
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write to output channel.", ex);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Builder class for BinaryRDFSink.
+     */
+    public static class Builder {
+
+        private final WritableByteChannel channel;
+        private final Path file;
+        private int bufferSize = 1 << 20;
+        private int maxTerms = 1 << 20;
+
+        /**
+         * Constructs a Builder with the specified channel to write the
+         * records to. The channel is not closed by the sink.
+         *
+         * @param channel the channel to write to
+         */
+        public Builder(WritableByteChannel channel) {
+            this.channel = Objects.requireNonNull(channel, "Channel must not be null.");
+            this.file = null;
+        }
+
+        /**
+         * Constructs a Builder with the specified file to write the records
+         * to. The file is created, or truncated if it exists, and closed
+         * when the sink is closed.
+         *
+         * @param file the file to write to
+         */
+        public Builder(Path file) {
+            this.channel = null;
+            this.file = Objects.requireNonNull(file, "File must not be null.");
+        }
+
+        /**
+         * Sets the number of bytes buffered before they are written to the
+         * channel. Defaults to 1 MB.
+         *
+         * @param bufferSize the number of bytes to buffer
+         * @return this builder for fluent method chaining
+         */
+        public Builder bufferSize(int bufferSize) {
+            if (bufferSize < 16) {
+                throw new IllegalArgumentException("Buffer size must be at least 16 bytes.");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of distinct terms kept before the sink resets its
+         * terms, bounding the memory used to write and read the stream. A
+         * larger number writes repeated terms less often. Defaults to
+         * 1048576.
+         *
+         * @param maxTerms the number of terms to keep
+         * @return this builder for fluent method chaining
+         */
+        public Builder maxTerms(int maxTerms) {
+            if (maxTerms < TERMS_PER_TRIPLE) {
+                throw new IllegalArgumentException("Max terms must be at least " + TERMS_PER_TRIPLE + ".");
+            }
+            this.maxTerms = maxTerms;
+            return this;
+        }
+
+        /**
+         * Returns an instance of binary rdf sink with the channel and options
+         * given to its builder.
+         *
+         * @return instance of binary rdf sink created with this builder
+         */
+        public BinaryRDFSink build() {
+            return new BinaryRDFSink(this);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.sink;
+
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import org.apache.jena.graph.Factory;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link TripleSink} interface that keeps the mapped graph
+ * in memory as compact triples of term ids. Each term is encoded once into
+ * an id by a {@link TermDictionary} and each triple is stored as the three
+ * ids of its terms in segments of direct byte buffers outside of the Java
+ * heap; Or in segments mapped from a file if one is given. A stored triple
+ * takes 12 bytes however long its terms are.
+ * <p>
+ * The dictionary itself stays on the heap and holds every distinct term
+ * once. The heap used thus grows with the number of distinct terms rather
+ * than the number of triples; A result of many unique values (e.g. a
+ * literal per row) still needs heap for each of those values.
+ * <p>
+ * The buffered triples can be exported to a Jena graph or streamed to
+ * another sink in the order they were received. This class is not
+ * thread-safe; Triples must be added by one thread at a time, and the
+ * buffer only read once every triple is added.
+ */
+public class EncodedTripleBuffer implements TripleSink, AutoCloseable {
+
+    private static final int TRIPLE_BYTES = 3 * Integer.BYTES;
+    private final TermDictionary dictionary = new TermDictionary();
+    private final Map<String, String> prefixes = new LinkedHashMap<>();
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final int segmentBytes;
+    private final FileChannel channel;
+    private ByteBuffer segment;
+    private long size;
+
+    /**
+     * Constructs an EncodedTripleBuffer with the specified Builder containing
+     * the segment size and file to store the triples in.
+     *
+     * @param builder the encoded triple buffer builder to build from
+     */
+    private EncodedTripleBuffer(Builder builder) {
+        segmentBytes = builder.segmentSize * TRIPLE_BYTES;
+        if (builder.file == null) {
+            channel = null;
+            return;
+        }
+        try {
+            channel = FileChannel.open(builder.file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open triple buffer file " + builder.file + ".", ex);
+        }
+    }
+
+    @Override
+    public void prefix(String prefix, String uri) {
+        prefixes.put(prefix, uri);
+    }
+
+    @Override
+    public void triple(Resource subject, Property predicate, RDFNode object) {
+        if (segment == null || !segment.hasRemaining()) {
+            segment = allocateSegment();
+            segments.add(segment);
+        }
+        segment.putInt(dictionary.encode(subject.asNode()));
+        segment.putInt(dictionary.encode(predicate.asNode()));
+        segment.putInt(dictionary.encode(object.asNode()));
+        size++;
+    }
+
+    /**
+     * Returns a new segment to store the next triples in; Either allocated
+     * outside of the heap or mapped from the end of the file.
+     *
+     * @return the segment for the next triples
+     */
+    private ByteBuffer allocateSegment() {
+        if (channel == null) {
+            return ByteBuffer.allocateDirect(segmentBytes);
+        }
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, (long) segments.size() * segmentBytes, segmentBytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to map triple buffer segment.", ex);
+        }
+    }
+
+    /**
+     * Returns the number of triples in this buffer.
+     *
+     * @return the number of triples received
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the dictionary of the terms in this buffer.
+     *
+     * @return the term dictionary of this buffer
+     */
+    public TermDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Returns the namespace prefixes received by this buffer.
+     *
+     * @return the map of prefixes to namespace URIs
+     */
+    public Map<String, String> getNsPrefixMap() {
+        return prefixes;
+    }
+
+    /**
+     * Hands the term ids of every triple in this buffer to the given action,
+     * in the order the triples were received.
+     *
+     * @param action the action to receive the ids of each triple
+     */
+    public void forEachEncoded(EncodedTripleAction action) {
+        Objects.requireNonNull(action, "Action must not be null.");
+        for (ByteBuffer s : segments) {
+            ByteBuffer view = s.duplicate();
+            view.flip();
+            while (view.hasRemaining()) {
+                action.accept(view.getInt(), view.getInt(), view.getInt());
+            }
+        }
+    }
+
+    /**
+     * Streams every triple in this buffer to the given sink, along with
+     * the namespace prefixes received. The sink is started and finished as
+     * if it received the triples from the mapping itself.
+     *
+     * @param sink the sink to stream the triples to
+     */
+    public void forEach(TripleSink sink) {
+        Objects.requireNonNull(sink, "Sink must not be null.");
+        Model view = ModelFactory.createDefaultModel();
+        sink.start();
+        prefixes.forEach(sink::prefix);
+        forEachEncoded((s, p, o) -> sink.triple(
+                view.wrapAsResource(dictionary.decode(s)),
+                view.createProperty(dictionary.decode(p).getURI()),
+                view.asRDFNode(dictionary.decode(o))));
+        sink.finish();
+    }
+
+    /**
+     * Returns a new Jena graph containing every triple in this buffer, with
+     * the namespace prefixes received.
+     *
+     * @return the graph of the triples in this buffer
+     */
+    public Graph toGraph() {
+        Graph graph = Factory.createDefaultGraph();
+        graph.getPrefixMapping().setNsPrefixes(prefixes);
+        forEachEncoded((s, p, o) -> {
+            Node subject = dictionary.decode(s);
+            Node predicate = dictionary.decode(p);
+            Node object = dictionary.decode(o);
+            graph.add(Triple.create(subject, predicate, object));
+        });
+        return graph;
+    }
+
+    /**
+     * Releases the segments of this buffer and closes its file, if any.
+     * Direct and mapped segments are freed once they are garbage collected.
+     */
+    @Override
+    public void close() {
+        segments.clear();
+        segment = null;
+        size = 0;
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to close triple buffer file.", ex);
+        }
+    }
+
+    /**
+     * Functional interface of an action receiving the term ids of a triple.
+     */
+    @FunctionalInterface
+    public interface EncodedTripleAction {
+
+        /**
+         * Receives the term ids of a single triple.
+         *
+         * @param subject   the id of the subject term
+         * @param predicate the id of the predicate term
+         * @param object    the id of the object term
+         */
+        void accept(int subject, int predicate, int object);
+    }
+
+    /**
+     * Builder class for EncodedTripleBuffer.
+     */
+    public static class Builder {
+
+        private int segmentSize = 1 << 20;
+        private Path file;
+
+        /**
+         * Sets the number of triples stored in each segment of the buffer.
+         * Defaults to 1048576; 12 MB per segment.
+         *
+         * @param segmentSize the number of triples per segment
+         * @return this builder for fluent method chaining
+         */
+        public Builder segmentSize(int segmentSize) {
+            if (segmentSize < 1 || segmentSize > Integer.MAX_VALUE / TRIPLE_BYTES) {
+                throw new IllegalArgumentException("Segment size must be positive and fit in a byte buffer.");
+            }
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Sets the file to map the segments of the buffer from, instead of
+         * allocating them outside of the heap. The file is created, or
+         * truncated if it exists.
+         *
+         * @param file the file to store the triples in
+         * @return this builder for fluent method chaining
+         */
+        public Builder mappedFile(Path file) {
+            this.file = Objects.requireNonNull(file, "File must not be null.");
+            return this;
+        }
+
+        /**
+         * Returns an instance of encoded triple buffer with the options given
+         * to its builder.
+         *
+         * @return instance of encoded triple buffer created with this builder
+         */
+        public EncodedTripleBuffer build() {
+            return new EncodedTripleBuffer(this);
+        }
+    }
+}
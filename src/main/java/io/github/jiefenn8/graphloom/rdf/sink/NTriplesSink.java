@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.sink;
+
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.RDF;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link TripleSink} interface that writes each triple as
+ * a line of N-Triples to a byte channel; Or as a line of N-Quads if a graph
+ * name is given. Terms are escaped and encoded as UTF-8 directly into a
+ * single reused byte buffer that is written to the channel whenever it is
+ * full, so the mapped graph is never held in memory.
+ * <p>
+ * This class is not thread-safe, as every line is encoded into the same
+ * buffer.
+ */
+public class NTriplesSink implements TripleSink, AutoCloseable {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final String XSD_STRING = XSDDatatype.XSDstring.getURI();
+    private static final String RDF_LANG_STRING = RDF.getURI() + "langString";
+    private final WritableByteChannel channel;
+    private final boolean ownsChannel;
+    private final ByteBuffer buffer;
+    private final String graphName;
+    private long size;
+
+    /**
+     * Constructs a NTriplesSink with the specified Builder containing the
+     * channel and options to populate and initialise this instance.
+     *
+     * @param builder the n-triples sink builder to build from
+     */
+    private NTriplesSink(Builder builder) {
+        ownsChannel = builder.channel == null;
+        channel = ownsChannel ? openFile(builder.file) : builder.channel;
+        buffer = ByteBuffer.allocateDirect(builder.bufferSize);
+        graphName = builder.graphName;
+    }
+
+    private static WritableByteChannel openFile(Path file) {
+        try {
+            return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open output file " + file + ".", ex);
+        }
+    }
+
+    @Override
+    public void triple(Resource subject, Property predicate, RDFNode object) {
+        writeNode(subject.asNode());
+        put(' ');
+        writeNode(predicate.asNode());
+        put(' ');
+        writeNode(object.asNode());
+        if (graphName != null) {
+            put(' ');
+            writeIri(graphName);
+        }
+        put(' ');
+        put('.');
+        put('\n');
+        size++;
+    }
+
+    /**
+     * Writes all buffered lines to the channel.
+     */
+    @Override
+    public void finish() {
+        flush();
+    }
+
+    /**
+     * Returns the number of triples written by this sink.
+     *
+     * @return the number of triples received
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Writes all buffered lines to the channel and closes it if it was
+     * opened by this sink. A channel given to this sink is left open.
+     */
+    @Override
+    public void close() {
+        flush();
+        if (!ownsChannel) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to close output channel.", ex);
+        }
+    }
+
+    private void writeNode(Node node) {
+        if (node.isURI()) {
+            writeIri(node.getURI());
+        } else if (node.isBlank()) {
+            writeBlankNode(node.getBlankNodeLabel());
+        } else {
+            writeLiteral(node);
+        }
+    }
+
+    /**
+     * Writes an IRI reference; Characters that are not allowed in an IRI
+     * reference are written as a unicode escape.
+     *
+     * @param iri the IRI to write
+     */
+    private void writeIri(String iri) {
+        put('<');
+        for (int i = 0; i < iri.length(); i++) {
+            char c = iri.charAt(i);
+            switch (c) {
+                case '<', '>', '"', '{', '}', '|', '^', '`', '\\' -> putUnicodeEscape(c);
+                default -> {
+                    if (c <= 0x20) {
+                        putUnicodeEscape(c);
+                    } else {
+                        i = putChar(iri, i);
+                    }
+                }
+            }
+        }
+        put('>');
+    }
+
+    /**
+     * Writes a blank node with the given label. Characters that are not
+     * letters or digits, and the escape letter itself, are written as their
+     * hex code between two escape letters so that distinct labels are kept
+     * distinct.
+     *
+     * @param label the label of the blank node
+     */
+    private void writeBlankNode(String label) {
+        put('_');
+        put(':');
+        put('b');
+        for (int i = 0; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if (c < 0x80 && Character.isLetterOrDigit(c) && c != 'X') {
+                put(c);
+            } else {
+                put('X');
+                String hex = Integer.toHexString(c);
+                for (int j = 0; j < hex.length(); j++) {
+                    put(hex.charAt(j));
+                }
+                put('X');
+            }
+        }
+    }
+
+    /**
+     * Writes a literal with its language tag or datatype. The datatype is
+     * left out for simple and language-tagged literals.
+     *
+     * @param node the literal to write
+     */
+    private void writeLiteral(Node node) {
+        String lexicalForm = node.getLiteralLexicalForm();
+        put('"');
+        for (int i = 0; i < lexicalForm.length(); i++) {
+            char c = lexicalForm.charAt(i);
+            switch (c) {
+                case '"' -> putEscape('"');
+                case '\\' -> putEscape('\\');
+                case '\n' -> putEscape('n');
+                case '\r' -> putEscape('r');
+                case '\t' -> putEscape('t');
+                case '\b' -> putEscape('b');
+                case '\f' -> putEscape('f');
+                default -> {
+                    if (c < 0x20 || c == 0x7F) {
+                        putUnicodeEscape(c);
+                    } else {
+                        i = putChar(lexicalForm, i);
+                    }
+                }
+            }
+        }
+        put('"');
+        String lang = node.getLiteralLanguage();
+        if (!lang.isEmpty()) {
+            put('@');
+            for (int i = 0; i < lang.length(); i++) {
+                put(lang.charAt(i));
+            }
+            return;
+        }
+        String dataType = node.getLiteralDatatypeURI();
+        if (dataType != null && !dataType.equals(XSD_STRING) && !dataType.equals(RDF_LANG_STRING)) {
+            put('^');
+            put('^');
+            writeIri(dataType);
+        }
+    }
+
+    private void putEscape(char c) {
+        put('\\');
+        put(c);
+    }
+
+    private void putUnicodeEscape(char c) {
+        ensureRemaining(6);
+        buffer.put((byte) '\\');
+        buffer.put((byte) 'u');
+        buffer.put((byte) HEX[(c >> 12) & 0xF]);
+        buffer.put((byte) HEX[(c >> 8) & 0xF]);
+        buffer.put((byte) HEX[(c >> 4) & 0xF]);
+        buffer.put((byte) HEX[c & 0xF]);
+    }
+
+    /**
+     * Puts the character at the given index of the given string encoded as
+     * UTF-8. A surrogate pair is encoded as a single code point; A lone
+     * surrogate has no code point of its own and is encoded as the
+     * replacement character U+FFFD.
+     *
+     * @param s the string containing the character
+     * @param i the index of the character
+     * @return the index of the last character put
+     */
+    private int putChar(String s, int i) {
+        char c = s.charAt(i);
+        if (c < 0x80) {
+            put(c);
+            return i;
+        }
+        ensureRemaining(4);
+        if (c < 0x800) {
+            buffer.put((byte) (0xC0 | (c >> 6)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+            return i;
+        }
+        if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+            int codePoint = Character.toCodePoint(c, s.charAt(i + 1));
+            buffer.put((byte) (0xF0 | (codePoint >> 18)));
+            buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+            buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            return i + 1;
+        }
+        if (Character.isSurrogate(c)) {
+            c = '\uFFFD';
+        }
+        buffer.put((byte) (0xE0 | (c >> 12)));
+        buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (c & 0x3F)));
+        return i;
+    }
+
+    private void put(char c) {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) c);
+    }
+
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write to output channel.", ex);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Builder class for NTriplesSink.
+     */
+    public static class Builder {
+
+        private final WritableByteChannel channel;
+        private final Path file;
+        private int bufferSize = 1 << 20;
+        private String graphName;
+
+        /**
+         * Constructs a Builder with the specified channel to write the lines
+         * to. The channel is not closed by the sink.
+         *
+         * @param channel the channel to write to
+         */
+        public Builder(WritableByteChannel channel) {
+            this.channel = Objects.requireNonNull(channel, "Channel must not be null.");
+            this.file = null;
+        }
+
+        /**
+         * Constructs a Builder with the specified file to write the lines
+         * to. The file is created, or truncated if it exists, and closed
+         * when the sink is closed.
+         *
+         * @param file the file to write to
+         */
+        public Builder(Path file) {
+            this.channel = null;
+            this.file = Objects.requireNonNull(file, "File must not be null.");
+        }
+
+        /**
+         * Sets the number of bytes buffered before they are written to the
+         * channel. Defaults to 1 MB.
+         *
+         * @param bufferSize the number of bytes to buffer
+         * @return this builder for fluent method chaining
+         */
+        public Builder bufferSize(int bufferSize) {
+            if (bufferSize < 16) {
+                throw new IllegalArgumentException("Buffer size must be at least 16 bytes.");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Sets the graph name IRI written with every triple; Which writes
+         * N-Quads instead of N-Triples.
+         *
+         * @param graphName the IRI of the graph the triples belong to
+         * @return this builder for fluent method chaining
+         */
+        public Builder graphName(String graphName) {
+            this.graphName = Objects.requireNonNull(graphName, "Graph name must not be null.");
+            return this;
+        }
+
+        /**
+         * Returns an instance of n-triples sink with the channel and options
+         * given to its builder.
+         *
+         * @return instance of n-triples sink created with this builder
+         */
+        public NTriplesSink build() {
+            return new NTriplesSink(this);
+        }
+    }
+}
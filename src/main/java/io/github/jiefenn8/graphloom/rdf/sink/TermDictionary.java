@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.sink;
+
+import org.apache.jena.graph.Node;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class assigns each distinct RDF term an integer id, in the order the
+ * terms are first encoded starting from zero. Every IRI, blank node and
+ * literal is kept once however many triples it appears in. The terms are
+ * held on the Java heap.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class TermDictionary {
+
+    private final Map<Node, Integer> ids = new HashMap<>();
+    private final List<Node> terms = new ArrayList<>();
+
+    /**
+     * Returns the id of the given term, assigning the next id to the term
+     * if it has not been encoded before.
+     *
+     * @param term the term to encode
+     * @return the id of the term
+     */
+    public int encode(Node term) {
+        Objects.requireNonNull(term, "Term must not be null.");
+        Integer id = ids.get(term);
+        if (id == null) {
+            id = terms.size();
+            ids.put(term, id);
+            terms.add(term);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the id of the given term if it has been encoded.
+     *
+     * @param term the term to look up
+     * @return the id of the term, otherwise -1
+     */
+    public int lookup(Node term) {
+        Integer id = ids.get(term);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the term of the given id.
+     *
+     * @param id the id of the term
+     * @return the term of the id
+     * @throws IndexOutOfBoundsException if no term has the given id
+     */
+    public Node decode(int id) {
+        return terms.get(id);
+    }
+
+    /**
+     * Removes every term from this dictionary; The next term encoded is
+     * given the id zero again.
+     */
+    public void clear() {
+        ids.clear();
+        terms.clear();
+    }
+
+    /**
+     * Returns the number of distinct terms encoded.
+     *
+     * @return the number of terms in this dictionary
+     */
+    public int size() {
+        return terms.size();
+    }
+}
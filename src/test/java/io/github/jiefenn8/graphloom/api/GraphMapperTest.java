@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.api;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test class for the default methods of {@link GraphMapper}.
+ */
+public class GraphMapperTest {
+
+    @Test
+    public void Map_to_sink_by_default_hands_over_triples_of_graph() {
+        Model graph = ModelFactory.createDefaultModel();
+        graph.setNsPrefix("ex", "http://example.com/ns#");
+        graph.add(ResourceFactory.createResource("http://data.example.com/employee/7369"), RDF.type,
+                ResourceFactory.createResource("http://example.com/ns#Employee"));
+        GraphMapper graphMapper = (inputSource, configMaps) -> graph;
+        Model result = ModelFactory.createDefaultModel();
+        graphMapper.mapToSink(null, null, new TripleSink() {
+            @Override
+            public void prefix(String prefix, String uri) {
+                result.setNsPrefix(prefix, uri);
+            }
+
+            @Override
+            public void triple(Resource subject, Property predicate, RDFNode object) {
+                result.add(subject, predicate, object);
+            }
+        });
+        assertThat(result.isIsomorphicWith(graph), is(true));
+        assertThat(result.getNsPrefixURI("ex"), is(equalTo("http://example.com/ns#")));
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -116,6 +117,24 @@ public class BaseEntityReferenceTest {
         assertThat(result, is(nullValue()));
     }
 
+    @Test
+    @Parameters(method = "payloadTypeParameters")
+    public void GivenNoProjection_WhenListProjectedColumns_ThenReturnEmptySet(EntityReference.PayloadType type) {
+        sourceConfig = new BaseEntityReference(payload, type, iteratorDef);
+        Set<String> result = sourceConfig.listProjectedColumns();
+        assertThat(result.isEmpty(), is(true));
+    }
+
+    @Test
+    @Parameters(method = "payloadTypeParameters")
+    public void GivenDifferentProjection_WhenEquals_ThenReturnTrue(EntityReference.PayloadType type) {
+        sourceConfig = new BaseEntityReference(payload, type, iteratorDef);
+        BaseEntityReference other = new BaseEntityReference(payload, type, iteratorDef);
+        other.setProjectedColumns(Set.of("EMPNO"));
+        assertThat(sourceConfig.equals(other), is(true));
+        assertThat(sourceConfig.hashCode(), is(equalTo(other.hashCode())));
+    }
+
     @Test
     @Parameters(method = "payloadTypeParameters")
     public void GivenNullProperty_WhenSetProperty_ThenThrowException(EntityReference.PayloadType type) {
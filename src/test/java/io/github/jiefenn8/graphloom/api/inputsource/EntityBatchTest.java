@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.api.inputsource;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link EntityBatch} and the default batch adapter of
+ * {@link EntityResult}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EntityBatchTest {
+
+    @Mock private Entity mockEntity;
+    @Mock private EntityResult mockEntityResult;
+    private EntityBatch entityBatch;
+
+    @Before
+    public void setUp() {
+        entityBatch = new EntityBatch(2);
+    }
+
+    @Test
+    public void GivenFullBatch_WhenAdd_ThenThrowException() {
+        entityBatch.add(mockEntity);
+        entityBatch.add(mockEntity);
+        Assert.assertThrows(IllegalStateException.class, () -> entityBatch.add(mockEntity));
+    }
+
+    @Test
+    public void GivenPositionOutOfBatch_WhenGet_ThenThrowException() {
+        entityBatch.add(mockEntity);
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> entityBatch.get(1));
+    }
+
+    @Test
+    public void GivenZeroCapacity_WhenCreateInstance_ThenThrowException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new EntityBatch(0));
+    }
+
+    @Test
+    public void GivenBatch_WhenClear_ThenBatchIsEmpty() {
+        entityBatch.add(mockEntity);
+        entityBatch.clear();
+        assertThat(entityBatch.isEmpty(), is(true));
+    }
+
+    private EntityResult createCursor(int rows, EntityLayout layout) {
+        String[] current = new String[1];
+        Entity cursor = new Entity() {
+            @Override
+            public String getPropertyValue(String name) {
+                return "ID".equals(name) ? current[0] : null;
+            }
+
+            @Override
+            public EntityLayout getLayout() {
+                return layout;
+            }
+        };
+        return new EntityResult() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                return read < rows;
+            }
+
+            @Override
+            public Entity nextEntity() {
+                current[0] = String.valueOf(read++);
+                return cursor;
+            }
+        };
+    }
+
+    private List<String> readBatches(EntityResult result) {
+        List<String> values = new ArrayList<>();
+        while (result.nextBatch(entityBatch)) {
+            for (int i = 0; i < entityBatch.size(); i++) {
+                values.add(entityBatch.get(i).getPropertyValue("ID"));
+            }
+        }
+        return values;
+    }
+
+    @Test
+    public void GivenCursorWithoutLayout_WhenNextBatch_ThenReadEachEntityBeforeCursorMoves() {
+        List<String> result = readBatches(createCursor(3, null));
+        assertThat(result, is(equalTo(List.of("0", "1", "2"))));
+    }
+
+    @Test
+    public void GivenCursorWithLayout_WhenNextBatch_ThenFillWithCopiesUpToCapacity() {
+        EntityResult result = createCursor(3, EntityLayout.of(List.of("ID")));
+        assertThat(result.nextBatch(entityBatch), is(true));
+        assertThat(entityBatch.size(), is(equalTo(2)));
+        assertThat(entityBatch.get(0).getPropertyValue("ID"), is(equalTo("0")));
+        assertThat(readBatches(result), is(equalTo(List.of("2"))));
+    }
+
+    @Test
+    public void GivenResultOfThreeEntities_WhenNextBatch_ThenFillUpToCapacity() {
+        EntityLayout layout = EntityLayout.of(List.of("ID"));
+        when(mockEntity.getLayout()).thenReturn(layout);
+        when(mockEntityResult.hasNext()).thenReturn(true, true, true, false);
+        when(mockEntityResult.nextEntity()).thenReturn(mockEntity);
+        when(mockEntityResult.nextBatch(entityBatch)).thenCallRealMethod();
+        assertThat(mockEntityResult.nextBatch(entityBatch), is(true));
+        assertThat(entityBatch.size(), is(equalTo(2)));
+        assertThat(mockEntityResult.nextBatch(entityBatch), is(true));
+        assertThat(entityBatch.size(), is(equalTo(1)));
+        assertThat(mockEntityResult.nextBatch(entityBatch), is(false));
+        assertThat(entityBatch.isEmpty(), is(true));
+        verify(mockEntityResult, times(3)).nextEntity();
+    }
+}
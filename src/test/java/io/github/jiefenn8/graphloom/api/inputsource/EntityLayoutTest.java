@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.api.inputsource;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test class for {@link EntityLayout}.
+ */
+public class EntityLayoutTest {
+
+    private final EntityLayout layout = EntityLayout.of(List.of("EMPNO", "ENAME", "DEPTNO"));
+
+    @Test
+    public void GivenExistingName_WhenIndexOf_ThenReturnPosition() {
+        int result = layout.indexOf("ENAME");
+        assertThat(result, is(equalTo(1)));
+    }
+
+    @Test
+    public void GivenMissingName_WhenIndexOf_ThenReturnNegativeOne() {
+        int result = layout.indexOf("JOB");
+        assertThat(result, is(equalTo(-1)));
+    }
+
+    @Test
+    public void GivenPosition_WhenGetName_ThenReturnName() {
+        String result = layout.getName(2);
+        assertThat(result, is(equalTo("DEPTNO")));
+    }
+
+    @Test
+    public void GivenNullNames_WhenCreateInstance_ThenThrowException() {
+        String expected = "Property names must not be null.";
+        Throwable throwable = Assert.assertThrows(
+                NullPointerException.class,
+                () -> EntityLayout.of(null)
+        );
+        String msg = throwable.getMessage();
+        assertThat(msg, is(equalTo(expected)));
+    }
+
+    @Test
+    public void GivenTypes_WhenGetType_ThenReturnTypeOfPosition() {
+        EntityLayout layout = EntityLayout.of(List.of("EMPNO", "UPDATED_AT"), List.of(JDBCType.INTEGER,
+                JDBCType.TIMESTAMP));
+        JDBCType result = layout.getType(1);
+        assertThat(result, is(equalTo(JDBCType.TIMESTAMP)));
+    }
+
+    @Test
+    public void GivenNoTypes_WhenGetType_ThenReturnNull() {
+        EntityLayout layout = EntityLayout.of(List.of("EMPNO"));
+        JDBCType result = layout.getType(0);
+        assertThat(result, is(nullValue()));
+    }
+
+    @Test
+    public void GivenTypesOfOtherSize_WhenCreateInstance_ThenThrowException() {
+        String expected = "Property types must match property names.";
+        Throwable throwable = Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> EntityLayout.of(List.of("EMPNO"), List.of())
+        );
+        String msg = throwable.getMessage();
+        assertThat(msg, is(equalTo(expected)));
+    }
+
+    @Test
+    public void GivenEntityWithLayout_WhenGetValueByPosition_ThenReturnValueOfName() {
+        Entity entity = new Entity() {
+            @Override
+            public String getPropertyValue(String name) {
+                return name.equals("ENAME") ? "SMITH" : null;
+            }
+
+            @Override
+            public EntityLayout getLayout() {
+                return layout;
+            }
+        };
+        String result = entity.getPropertyValue(1);
+        assertThat(result, is(equalTo("SMITH")));
+    }
+
+    @Test
+    public void GivenEntityWithoutLayout_WhenGetValueByPosition_ThenThrowException() {
+        Entity entity = (name) -> null;
+        Assert.assertThrows(
+                IllegalStateException.class,
+                () -> entity.getPropertyValue(0)
+        );
+    }
+}
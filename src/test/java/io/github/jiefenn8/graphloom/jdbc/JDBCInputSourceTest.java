@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.jdbc;
+
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import io.github.jiefenn8.graphloom.exceptions.InputSourceException;
+import io.github.jiefenn8.graphloom.rdf.r2rml.DatabaseType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.*;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link JDBCInputSource}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class JDBCInputSourceTest {
+
+    @Mock private Connection mockConnection;
+    @Mock private PreparedStatement mockStatement;
+    @Mock private ResultSet mockResultSet;
+    @Mock private ResultSetMetaData mockMetaData;
+    @Mock private EntityReference mockEntityReference;
+    private JDBCInputSource jdbcInputSource;
+
+    @Before
+    public void setUp() {
+        jdbcInputSource = new JDBCInputSource.Builder(mockConnection).fetchSize(50).build();
+    }
+
+    private void givenTableQuery() throws SQLException {
+        when(mockConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(mockStatement);
+        when(mockStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.getMetaData()).thenReturn(mockMetaData);
+        when(mockEntityReference.getPayloadType()).thenReturn(DatabaseType.TABLE_NAME);
+        when(mockEntityReference.getPayload()).thenReturn("EMP");
+    }
+
+    @Test
+    public void Table_name_is_read_through_forward_only_read_only_cursor() throws SQLException {
+        givenTableQuery();
+        jdbcInputSource.executeEntityQuery(mockEntityReference, (r) -> {
+        });
+        verify(mockConnection).prepareStatement("SELECT * FROM EMP",
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        verify(mockStatement).setFetchSize(50);
+    }
+
+    @Test
+    public void Same_query_reuses_prepared_statement() throws SQLException {
+        givenTableQuery();
+        jdbcInputSource.executeEntityQuery(mockEntityReference, (r) -> {
+        });
+        jdbcInputSource.executeEntityQuery(mockEntityReference, (r) -> {
+        });
+        verify(mockConnection, times(1)).prepareStatement(anyString(), anyInt(), anyInt());
+        verify(mockStatement, times(2)).executeQuery();
+    }
+
+    @Test
+    public void Nested_same_query_is_given_own_statement() throws SQLException {
+        givenTableQuery();
+        jdbcInputSource.executeEntityQuery(mockEntityReference, (r) ->
+                jdbcInputSource.executeEntityQuery(mockEntityReference, (n) -> {
+                }));
+        verify(mockConnection, times(2)).prepareStatement(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void Failed_query_closes_statement() throws SQLException {
+        when(mockConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(mockStatement);
+        when(mockStatement.executeQuery()).thenThrow(new SQLException("FAILED"));
+        when(mockEntityReference.getPayloadType()).thenReturn(DatabaseType.QUERY);
+        when(mockEntityReference.getPayload()).thenReturn("SELECT * FROM EMP");
+        Assert.assertThrows(
+                InputSourceException.class,
+                () -> jdbcInputSource.executeEntityQuery(mockEntityReference, (r) -> {
+                })
+        );
+        verify(mockStatement, times(1)).close();
+    }
+
+    @Test
+    public void Close_closes_kept_statements() throws SQLException {
+        givenTableQuery();
+        jdbcInputSource.executeEntityQuery(mockEntityReference, (r) -> {
+        });
+        jdbcInputSource.close();
+        verify(mockStatement, times(1)).close();
+    }
+
+    @Test
+    public void Table_name_with_projection_selects_projected_columns() {
+        when(mockEntityReference.getPayloadType()).thenReturn(DatabaseType.TABLE_NAME);
+        when(mockEntityReference.getPayload()).thenReturn("EMP");
+        when(mockEntityReference.listProjectedColumns()).thenReturn(new LinkedHashSet<>(List.of("EMPNO", "ENAME")));
+        String result = JDBCInputSource.createQuery(mockEntityReference);
+        assertThat(result, is(equalTo("SELECT EMPNO, ENAME FROM EMP")));
+    }
+
+    @Test
+    public void Create_query_of_rows_past_watermark() {
+        when(mockEntityReference.getPayloadType()).thenReturn(DatabaseType.TABLE_NAME);
+        when(mockEntityReference.getPayload()).thenReturn("EMP");
+        when(mockEntityReference.getProperty(EntityReference.WATERMARK_COLUMN)).thenReturn("UPDATED_AT");
+        when(mockEntityReference.getProperty(EntityReference.WATERMARK)).thenReturn("2020-01-01 00:00:00");
+        String result = JDBCInputSource.createQuery(mockEntityReference);
+        assertThat(result, is(equalTo("SELECT * FROM EMP WHERE UPDATED_AT > ?")));
+    }
+
+    @Test
+    public void Create_query_of_custom_query_rows_past_watermark() {
+        when(mockEntityReference.getPayloadType()).thenReturn(DatabaseType.QUERY);
+        when(mockEntityReference.getPayload()).thenReturn("SELECT * FROM EMP");
+        when(mockEntityReference.getProperty(EntityReference.WATERMARK_COLUMN)).thenReturn("SEQ");
+        when(mockEntityReference.getProperty(EntityReference.WATERMARK)).thenReturn("42");
+        String result = JDBCInputSource.createQuery(mockEntityReference);
+        assertThat(result, is(equalTo("SELECT * FROM (SELECT * FROM EMP) DELTA WHERE SEQ > ?")));
+    }
+
+    @Test
+    public void Bind_watermark_as_value_of_its_type() throws SQLException {
+        JDBCInputSource.bindWatermark(mockStatement, "2020-01-01 00:00:00.5", "TIMESTAMP");
+        verify(mockStatement).setTimestamp(1, Timestamp.valueOf("2020-01-01 00:00:00.5"));
+    }
+
+    @Test
+    public void Bind_watermark_without_type_as_string() throws SQLException {
+        JDBCInputSource.bindWatermark(mockStatement, "2020-01-01 00:00:00.5", null);
+        verify(mockStatement).setString(1, "2020-01-01 00:00:00.5");
+    }
+
+    @Test
+    public void Unsupported_payload_type_is_not_possible() {
+        when(mockEntityReference.getPayloadType()).thenReturn(EntityReference.DefaultType.UNDEFINED);
+        Throwable throwable = Assert.assertThrows(
+                InputSourceException.class,
+                () -> JDBCInputSource.createQuery(mockEntityReference)
+        );
+        assertThat(throwable.getMessage(), is(equalTo("Unsupported payload type UNDEFINED.")));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link BufferedTripleSink}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BufferedTripleSinkTest {
+
+    private final Resource subject = ResourceFactory.createResource("SUBJECT");
+    private final Property predicate = ResourceFactory.createProperty("PREDICATE");
+    private final RDFNode object = ResourceFactory.createStringLiteral("OBJECT");
+    @Mock private TripleSink mockSink;
+    private BufferedTripleSink bufferedSink;
+
+    @Before
+    public void setUp() {
+        bufferedSink = new BufferedTripleSink(mockSink, 2);
+    }
+
+    @Test
+    public void Triples_are_held_until_buffer_is_full() {
+        bufferedSink.triple(subject, predicate, object);
+        verify(mockSink, never()).triple(any(), any(), any());
+        bufferedSink.triple(subject, predicate, object);
+        verify(mockSink, times(2)).triple(subject, predicate, object);
+    }
+
+    @Test
+    public void Flush_hands_over_remaining_triples() {
+        bufferedSink.triple(subject, predicate, object);
+        bufferedSink.flush();
+        verify(mockSink, times(1)).triple(subject, predicate, object);
+    }
+
+    @Test
+    public void Flush_of_empty_buffer_hands_over_nothing() {
+        bufferedSink.flush();
+        verify(mockSink, never()).triple(any(), any(), any());
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityLayout;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityResult;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test class for {@link DeltaMapping}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class DeltaMappingTest {
+
+    @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private final TripleSink sink = (s, p, o) -> {
+    };
+    private Path file;
+    private EntityMap mockEntityMap;
+    private SourceMap mockSourceMap;
+    private EntityReference mockEntityReference;
+
+    @Before
+    public void setUp() throws IOException {
+        file = temporaryFolder.newFolder().toPath().resolve("watermarks.properties");
+        mockEntityMap = mock(EntityMap.class);
+        mockSourceMap = mock(SourceMap.class);
+        mockEntityReference = mock(EntityReference.class);
+        when(mockEntityMap.getIdName()).thenReturn("TriplesMap1");
+    }
+
+    private DeltaMapping openDelta() {
+        DeltaMapping delta = new DeltaMapping.Builder(file, sink).watermark("TriplesMap1", "SEQ").build();
+        delta.load();
+        return delta;
+    }
+
+    private DeltaMapping openDelta(String... tombstones) {
+        DeltaMapping delta = new DeltaMapping.Builder(file, sink)
+                .watermark("TriplesMap1", "SEQ")
+                .tombstones(createSource(tombstones), sink)
+                .build();
+        delta.load();
+        return delta;
+    }
+
+    private InputSource createSource(String... values) {
+        return (entityRef, action) -> {
+            Iterator<String> iter = List.of(values).iterator();
+            action.accept(new EntityResult() {
+                @Override
+                public boolean hasNext() {
+                    return iter.hasNext();
+                }
+
+                @Override
+                public Entity nextEntity() {
+                    return Map.of("SEQ", iter.next())::get;
+                }
+            });
+        };
+    }
+
+    private InputSource createTypedSource(JDBCType type, String... values) {
+        EntityLayout layout = EntityLayout.of(List.of("SEQ"), List.of(type));
+        return (entityRef, action) -> {
+            Iterator<String> iter = List.of(values).iterator();
+            action.accept(new EntityResult() {
+                @Override
+                public boolean hasNext() {
+                    return iter.hasNext();
+                }
+
+                @Override
+                public Entity nextEntity() {
+                    String value = iter.next();
+                    return layout.copyOf(new Entity() {
+                        @Override
+                        public String getPropertyValue(String name) {
+                            return value;
+                        }
+
+                        @Override
+                        public String getPropertyValue(int index) {
+                            return value;
+                        }
+                    });
+                }
+            });
+        };
+    }
+
+    private List<String> scan(DeltaMapping delta, String... values) {
+        return scan(delta, false, values);
+    }
+
+    private List<String> scan(DeltaMapping delta, boolean tombstones, String... values) {
+        when(mockSourceMap.getEntityReference()).thenReturn(mockEntityReference);
+        List<String> rows = new ArrayList<>();
+        DeltaMapping.Scan scan = delta.openScan(mockEntityMap, tombstones);
+        scan.track(mockSourceMap, () -> {
+        }).forEachEntity(createSource(values), (e) -> rows.add(e.getPropertyValue("SEQ")));
+        scan.scanned();
+        return rows;
+    }
+
+    public List<Object[]> watermarkValues() {
+        return List.of(
+                new Object[]{"10", "9", null, true},
+                new Object[]{"9", "10", null, false},
+                new Object[]{"10.5", "10.25", null, true},
+                new Object[]{"-1", "0", null, false},
+                new Object[]{"2020-01-02 00:00:00", "2020-01-01 23:59:59", null, true},
+                new Object[]{"abc", "abc", null, false},
+                new Object[]{"10.50", "10.5", JDBCType.DECIMAL, false},
+                new Object[]{"2020-01-01 00:00:00.50", "2020-01-01 00:00:00.5", JDBCType.TIMESTAMP, false},
+                new Object[]{"2020-01-01 00:00:00.5", "2020-01-01 00:00:00.25", JDBCType.TIMESTAMP, true},
+                new Object[]{"2020-01-01 00:00:00.25", "2020-01-01 00:00:00.3", JDBCType.TIMESTAMP, false},
+                new Object[]{"2020-01-01 00:00:01", "2020-01-01 00:00:00.999", JDBCType.TIMESTAMP, true},
+                new Object[]{"2020-01-10", "2020-01-09", JDBCType.DATE, true},
+                new Object[]{"12:00:00.5", "12:00:00.25", JDBCType.TIME, true},
+                new Object[]{"abc", "abb", JDBCType.TIMESTAMP, true}
+        );
+    }
+
+    @Test
+    @Parameters(method = "watermarkValues")
+    public void Compare_value_with_watermark(String value, String watermark, JDBCType type, boolean expected) {
+        boolean result = DeltaMapping.isPast(value, watermark, type);
+        assertThat(result, is(expected));
+    }
+
+    @Test
+    public void Scan_every_row_without_watermark() {
+        List<String> result = scan(openDelta(), "1", "2", "3");
+        assertThat(result, is(equalTo(List.of("1", "2", "3"))));
+    }
+
+    @Test
+    public void Scan_only_rows_past_stored_watermark() {
+        DeltaMapping first = openDelta();
+        scan(first, "1", "2", "3");
+        first.store();
+        List<String> result = scan(openDelta(), "2", "3", "4", "10");
+        assertThat(result, is(equalTo(List.of("4", "10"))));
+    }
+
+    @Test
+    public void Scan_rows_added_before_later_tombstone_of_same_mapping() {
+        DeltaMapping first = openDelta("110");
+        scan(first, "100");
+        scan(first, true);
+        first.store();
+        DeltaMapping second = openDelta("110");
+        List<String> result = scan(second, "100", "105");
+        List<String> deleted = scan(second, true);
+        assertThat(result, is(equalTo(List.of("105"))));
+        assertThat(deleted.isEmpty(), is(true));
+        assertThat(second.getTombstoneWatermark("TriplesMap1"), is(equalTo("110")));
+    }
+
+    @Test
+    public void Keep_watermark_of_failed_mapping_unchanged() {
+        DeltaMapping first = openDelta();
+        scan(first, "1", "2");
+        first.store();
+        DeltaMapping failed = openDelta();
+        scan(failed, "3", "4");
+        String result = openDelta().getWatermark("TriplesMap1");
+        assertThat(result, is(equalTo("2")));
+    }
+
+    @Test
+    public void Hand_watermark_over_to_source_with_entity_reference() {
+        DeltaMapping first = openDelta();
+        scan(first, "7");
+        first.store();
+        when(mockSourceMap.getEntityReference()).thenReturn(mockEntityReference);
+        when(mockEntityReference.listProjectedColumns()).thenReturn(Set.of("NAME"));
+        EntityReference result = openDelta().openScan(mockEntityMap, false)
+                .track(mockSourceMap, () -> {
+                })
+                .getEntityReference();
+        assertThat(result.getProperty(EntityReference.WATERMARK_COLUMN), is(equalTo("SEQ")));
+        assertThat(result.getProperty(EntityReference.WATERMARK), is(equalTo("7")));
+        assertThat(result.listProjectedColumns(), is(equalTo(Set.of("NAME", "SEQ"))));
+    }
+
+    @Test
+    public void Keep_and_hand_over_type_of_watermark() {
+        DeltaMapping first = openDelta();
+        DeltaMapping.Scan scan = first.openScan(mockEntityMap, false);
+        when(mockSourceMap.getEntityReference()).thenReturn(mockEntityReference);
+        scan.track(mockSourceMap, () -> {
+        }).forEachEntity(createTypedSource(JDBCType.TIMESTAMP, "2020-01-01 00:00:00.5",
+                "2020-01-01 00:00:00.25"), (e) -> {
+        });
+        scan.scanned();
+        first.store();
+        EntityReference result = openDelta().openScan(mockEntityMap, false)
+                .track(mockSourceMap, () -> {
+                })
+                .getEntityReference();
+        assertThat(result.getProperty(EntityReference.WATERMARK), is(equalTo("2020-01-01 00:00:00.5")));
+        assertThat(result.getProperty(EntityReference.WATERMARK_TYPE), is(equalTo("TIMESTAMP")));
+    }
+
+    @Test
+    public void Set_empty_watermark_column_is_not_possible() {
+        Assert.assertThrows(
+                "Watermark column must not be empty.",
+                IllegalArgumentException.class,
+                () -> new DeltaMapping.Builder(file, sink).watermark("TriplesMap1", "")
+        );
+    }
+}
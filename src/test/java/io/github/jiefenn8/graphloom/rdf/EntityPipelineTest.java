@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityLayout;
+import io.github.jiefenn8.graphloom.exceptions.MapperException;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test class for {@link EntityPipeline}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EntityPipelineTest {
+
+    private final EntityLayout layout = EntityLayout.of(List.of("ID"));
+    private final Property predicate = ResourceFactory.createProperty("PREDICATE");
+    private final BiConsumer<Entity, TripleSink> mapper = (e, out) -> out.triple(
+            ResourceFactory.createResource(e.getPropertyValue("ID")),
+            predicate,
+            ResourceFactory.createStringLiteral(e.getPropertyValue(0)));
+    @Mock private SourceMap mockSourceMap;
+    @Mock private InputSource mockInputSource;
+    @Mock private Entity mockEntity;
+    private EntityPipeline entityPipeline;
+
+    @After
+    public void tearDown() {
+        entityPipeline.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenEntities(int count) {
+        doAnswer((invocation) -> {
+            Consumer<Entity> action = invocation.getArgument(1);
+            ReusedEntity entity = new ReusedEntity();
+            for (int i = 0; i < count; i++) {
+                entity.value = String.valueOf(i);
+                action.accept(entity);
+            }
+            return null;
+        }).when(mockSourceMap).forEachEntity(any(), any(Consumer.class));
+    }
+
+    private List<String> collectObjects(boolean ordered) {
+        entityPipeline = new EntityPipeline(4, 3, ordered);
+        List<String> result = new ArrayList<>();
+        entityPipeline.run(mockSourceMap, mockInputSource, mapper,
+                (s, p, o) -> result.add(o.asLiteral().getString()));
+        return result;
+    }
+
+    @Test
+    public void Ordered_output_keeps_order_of_entities_read() {
+        givenEntities(100);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(String.valueOf(i));
+        }
+        List<String> result = collectObjects(true);
+        assertThat(result, is(equalTo(expected)));
+    }
+
+    @Test
+    public void Unordered_output_hands_over_every_triple() {
+        givenEntities(100);
+        List<String> result = collectObjects(false);
+        assertThat(result, hasSize(100));
+        assertThat(new HashSet<>(result), hasSize(100));
+    }
+
+    @Test
+    public void Failure_of_worker_is_rethrown() {
+        givenEntities(10);
+        entityPipeline = new EntityPipeline(2, 3, true);
+        BiConsumer<Entity, TripleSink> failingMapper = (e, out) -> {
+            throw new MapperException("FAILED");
+        };
+        MapperException exception = assertThrows(
+                MapperException.class,
+                () -> entityPipeline.run(mockSourceMap, mockInputSource, failingMapper, (s, p, o) -> {
+                })
+        );
+        assertThat(exception.getMessage(), is(equalTo("FAILED")));
+    }
+
+    @Test
+    public void Snapshot_of_entity_with_layout_is_detached_copy() {
+        entityPipeline = new EntityPipeline(1, 1, true);
+        ReusedEntity entity = new ReusedEntity();
+        entity.value = "1";
+        Entity result = EntityPipeline.snapshot(entity);
+        entity.value = "2";
+        assertThat(result.getPropertyValue("ID"), is(equalTo("1")));
+        assertThat(result.getLayout(), is(sameInstance(layout)));
+    }
+
+    @Test
+    public void Snapshot_of_copied_entity_is_same_entity() {
+        entityPipeline = new EntityPipeline(1, 1, true);
+        ReusedEntity entity = new ReusedEntity();
+        entity.value = "1";
+        Entity copy = layout.copyOf(entity);
+        Entity result = EntityPipeline.snapshot(copy);
+        assertThat(result, is(sameInstance(copy)));
+    }
+
+    @Test
+    public void Snapshot_of_entity_without_layout_is_same_entity() {
+        entityPipeline = new EntityPipeline(1, 1, true);
+        when(mockEntity.getLayout()).thenReturn(null);
+        Entity result = EntityPipeline.snapshot(mockEntity);
+        assertThat(result, is(sameInstance(mockEntity)));
+    }
+
+    /**
+     * Entity of a single property reused by its source for each row.
+     */
+    private class ReusedEntity implements Entity {
+
+        private String value;
+
+        @Override
+        public String getPropertyValue(String name) {
+            return "ID".equals(name) ? value : null;
+        }
+
+        @Override
+        public String getPropertyValue(int index) {
+            return value;
+        }
+
+        @Override
+        public EntityLayout getLayout() {
+            return layout;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.MappingMetrics.Phase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test class for {@link InMemoryMappingMetrics}.
+ */
+public class InMemoryMappingMetricsTest {
+
+    private InMemoryMappingMetrics metrics;
+
+    @Before
+    public void setUp() {
+        metrics = new InMemoryMappingMetrics();
+    }
+
+    @Test
+    public void Sum_measurements_of_the_same_entity_map() {
+        metrics.recordRows("TriplesMap1", 2);
+        metrics.recordRows("TriplesMap1", 3);
+        metrics.recordTriples("TriplesMap1", 10);
+        metrics.recordNulls("TriplesMap1", 1);
+        metrics.recordTime("TriplesMap1", Phase.JOIN, 2_000_000);
+        metrics.recordTime("TriplesMap1", Phase.JOIN, 1_000_000);
+        InMemoryMappingMetrics.EntityMapTotals result = metrics.get("TriplesMap1");
+        assertThat(result.getRows(), is(5L));
+        assertThat(result.getTriples(), is(10L));
+        assertThat(result.getNulls(), is(1L));
+        assertThat(result.getTime(Phase.JOIN, TimeUnit.MILLISECONDS), is(3L));
+        assertThat(result.getTime(Phase.SOURCE, TimeUnit.MILLISECONDS), is(0L));
+    }
+
+    @Test
+    public void Keep_measurements_of_each_entity_map_apart() {
+        metrics.recordRows("TriplesMap1", 2);
+        metrics.recordRows("TriplesMap2", 3);
+        Set<String> result = metrics.listEntityMapIds();
+        assertThat(result, is(equalTo(Set.of("TriplesMap1", "TriplesMap2"))));
+        assertThat(metrics.get("TriplesMap2").getRows(), is(3L));
+    }
+
+    @Test
+    public void Return_null_for_entity_map_not_measured() {
+        InMemoryMappingMetrics.EntityMapTotals result = metrics.get("TriplesMap1");
+        assertThat(result, is(nullValue()));
+    }
+}
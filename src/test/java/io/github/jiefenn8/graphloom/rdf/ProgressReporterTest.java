@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.rdf.RDFMapper.Verbosity;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit test class for {@link ProgressReporter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ProgressReporterTest {
+
+    private static final long NEVER = TimeUnit.DAYS.toNanos(1);
+    @Mock private SourceMap mockSourceMap;
+    private AtomicInteger reads;
+    private LongSupplier triples;
+
+    @Before
+    public void setUp() {
+        reads = new AtomicInteger();
+        triples = () -> reads.incrementAndGet();
+    }
+
+    private void scanEntities(int count) {
+        doAnswer((invocation) -> {
+            Consumer<Entity> action = invocation.getArgument(1);
+            for (int i = 0; i < count; i++) {
+                action.accept(mock(Entity.class));
+            }
+            return null;
+        }).when(mockSourceMap).forEachEntity(any(), any());
+    }
+
+    @Test
+    public void Report_progress_every_given_number_of_rows() {
+        scanEntities(5);
+        ProgressReporter reporter = new ProgressReporter("TriplesMap1", Verbosity.PROGRESS, 2, NEVER, triples);
+        reporter.start();
+        List<Entity> result = new ArrayList<>();
+        reporter.track(mockSourceMap).forEachEntity(mock(InputSource.class), result::add);
+        assertThat(result.size(), is(5));
+        assertThat(reads.get(), is(2));
+    }
+
+    @Test
+    public void Report_total_once_finished() {
+        ProgressReporter reporter = new ProgressReporter("TriplesMap1", Verbosity.SUMMARY, 2, NEVER, triples);
+        reporter.start();
+        reporter.finish();
+        assertThat(reads.get(), is(1));
+    }
+
+    @Test
+    public void Scan_source_map_as_it_is_without_periodic_progress() {
+        ProgressReporter reporter = new ProgressReporter("TriplesMap1", Verbosity.SUMMARY, 2, NEVER, triples);
+        SourceMap result = reporter.track(mockSourceMap);
+        assertThat(result, is(sameInstance(mockSourceMap)));
+    }
+
+    @Test
+    public void Report_nothing_with_no_verbosity() {
+        scanEntities(5);
+        ProgressReporter reporter = new ProgressReporter("TriplesMap1", Verbosity.NONE, 2, NEVER, triples);
+        reporter.start();
+        reporter.track(mockSourceMap).forEachEntity(mock(InputSource.class), (e) -> {
+        });
+        reporter.finish();
+        assertThat(reads.get(), is(0));
+    }
+}
@@ -6,9 +6,18 @@
 package io.github.jiefenn8.graphloom.rdf;
 
 import io.github.jiefenn8.graphloom.api.ConfigMaps;
+import io.github.jiefenn8.graphloom.api.EntityMap;
 import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.MappingMetrics.Phase;
+import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import io.github.jiefenn8.graphloom.rdf.RDFMapper.JoinStrategy;
 import io.github.jiefenn8.graphloom.exceptions.MapperException;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -18,12 +27,15 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 /**
  * Unit test class for {@link RDFMapper}.
@@ -69,4 +81,141 @@ public class RDFMapperTest {
         String msg = throwable.getMessage();
         assertThat(msg, is(equalTo(expected)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void Stream_no_triples_to_sink_with_empty_config_maps() {
+        TripleSink mockSink = mock(TripleSink.class);
+        rdfMapper.mapToSink(mock(InputSource.class), mockConfigMaps, mockSink);
+        verify(mockSink).start();
+        verify(mockSink, never()).triple(any(), any(), any());
+        verify(mockSink).finish();
+    }
+
+    @Test
+    public void Stream_namespace_prefixes_to_sink() {
+        when(mockConfigMaps.getNamespaceMap()).thenReturn(Map.of("ex", "http://example.com/ns#"));
+        TripleSink mockSink = mock(TripleSink.class);
+        rdfMapper.mapToSink(mock(InputSource.class), mockConfigMaps, mockSink);
+        verify(mockSink).prefix("ex", "http://example.com/ns#");
+    }
+
+    @Test
+    public void Mapping_to_sink_with_no_sink_is_not_possible() {
+        String expected = "Triple sink must not be null.";
+        Throwable throwable = Assert.assertThrows(
+                NullPointerException.class,
+                () -> rdfMapper.mapToSink(mock(InputSource.class), mockConfigMaps, null)
+        );
+        String msg = throwable.getMessage();
+        assertThat(msg, is(equalTo(expected)));
+    }
+
+    @Test
+    public void Source_join_strategy_emits_ref_triples_with_joint_queries() {
+        EntityMap mockEntityMap = mock(EntityMap.class);
+        when(mockEntityMap.getSourceMap()).thenReturn(mock(SourceMap.class));
+        when(mockConfigMaps.getEntityMaps()).thenReturn(Set.of(mockEntityMap));
+        InputSource mockInputSource = mock(InputSource.class);
+        rdfMapper = new RDFMapper.Builder().joinStrategy(JoinStrategy.SOURCE_JOIN).build();
+        rdfMapper.mapToSink(mockInputSource, mockConfigMaps, mock(TripleSink.class));
+        verify(mockEntityMap).emitJointRefNodeTerms(eq(mockInputSource), any());
+        verify(mockEntityMap, never()).prepareRefNodeTerms(any());
+    }
+
+    @Test
+    public void Hash_join_strategy_prepares_ref_triples_before_mapping() {
+        EntityMap mockEntityMap = mock(EntityMap.class);
+        when(mockEntityMap.getSourceMap()).thenReturn(mock(SourceMap.class));
+        when(mockConfigMaps.getEntityMaps()).thenReturn(Set.of(mockEntityMap));
+        InputSource mockInputSource = mock(InputSource.class);
+        rdfMapper.mapToSink(mockInputSource, mockConfigMaps, mock(TripleSink.class));
+        verify(mockEntityMap).prepareRefNodeTerms(mockInputSource);
+        verify(mockEntityMap, never()).emitJointRefNodeTerms(any(), any());
+    }
+
+    @Test
+    public void Entity_maps_with_equal_source_map_share_a_single_scan() {
+        SourceMap mockSourceMap = mock(SourceMap.class);
+        when(mockSourceMap.getEntityReference()).thenReturn(mock(EntityReference.class));
+        EntityMap mockEntityMap = mock(EntityMap.class);
+        EntityMap mockOtherEntityMap = mock(EntityMap.class);
+        when(mockEntityMap.getSourceMap()).thenReturn(mockSourceMap);
+        when(mockOtherEntityMap.getSourceMap()).thenReturn(mockSourceMap);
+        when(mockConfigMaps.getEntityMaps()).thenReturn(Set.of(mockEntityMap, mockOtherEntityMap));
+        InputSource mockInputSource = mock(InputSource.class);
+        rdfMapper.mapToSink(mockInputSource, mockConfigMaps, mock(TripleSink.class));
+        verify(mockSourceMap, times(1)).forEachEntity(eq(mockInputSource), any());
+        verify(mockEntityMap).prepareRefNodeTerms(mockInputSource);
+        verify(mockOtherEntityMap).prepareRefNodeTerms(mockInputSource);
+    }
+
+    @Test
+    public void Failure_of_parallel_entity_map_is_rethrown() {
+        EntityMap mockEntityMap = mock(EntityMap.class);
+        when(mockEntityMap.getSourceMap()).thenReturn(mock(SourceMap.class));
+        when(mockEntityMap.prepareRefNodeTerms(any())).thenThrow(new MapperException("FAILED"));
+        when(mockConfigMaps.getEntityMaps()).thenReturn(Set.of(mockEntityMap));
+        rdfMapper = new RDFMapper.Builder().executor(Runnable::run).build();
+        Throwable throwable = Assert.assertThrows(
+                MapperException.class,
+                () -> rdfMapper.mapToSink(mock(InputSource.class), mockConfigMaps, mock(TripleSink.class))
+        );
+        String msg = throwable.getMessage();
+        assertThat(msg, is(equalTo("FAILED")));
+    }
+
+    @Test
+    public void Record_rows_triples_and_null_terms_of_each_entity_map() {
+        Entity entity = mock(Entity.class);
+        Entity nullEntity = mock(Entity.class);
+        Resource subject = ResourceFactory.createResource("http://example.com/1");
+        SourceMap mockSourceMap = mock(SourceMap.class);
+        doAnswer((invocation) -> {
+            Consumer<Entity> action = invocation.getArgument(1);
+            action.accept(entity);
+            action.accept(nullEntity);
+            return null;
+        }).when(mockSourceMap).forEachEntity(any(), any());
+        EntityMap mockEntityMap = mock(EntityMap.class);
+        when(mockEntityMap.getIdName()).thenReturn("TriplesMap1");
+        when(mockEntityMap.getSourceMap()).thenReturn(mockSourceMap);
+        when(mockEntityMap.countNodeMapPairs()).thenReturn(2);
+        when(mockEntityMap.generateEntityTerm(entity)).thenReturn(subject);
+        when(mockEntityMap.prepareRefNodeTerms(any())).thenReturn((t, e, out) -> {
+        });
+        doAnswer((invocation) -> {
+            TripleSink out = invocation.getArgument(2);
+            out.triple(subject, ResourceFactory.createProperty("http://example.com/p"), subject);
+            return null;
+        }).when(mockEntityMap).emitNodeTerms(eq(subject), eq(entity), any());
+        when(mockConfigMaps.getEntityMaps()).thenReturn(Set.of(mockEntityMap));
+        InMemoryMappingMetrics metrics = new InMemoryMappingMetrics();
+        rdfMapper = new RDFMapper.Builder().metrics(metrics).build();
+        rdfMapper.mapToSink(mock(InputSource.class), mockConfigMaps, mock(TripleSink.class));
+        InMemoryMappingMetrics.EntityMapTotals result = metrics.get("TriplesMap1");
+        assertThat(result.getRows(), is(2L));
+        assertThat(result.getTriples(), is(1L));
+        assertThat(result.getNulls(), is(2L));
+        assertThat(result.getTime(Phase.TERMS, TimeUnit.NANOSECONDS), is(greaterThan(0L)));
+    }
+
+    @Test
+    public void Record_nothing_by_default() {
+        EntityMap mockEntityMap = mock(EntityMap.class);
+        when(mockEntityMap.getSourceMap()).thenReturn(mock(SourceMap.class));
+        when(mockConfigMaps.getEntityMaps()).thenReturn(Set.of(mockEntityMap));
+        rdfMapper.mapToSink(mock(InputSource.class), mockConfigMaps, mock(TripleSink.class));
+        verify(mockEntityMap, never()).countNodeMapPairs();
+    }
+
+    @Test
+    public void Progress_reports_without_rows_between_are_not_possible() {
+        String expected = "Progress rows must be positive.";
+        Throwable throwable = Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> new RDFMapper.Builder().progressRows(0)
+        );
+        String msg = throwable.getMessage();
+        assertThat(msg, is(equalTo(expected)));
+    }
+}
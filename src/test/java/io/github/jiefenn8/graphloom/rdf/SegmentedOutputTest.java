@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.exceptions.MapperException;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link SegmentedOutput}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SegmentedOutputTest {
+
+    @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    @Mock private EntityMap mockEntityMap;
+    @Mock private SourceMap mockSourceMap;
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = temporaryFolder.newFolder().toPath();
+    }
+
+    private List<EntityMap> group() {
+        when(mockEntityMap.getIdName()).thenReturn("TriplesMap1");
+        return List.of(mockEntityMap);
+    }
+
+    private void scanEntities(int count) {
+        doAnswer((invocation) -> {
+            Consumer<Entity> action = invocation.getArgument(1);
+            for (int i = 0; i < count; i++) {
+                action.accept(mock(Entity.class));
+            }
+            return null;
+        }).when(mockSourceMap).forEachEntity(any(), any());
+    }
+
+    private SegmentedOutput openOutput(boolean resume) {
+        SegmentedOutput output = new SegmentedOutput.Builder(directory)
+                .checkpointRows(2)
+                .resume(resume)
+                .build();
+        output.open(Map.of());
+        return output;
+    }
+
+    private List<Integer> scan(SegmentedOutput.Scan scan, int failAt) {
+        List<Integer> rows = new ArrayList<>();
+        scan.track(mockSourceMap, () -> {
+        }).forEachEntity(null, (e) -> {
+            int row = (int) scan.getOffset() + rows.size();
+            if (row == failAt) {
+                throw new MapperException("Failed at row " + row + ".");
+            }
+            rows.add(row);
+            scan.triple(ResourceFactory.createResource("http://example.com/" + row), RDF.type, RDF.Statement);
+        });
+        return rows;
+    }
+
+    @Test
+    public void Write_segment_for_each_checkpoint_rows() throws IOException {
+        scanEntities(5);
+        SegmentedOutput output = openOutput(false);
+        SegmentedOutput.Scan scan = output.openScan(group());
+        scan(scan, -1);
+        scan.scanned();
+        scan.complete();
+        List<Path> result = output.listSegments();
+        assertThat(result.size(), is(3));
+        assertThat(Files.readAllLines(result.get(2)).size(), is(1));
+    }
+
+    @Test
+    public void Resume_scan_after_rows_of_last_checkpoint() {
+        scanEntities(5);
+        SegmentedOutput.Scan failed = openOutput(false).openScan(group());
+        Assert.assertThrows(MapperException.class, () -> scan(failed, 3));
+        failed.abort();
+        SegmentedOutput.Scan resumed = openOutput(true).openScan(group());
+        List<Integer> result = scan(resumed, -1);
+        assertThat(result, is(equalTo(List.of(2, 3, 4))));
+    }
+
+    @Test
+    public void Delete_segment_not_recorded_in_checkpoint_when_resumed() throws IOException {
+        scanEntities(5);
+        SegmentedOutput.Scan failed = openOutput(false).openScan(group());
+        Assert.assertThrows(MapperException.class, () -> scan(failed, 3));
+        failed.abort();
+        SegmentedOutput resumed = openOutput(true);
+        long result;
+        try (var files = Files.list(directory)) {
+            result = files.filter((f) -> f.getFileName().toString().startsWith("segment-")).count();
+        }
+        assertThat(result, is(1L));
+        assertThat(resumed.listSegments().size(), is(1));
+    }
+
+    @Test
+    public void Skip_scan_of_entity_map_completed_before() {
+        SegmentedOutput.Scan scan = openOutput(false).openScan(group());
+        scan.complete();
+        boolean result = openOutput(true).openScan(group()).isComplete();
+        assertThat(result, is(true));
+    }
+
+    @Test
+    public void Open_existing_checkpoint_without_resume_is_not_possible() {
+        openOutput(false).openScan(group()).complete();
+        Assert.assertThrows(
+                MapperException.class,
+                () -> openOutput(false)
+        );
+    }
+
+    @Test
+    public void Set_checkpoint_rows_of_zero_is_not_possible() {
+        Assert.assertThrows(
+                "Checkpoint rows must be positive.",
+                IllegalArgumentException.class,
+                () -> new SegmentedOutput.Builder(directory).checkpointRows(0)
+        );
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf;
+
+import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test class for {@link SharedSourceMap}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SharedSourceMapTest {
+
+    @Mock private EntityMap mockEntityMap;
+    @Mock private EntityMap mockOtherEntityMap;
+    @Mock private SourceMap mockSourceMap;
+    @Mock private SourceMap mockOtherSourceMap;
+    @Mock private EntityReference mockEntityReference;
+    @Mock private EntityReference mockOtherEntityReference;
+
+    private void givenProjections(Set<String> columns, Set<String> otherColumns) {
+        when(mockEntityMap.getSourceMap()).thenReturn(mockSourceMap);
+        when(mockOtherEntityMap.getSourceMap()).thenReturn(mockOtherSourceMap);
+        when(mockSourceMap.getEntityReference()).thenReturn(mockEntityReference);
+        when(mockOtherSourceMap.getEntityReference()).thenReturn(mockOtherEntityReference);
+        when(mockEntityReference.listProjectedColumns()).thenReturn(columns);
+        when(mockOtherEntityReference.listProjectedColumns()).thenReturn(otherColumns);
+    }
+
+    @Test
+    public void Single_entity_map_scans_own_source_map() {
+        when(mockEntityMap.getSourceMap()).thenReturn(mockSourceMap);
+        SourceMap result = SharedSourceMap.of(List.of(mockEntityMap));
+        assertThat(result, is(sameInstance(mockSourceMap)));
+    }
+
+    @Test
+    public void Different_projections_are_merged_into_one_scan() {
+        givenProjections(Set.of("EMPNO", "ENAME"), Set.of("EMPNO", "JOB"));
+        when(mockEntityReference.getPayload()).thenReturn("EMP");
+        SourceMap result = SharedSourceMap.of(List.of(mockEntityMap, mockOtherEntityMap));
+        EntityReference entityReference = result.getEntityReference();
+        assertThat(List.copyOf(entityReference.listProjectedColumns()), is(equalTo(List.of("EMPNO", "ENAME", "JOB"))));
+        assertThat(entityReference.getPayload(), is(equalTo("EMP")));
+    }
+
+    @Test
+    public void Projection_of_every_column_is_kept_for_one_scan() {
+        givenProjections(Set.of("EMPNO"), Set.of());
+        SourceMap result = SharedSourceMap.of(List.of(mockEntityMap, mockOtherEntityMap));
+        assertThat(result.getEntityReference().listProjectedColumns().isEmpty(), is(true));
+    }
+}
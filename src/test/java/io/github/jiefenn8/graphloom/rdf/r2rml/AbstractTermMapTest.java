@@ -6,6 +6,7 @@
 package io.github.jiefenn8.graphloom.rdf.r2rml;
 
 import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityLayout;
 import io.github.jiefenn8.graphloom.rdf.r2rml.AbstractTermMap.AbstractBuilder;
 import io.github.jiefenn8.graphloom.rdf.r2rml.AbstractTermMap.ValuedType;
 import io.github.jiefenn8.graphloom.rdf.r2rml.TermMap.TermType;
@@ -22,12 +23,13 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 import java.util.List;
+import java.util.Set;
 
-import static org.hamcrest.CoreMatchers.equalTo;
-import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * Unit test class for {@link AbstractTermMap}.
@@ -163,6 +165,98 @@ public class AbstractTermMapTest {
         assertThat(result, is(equalTo(expected)));
     }
 
+    @Test
+    @Parameters(method = "termMapValues")
+    public void Generate_term_by_position_with_entity_layout(ValuedType valuedType, RDFNode base, RDFNode expected) {
+        EntityLayout layout = EntityLayout.of(List.of("OTHER", "REFERENCE"));
+        when(mockEntity.getLayout()).thenReturn(layout);
+        when(mockEntity.getPropertyValue(1)).thenReturn("VALUE");
+        Builder builder = new Builder(base, valuedType);
+        termMap = builder.build();
+        termMap.generateRDFTerm(mockEntity);
+        RDFNode result = termMap.generateRDFTerm(mockEntity);
+        assertThat(result, is(equalTo(expected)));
+        verify(mockEntity, never()).getPropertyValue(anyString());
+    }
+
+    @Test
+    @Parameters(method = "termMapValues")
+    public void Generate_null_term_when_column_not_in_entity_layout(ValuedType valuedType, RDFNode base, RDFNode expected) {
+        when(mockEntity.getLayout()).thenReturn(EntityLayout.of(List.of("OTHER")));
+        Builder builder = new Builder(base, valuedType);
+        termMap = builder.build();
+        RDFNode result = termMap.generateRDFTerm(mockEntity);
+        assertThat(result, is(nullValue()));
+    }
+
+    public List<List<Object>> referencedColumnValues() {
+        return List.of(
+                List.of(ValuedType.CONSTANT,
+                        ResourceFactory.createResource("data.example.com/{REFERENCE}"),
+                        Set.of()),
+                List.of(ValuedType.COLUMN,
+                        ResourceFactory.createStringLiteral("REFERENCE"),
+                        Set.of("REFERENCE")),
+                List.of(ValuedType.TEMPLATE,
+                        ResourceFactory.createStringLiteral("data.example.com/{REFERENCE}/{OTHER}"),
+                        Set.of("REFERENCE", "OTHER"))
+        );
+    }
+
+    @Test
+    @Parameters(method = "referencedColumnValues")
+    public void List_columns_referenced_by_term_map(ValuedType valuedType, RDFNode base, Set<String> expected) {
+        Builder builder = new Builder(base, valuedType);
+        termMap = builder.build();
+        Set<String> result = termMap.listReferencedColumns();
+        assertThat(result, is(equalTo(expected)));
+    }
+
+    @Test
+    @Parameters(method = "termMapValues")
+    public void Return_same_term_instance_for_repeated_value(ValuedType valuedType, RDFNode base, RDFNode expected) {
+        when(mockEntity.getPropertyValue(eq("REFERENCE"))).thenReturn("VALUE");
+        Builder builder = new Builder(base, valuedType);
+        termMap = builder.build();
+        RDFNode first = termMap.generateRDFTerm(mockEntity);
+        RDFNode result = termMap.generateRDFTerm(mockEntity);
+        assertThat(result, is(sameInstance(first)));
+    }
+
+    @Test
+    @Parameters(method = "termMapValues")
+    public void Return_new_term_instance_without_node_cache(ValuedType valuedType, RDFNode base, RDFNode expected) {
+        when(mockEntity.getPropertyValue(eq("REFERENCE"))).thenReturn("VALUE");
+        Builder builder = new Builder(base, valuedType);
+        builder.nodeCacheSize(0);
+        termMap = builder.build();
+        RDFNode first = termMap.generateRDFTerm(mockEntity);
+        RDFNode result = termMap.generateRDFTerm(mockEntity);
+        assertThat(result, is(not(sameInstance(first))));
+        assertThat(result, is(equalTo(first)));
+    }
+
+    @Test
+    @Parameters(method = "termMapValues")
+    public void Generate_new_blank_node_for_repeated_value(ValuedType valuedType, RDFNode base, RDFNode expected) {
+        when(mockEntity.getPropertyValue(eq("REFERENCE"))).thenReturn("VALUE");
+        Builder builder = new Builder(base, valuedType);
+        builder.termType(TermType.BLANK);
+        termMap = builder.build();
+        RDFNode first = termMap.generateRDFTerm(mockEntity);
+        RDFNode result = termMap.generateRDFTerm(mockEntity);
+        assertThat(result, is(not(equalTo(first))));
+    }
+
+    @Test
+    public void Set_negative_node_cache_size_is_not_possible() {
+        Builder builder = new Builder(mockRDFNode, ValuedType.COLUMN);
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> builder.nodeCacheSize(-1)
+        );
+    }
+
     public class MockTermMap extends AbstractTermMap {
 
         public MockTermMap(Builder builder) {
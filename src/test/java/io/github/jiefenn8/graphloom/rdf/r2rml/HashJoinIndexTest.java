@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link HashJoinIndex}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class HashJoinIndexTest {
+
+    @Mock private RefObjectMap mockRefObjectMap;
+    @Mock private TriplesMap mockTriplesMap;
+    @Mock private LogicalTable mockLogicalTable;
+    @Mock private InputSource mockInputSource;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        when(mockRefObjectMap.getParentTriplesMap()).thenReturn(mockTriplesMap);
+        when(mockTriplesMap.getSourceMap()).thenReturn(mockLogicalTable);
+        when(mockRefObjectMap.generateNodeTerm(any())).thenAnswer((ans) -> {
+            Entity entity = ans.getArgument(0);
+            return ResourceFactory.createResource("dept/" + entity.getPropertyValue("ID"));
+        });
+        doAnswer((ans) -> {
+            Consumer<Entity> callback = ans.getArgument(1);
+            callback.accept(entity(Map.of("ID", "1", "NO", "10", "LOC", "A")));
+            callback.accept(entity(Map.of("ID", "2", "NO", "20", "LOC", "B")));
+            callback.accept(entity(Map.of("ID", "3", "NO", "20", "LOC", "C")));
+            callback.accept(entity(Map.of("ID", "4", "LOC", "D")));
+            return null;
+        }).when(mockLogicalTable).forEachEntity(any(), any(Consumer.class));
+    }
+
+    private Entity entity(Map<String, String> values) {
+        return values::get;
+    }
+
+    @Test
+    public void Parent_source_is_read_once_when_building_index() {
+        when(mockRefObjectMap.listJoinConditions()).thenReturn(Set.of(new JoinCondition("NO", "DEPTNO")));
+        HashJoinIndex.build(mockRefObjectMap, mockInputSource);
+        verify(mockLogicalTable, times(1)).forEachEntity(eq(mockInputSource), any());
+    }
+
+    @Test
+    public void Probe_returns_all_parent_terms_with_matching_value() {
+        when(mockRefObjectMap.listJoinConditions()).thenReturn(Set.of(new JoinCondition("NO", "DEPTNO")));
+        HashJoinIndex joinIndex = HashJoinIndex.build(mockRefObjectMap, mockInputSource);
+        List<RDFNode> result = joinIndex.probe(entity(Map.of("DEPTNO", "20")));
+        List<Resource> expected = List.of(
+                ResourceFactory.createResource("dept/2"),
+                ResourceFactory.createResource("dept/3"));
+        assertThat(result, is(equalTo(expected)));
+    }
+
+    @Test
+    public void Probe_returns_nothing_without_matching_value() {
+        when(mockRefObjectMap.listJoinConditions()).thenReturn(Set.of(new JoinCondition("NO", "DEPTNO")));
+        HashJoinIndex joinIndex = HashJoinIndex.build(mockRefObjectMap, mockInputSource);
+        boolean result = joinIndex.probe(entity(Map.of("DEPTNO", "30"))).isEmpty();
+        assertThat(result, is(true));
+    }
+
+    @Test
+    public void Probe_with_null_value_never_matches() {
+        when(mockRefObjectMap.listJoinConditions()).thenReturn(Set.of(new JoinCondition("NO", "DEPTNO")));
+        HashJoinIndex joinIndex = HashJoinIndex.build(mockRefObjectMap, mockInputSource);
+        boolean result = joinIndex.probe(entity(Map.of())).isEmpty();
+        assertThat(result, is(true));
+    }
+
+    @Test
+    public void Probe_with_multiple_join_conditions_matches_all_values() {
+        when(mockRefObjectMap.listJoinConditions()).thenReturn(Set.of(
+                new JoinCondition("NO", "DEPTNO"),
+                new JoinCondition("LOC", "DEPTLOC")));
+        HashJoinIndex joinIndex = HashJoinIndex.build(mockRefObjectMap, mockInputSource);
+        List<RDFNode> result = joinIndex.probe(entity(Map.of("DEPTNO", "20", "DEPTLOC", "C")));
+        List<Resource> expected = List.of(ResourceFactory.createResource("dept/3"));
+        assertThat(result, is(equalTo(expected)));
+    }
+}
@@ -100,4 +100,20 @@ public class LogicalTableTest {
         String msg = throwable.getMessage();
         assertThat(msg, is(equalTo(expected)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void GivenLogicalTableAndColumns_WhenBuildWithJointSQLQuery_ThenSelectAliasedColumns() {
+        String expected = "SELECT child.EMPNO AS \"child_EMPNO\", parent.DEPTNO AS \"parent_DEPTNO\" "
+                + "FROM EMP AS child, DEPT AS parent WHERE child.DEPTNO=parent.DEPTNO";
+        EntityReference parentReference = mock(EntityReference.class);
+        when(parentReference.getPayload()).thenReturn("DEPT");
+        when(mockEntityReference.getPayload()).thenReturn("EMP");
+        LogicalTable parent = new LogicalTable.Builder(parentReference).build();
+
+        LogicalTable.Builder builder = new LogicalTable.Builder(mockEntityReference);
+        builder.withJointQuery(parent, Set.of(new JoinCondition("DEPTNO", "DEPTNO")),
+                Set.of("EMPNO"), Set.of("DEPTNO"));
+        String result = builder.build().getEntityReference().getPayload();
+        assertThat(result, is(equalTo(expected)));
+    }
+}
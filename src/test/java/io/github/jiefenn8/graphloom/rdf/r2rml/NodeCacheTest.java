@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test class for {@link NodeCache}.
+ */
+public class NodeCacheTest {
+
+    @Test
+    public void Return_cached_term_of_value() {
+        NodeCache nodeCache = new NodeCache(16);
+        RDFNode expected = ResourceFactory.createResource("http://example.com/1");
+        nodeCache.put("1", expected);
+        RDFNode result = nodeCache.get("1");
+        assertThat(result, is(sameInstance(expected)));
+    }
+
+    @Test
+    public void Return_null_for_value_not_cached() {
+        NodeCache nodeCache = new NodeCache(16);
+        nodeCache.put("1", ResourceFactory.createResource("http://example.com/1"));
+        RDFNode result = nodeCache.get("2");
+        assertThat(result, is(nullValue()));
+    }
+
+    @Test
+    public void Round_size_up_to_power_of_two() {
+        NodeCache nodeCache = new NodeCache(100);
+        int result = nodeCache.size();
+        assertThat(result, is(128));
+    }
+
+    @Test
+    public void Replace_term_of_other_value_in_same_slot() {
+        NodeCache nodeCache = new NodeCache(1);
+        nodeCache.put("1", ResourceFactory.createStringLiteral("1"));
+        nodeCache.put("2", ResourceFactory.createStringLiteral("2"));
+        assertThat(nodeCache.get("1"), is(nullValue()));
+        assertThat(nodeCache.get("2"), is(notNullValue()));
+    }
+
+    @Test
+    public void Create_cache_without_slots_is_not_possible() {
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> new NodeCache(0)
+        );
+    }
+}
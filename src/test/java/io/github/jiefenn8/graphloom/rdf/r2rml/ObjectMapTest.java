@@ -110,6 +110,15 @@ public class ObjectMapTest {
         assertThat(result, is(equalTo(expected)));
     }
 
+    @Test
+    public void Generate_literal_template_without_iri_safe_values() {
+        when(mockEntity.getPropertyValue(eq("NAME"))).thenReturn("JOHN SMITH");
+        Builder builder = new Builder(ResourceFactory.createStringLiteral("Name: {NAME}"), ValuedType.TEMPLATE);
+        objectMap = builder.termType(TermMap.TermType.LITERAL).build();
+        RDFNode result = objectMap.generateNodeTerm(mockEntity);
+        assertThat(result, is(equalTo(ResourceFactory.createStringLiteral("Name: JOHN SMITH"))));
+    }
+
     public List<ValuedType> valuedTermValues() {
         return List.of(ValuedType.CONSTANT, ValuedType.COLUMN, ValuedType.TEMPLATE);
     }
@@ -10,6 +10,7 @@ import io.github.jiefenn8.graphloom.rdf.r2rml.AbstractTermMap.ValuedType;
 import io.github.jiefenn8.graphloom.rdf.r2rml.PredicateMap.Builder;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
+import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.junit.Assert;
@@ -25,6 +26,7 @@ import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -62,6 +64,14 @@ public class PredicateMapTest {
         assertThat(result, is(equalTo(expected)));
     }
 
+    @Test
+    public void Generate_same_property_of_constant_for_every_entity() {
+        predicateMap = new Builder(ResourceFactory.createProperty("PROPERTY"), ValuedType.CONSTANT).build();
+        Property first = predicateMap.generateRelationTerm(mockEntity);
+        Property second = predicateMap.generateRelationTerm(mock(Entity.class));
+        assertThat(second, is(sameInstance(first)));
+    }
+
     public List<ValuedType> valuedTermValues() {
         return List.of(ValuedType.CONSTANT, ValuedType.COLUMN, ValuedType.TEMPLATE);
     }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.api.EntityMap;
+import io.github.jiefenn8.graphloom.api.inputsource.BaseEntityReference;
+import io.github.jiefenn8.graphloom.api.inputsource.EntityReference;
+import io.github.jiefenn8.graphloom.exceptions.ParserException;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test class for {@link R2RMLPlan}.
+ */
+public class R2RMLPlanTest {
+
+    private TriplesMap.Builder triplesMapBuilder(String idName, String table, String template) {
+        return triplesMapBuilder(idName, new BaseTableOrView(table), template);
+    }
+
+    private TriplesMap.Builder triplesMapBuilder(String idName, BaseEntityReference entityRef, String template) {
+        SubjectMap subjectMap = new SubjectMap.Builder(ResourceFactory.createStringLiteral(template),
+                AbstractTermMap.ValuedType.TEMPLATE)
+                .addEntityClasses(Set.of(ResourceFactory.createResource("http://example.com/ns#Class")))
+                .build();
+        return new TriplesMap.Builder(idName, new LogicalTable.Builder(entityRef).build(), subjectMap);
+    }
+
+    private R2RMLMap compileAndLoad(R2RMLMap r2rmlMap) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        R2RMLPlan.write(r2rmlMap, out);
+        return R2RMLPlan.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    public void Parent_triples_map_is_resolved_to_loaded_triples_map() throws IOException {
+        TriplesMap parent = triplesMapBuilder("parent", "DEPT", "http://data.example.com/dept/{DEPTNO}").build();
+        PredicateMap predicateMap = new PredicateMap.Builder(
+                ResourceFactory.createResource("http://example.com/ns#dept"), AbstractTermMap.ValuedType.CONSTANT)
+                .build();
+        RefObjectMap refObjectMap = new RefObjectMap.Builder(parent).addJoinCondition("DEPTNO", "DEPTNO").build();
+        TriplesMap child = triplesMapBuilder("child", "EMP", "http://data.example.com/emp/{EMPNO}")
+                .addPredicateObjectMap(new ImmutablePair<>(predicateMap, refObjectMap))
+                .build();
+        R2RMLMap r2rmlMap = new R2RMLMap.Builder().addTriplesMap(parent).addTriplesMap(child).build();
+        Map<String, EntityMap> result = compileAndLoad(r2rmlMap).getEntityMaps().stream()
+                .collect(Collectors.toMap(EntityMap::getIdName, Function.identity()));
+        TriplesMap loadedChild = (TriplesMap) result.get("child");
+        RefObjectMap loadedRefObjectMap = loadedChild.listRefObjectMaps().iterator().next();
+        assertThat(loadedRefObjectMap.getParentTriplesMap(), is(sameInstance(result.get("parent"))));
+        assertThat(loadedRefObjectMap.listJoinConditions(), is(equalTo(refObjectMap.listJoinConditions())));
+    }
+
+    @Test
+    public void Projection_is_restored_on_load() throws IOException {
+        TriplesMap triplesMap = triplesMapBuilder("emp", "EMP", "http://data.example.com/emp/{EMPNO}").build();
+        R2RMLMap r2rmlMap = new R2RMLMap.Builder().addTriplesMap(triplesMap).build();
+        EntityMap result = compileAndLoad(r2rmlMap).getEntityMaps().iterator().next();
+        assertThat(result.getSourceMap().getEntityReference().listProjectedColumns(), is(equalTo(Set.of("EMPNO"))));
+    }
+
+    @Test
+    public void Properties_of_entity_reference_are_restored_on_load() throws IOException {
+        R2RMLView view = new R2RMLView.Builder("SELECT * FROM EMP", "SQL2008").build();
+        view.setProperty(EntityReference.WATERMARK_COLUMN, "UPDATED_AT");
+        TriplesMap triplesMap = triplesMapBuilder("emp", view, "http://data.example.com/emp/{EMPNO}").build();
+        R2RMLMap r2rmlMap = new R2RMLMap.Builder().addTriplesMap(triplesMap).build();
+        EntityReference result = compileAndLoad(r2rmlMap).getEntityMaps().iterator().next()
+                .getSourceMap()
+                .getEntityReference();
+        assertThat(result, is(equalTo(view)));
+        assertThat(result.getProperty(EntityReference.WATERMARK_COLUMN), is(equalTo("UPDATED_AT")));
+    }
+
+    @Test
+    public void Write_custom_entity_reference_is_not_possible() {
+        BaseEntityReference entityRef = new BaseEntityReference("EMP", DatabaseType.TABLE_NAME, "") {
+        };
+        TriplesMap triplesMap = triplesMapBuilder("emp", entityRef, "http://data.example.com/emp/{EMPNO}").build();
+        R2RMLMap r2rmlMap = new R2RMLMap.Builder().addTriplesMap(triplesMap).build();
+        Assert.assertThrows(
+                ParserException.class,
+                () -> compileAndLoad(r2rmlMap)
+        );
+    }
+
+    @Test
+    public void Stream_without_plan_is_not_possible() {
+        ByteArrayInputStream in = new ByteArrayInputStream(new byte[]{0, 0, 0, 0, 0, 0, 0, 1});
+        Throwable throwable = Assert.assertThrows(
+                ParserException.class,
+                () -> R2RMLPlan.read(in)
+        );
+        assertThat(throwable.getMessage(), is(equalTo("Stream does not contain a mapping plan.")));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.r2rml;
+
+import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.exceptions.MapperException;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test class for {@link Template}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class TemplateTest {
+
+    private final Entity entity = Map.of("ID", "10", "NAME", "SMITH", "DEPT", "R&D")::get;
+
+    public List<List<Object>> templateValues() {
+        return List.of(
+                List.of("data.example.com/{ID}", "data.example.com/10"),
+                List.of("{ID}", "10"),
+                List.of("data.example.com/{ID}/{NAME}", "data.example.com/10/SMITH"),
+                List.of("{ID}-{NAME}-{ID}", "10-SMITH-10"),
+                List.of("data.example.com/{DEPT}", "data.example.com/R%26D"),
+                List.of("data.example.com/\\{ID\\}/{ID}", "data.example.com/{ID}/10")
+        );
+    }
+
+    public List<List<String>> iriSafeValues() {
+        return List.of(
+                List.of("SMITH", "SMITH"),
+                List.of("a-b.c_d~e", "a-b.c_d~e"),
+                List.of("JOHN SMITH", "JOHN%20SMITH"),
+                List.of("a/b*c+d", "a%2Fb%2Ac%2Bd"),
+                List.of("caf\u00E9", "caf\u00E9"),
+                List.of("\uD83D\uDE00", "\uD83D\uDE00"),
+                List.of("\uE000", "%EE%80%80"),
+                List.of("\uFFFF", "%EF%BF%BF"),
+                List.of("a\uD800b", "a%EF%BF%BDb")
+        );
+    }
+
+    @Test
+    @Parameters(method = "iriSafeValues")
+    public void Encode_value_as_iri_safe(String value, String expected) {
+        String result = Template.encodeIRISafe(value);
+        assertThat(result, is(equalTo(expected)));
+    }
+
+    @Test
+    public void Return_same_instance_when_value_is_already_iri_safe() {
+        String value = "SMITH-10";
+        String result = Template.encodeIRISafe(value);
+        assertThat(result, is(sameInstance(value)));
+    }
+
+    @Test
+    public void Render_template_with_iri_safe_values() {
+        Entity entity = Map.of("ID", "10", "NAME", "JOHN SMITH")::get;
+        String result = Template.compile("data.example.com/{ID}/{NAME}").render(entity);
+        assertThat(result, is(equalTo("data.example.com/10/JOHN%20SMITH")));
+    }
+
+    @Test
+    public void Render_literal_template_with_values_as_is() {
+        Entity entity = Map.of("ID", "10", "NAME", "JOHN SMITH")::get;
+        String result = Template.compile("{ID}: {NAME}").render(entity, null, false);
+        assertThat(result, is(equalTo("10: JOHN SMITH")));
+    }
+
+    @Test
+    @Parameters(method = "templateValues")
+    public void Render_template_with_entity_values(String template, String expected) {
+        String result = Template.compile(template).render(entity);
+        assertThat(result, is(equalTo(expected)));
+    }
+
+    @Test
+    public void Render_template_with_null_value_returns_null() {
+        String result = Template.compile("data.example.com/{ID}/{MISSING}").render(entity);
+        assertThat(result, is(nullValue()));
+    }
+
+    @Test
+    public void List_all_columns_in_order_of_appearance() {
+        Set<String> result = Template.compile("{NAME}/{ID}/{NAME}").listColumns();
+        assertThat(List.copyOf(result), is(equalTo(List.of("NAME", "ID"))));
+    }
+
+    public List<String> invalidTemplateValues() {
+        return List.of("data.example.com/", "data.example.com/{ID", "data.example.com/{}");
+    }
+
+    @Test
+    @Parameters(method = "invalidTemplateValues")
+    public void Compile_invalid_template_is_not_possible(String template) {
+        Assert.assertThrows(
+                MapperException.class,
+                () -> Template.compile(template)
+        );
+    }
+}
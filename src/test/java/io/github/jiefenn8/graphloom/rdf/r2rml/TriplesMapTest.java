@@ -7,8 +7,12 @@ package io.github.jiefenn8.graphloom.rdf.r2rml;
 
 
 import io.github.jiefenn8.graphloom.api.InputSource;
+import io.github.jiefenn8.graphloom.api.RefNodeEmitter;
 import io.github.jiefenn8.graphloom.api.SourceMap;
+import io.github.jiefenn8.graphloom.api.TripleSink;
 import io.github.jiefenn8.graphloom.api.inputsource.Entity;
+import io.github.jiefenn8.graphloom.exceptions.MapperException;
+import io.github.jiefenn8.graphloom.rdf.r2rml.AbstractTermMap.ValuedType;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.jena.rdf.model.*;
@@ -21,6 +25,8 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -72,9 +78,21 @@ public class TriplesMapTest {
         assertThat(result, is(false));
     }
 
+    @Test
+    public void Count_one_node_map_pair_per_predicate_object_map() {
+        triplesMap = new TriplesMap.Builder(StringUtils.EMPTY, mockLogicalTable, mockSubjectMap)
+                .addPredicateObjectMap(ImmutablePair.of(mock(PredicateMap.class), mock(ObjectMap.class)))
+                .addPredicateObjectMap(ImmutablePair.of(mock(PredicateMap.class), mock(ObjectMap.class)))
+                .build();
+
+        int result = triplesMap.countNodeMapPairs();
+        assertThat(result, is(2));
+    }
+
     @Test
     public void Generate_model_with_term_entity_and_class() {
         when(mockSubjectMap.listEntityClasses()).thenReturn(List.of(ResourceFactory.createResource("CLASS")));
+        triplesMap = new TriplesMap.Builder("TEST_ID", mockLogicalTable, mockSubjectMap).build();
         Resource mockResource = ResourceFactory.createResource("TEST");
         Model model = triplesMap.generateClassTerms(mockResource);
         NodeIterator iter = model.listObjectsOfProperty(RDF.type);
@@ -85,6 +103,7 @@ public class TriplesMapTest {
     @Test
     public void Generate_model_with_term_and_entity_without_class() {
         when(mockSubjectMap.listEntityClasses()).thenReturn(List.of());
+        triplesMap = new TriplesMap.Builder("TEST_ID", mockLogicalTable, mockSubjectMap).build();
         Resource mockResource = ResourceFactory.createResource("TEST");
         Model model = triplesMap.generateClassTerms(mockResource);
         NodeIterator iter = model.listObjectsOfProperty(RDF.type);
@@ -153,6 +172,165 @@ public class TriplesMapTest {
         assertThat(size, is(0));
     }
 
+    @Test
+    public void Emit_class_triples_directly_to_sink() {
+        Resource classRef = ResourceFactory.createResource("CLASS");
+        when(mockSubjectMap.listEntityClasses()).thenReturn(List.of(classRef));
+        triplesMap = new TriplesMap.Builder("TEST_ID", mockLogicalTable, mockSubjectMap).build();
+        Resource mockResource = ResourceFactory.createResource("TEST");
+        TripleSink mockSink = mock(TripleSink.class);
+        triplesMap.emitClassTerms(mockResource, mockSink);
+        verify(mockSink).triple(mockResource, RDF.type, classRef);
+    }
+
+    @Test
+    public void Emit_node_triples_directly_to_sink() {
+        Resource mockResource = ResourceFactory.createResource("TEST");
+        PredicateMap mockPredicateMap = mock(PredicateMap.class);
+        ObjectMap mockObjectMap = mock(ObjectMap.class);
+        Property propertyRef = ResourceFactory.createProperty("PROPERTY");
+        RDFNode value = ResourceFactory.createStringLiteral("VALUE");
+        when(mockPredicateMap.generateRelationTerm(any())).thenReturn(propertyRef);
+        when(mockObjectMap.generateNodeTerm(any())).thenReturn(value);
+        triplesMap = new TriplesMap.Builder(StringUtils.EMPTY, mockLogicalTable, mockSubjectMap)
+                .addPredicateObjectMap(ImmutablePair.of(mockPredicateMap, mockObjectMap))
+                .build();
+        TripleSink mockSink = mock(TripleSink.class);
+        triplesMap.emitNodeTerms(mockResource, mock(Entity.class), mockSink);
+        verify(mockSink).triple(mockResource, propertyRef, value);
+        verify(mockObjectMap, times(1)).generateNodeTerm(any());
+    }
+
+    @Test
+    public void Emit_constant_node_triples_without_generating_terms() {
+        Resource mockResource = ResourceFactory.createResource("TEST");
+        Property propertyRef = ResourceFactory.createProperty("PROPERTY");
+        RDFNode value = ResourceFactory.createStringLiteral("VALUE");
+        PredicateMap predicateMap = spy(new PredicateMap.Builder(propertyRef, ValuedType.CONSTANT).build());
+        ObjectMap objectMap = spy(new ObjectMap.Builder(value, ValuedType.CONSTANT).build());
+        triplesMap = new TriplesMap.Builder(StringUtils.EMPTY, mockLogicalTable, mockSubjectMap)
+                .addPredicateObjectMap(ImmutablePair.of(predicateMap, objectMap))
+                .build();
+        TripleSink mockSink = mock(TripleSink.class);
+        triplesMap.emitNodeTerms(mockResource, mock(Entity.class), mockSink);
+        verify(mockSink).triple(mockResource, propertyRef, value);
+        verify(predicateMap, never()).generateRelationTerm(any());
+        verify(objectMap, never()).generateNodeTerm(any());
+    }
+
+    @Test
+    public void Emit_no_node_triple_when_object_is_null() {
+        Resource mockResource = ResourceFactory.createResource("TEST");
+        ObjectMap mockObjectMap = mock(ObjectMap.class);
+        when(mockObjectMap.generateNodeTerm(any())).thenReturn(null);
+        triplesMap = new TriplesMap.Builder(StringUtils.EMPTY, mockLogicalTable, mockSubjectMap)
+                .addPredicateObjectMap(ImmutablePair.of(mock(PredicateMap.class), mockObjectMap))
+                .build();
+        TripleSink mockSink = mock(TripleSink.class);
+        triplesMap.emitNodeTerms(mockResource, mock(Entity.class), mockSink);
+        verify(mockSink, never()).triple(any(), any(), any());
+    }
+
+    @Test
+    public void Emit_ref_node_triples_from_entity_without_join_condition() {
+        Resource mockResource = ResourceFactory.createResource("TEST");
+        PredicateMap mockPredicateMap = mock(PredicateMap.class);
+        RefObjectMap mockRefObjectMap = mock(RefObjectMap.class);
+        Property propertyRef = ResourceFactory.createProperty("PROPERTY");
+        Resource value = ResourceFactory.createResource("VALUE");
+        when(mockPredicateMap.generateRelationTerm(any())).thenReturn(propertyRef);
+        when(mockRefObjectMap.generateNodeTerm(any())).thenReturn(value);
+        when(mockRefObjectMap.isQueryEqual(mockLogicalTable)).thenReturn(true);
+        triplesMap = new TriplesMap.Builder(StringUtils.EMPTY, mockLogicalTable, mockSubjectMap)
+                .addPredicateObjectMap(ImmutablePair.of(mockPredicateMap, mockRefObjectMap))
+                .build();
+        TripleSink mockSink = mock(TripleSink.class);
+        RefNodeEmitter emitter = triplesMap.prepareRefNodeTerms(mock(InputSource.class));
+        emitter.emitRefNodeTerms(mockResource, mock(Entity.class), mockSink);
+        verify(mockSink).triple(mockResource, propertyRef, value);
+    }
+
+    @Test
+    public void Prepare_ref_node_without_join_condition_and_different_table_is_not_possible() {
+        RefObjectMap mockRefObjectMap = mock(RefObjectMap.class);
+        when(mockRefObjectMap.isQueryEqual(mockLogicalTable)).thenReturn(false);
+        triplesMap = new TriplesMap.Builder(StringUtils.EMPTY, mockLogicalTable, mockSubjectMap)
+                .addPredicateObjectMap(ImmutablePair.of(mock(PredicateMap.class), mockRefObjectMap))
+                .build();
+        Assert.assertThrows(
+                MapperException.class,
+                () -> triplesMap.prepareRefNodeTerms(mock(InputSource.class))
+        );
+    }
+
+    @Test
+    public void Prepare_no_ref_node_triples_without_predicate_ref_object_map() {
+        TripleSink mockSink = mock(TripleSink.class);
+        RefNodeEmitter emitter = triplesMap.prepareRefNodeTerms(mock(InputSource.class));
+        emitter.emitRefNodeTerms(ResourceFactory.createResource("TEST"), mock(Entity.class), mockSink);
+        verify(mockSink, never()).triple(any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void Emit_joint_ref_node_triples_with_one_query_per_ref_object_map() {
+        Resource subject = ResourceFactory.createResource("TEST");
+        Resource value = ResourceFactory.createResource("VALUE");
+        Property propertyRef = ResourceFactory.createProperty("PROPERTY");
+        PredicateMap mockPredicateMap = mock(PredicateMap.class);
+        RefObjectMap mockRefObjectMap = mock(RefObjectMap.class);
+        TriplesMap mockParent = mock(TriplesMap.class);
+        SubjectMap mockParentSubjectMap = mock(SubjectMap.class);
+        LogicalTable mockJointTable = mock(LogicalTable.class);
+        when(mockRefObjectMap.hasJoinCondition()).thenReturn(true);
+        when(mockRefObjectMap.getParentTriplesMap()).thenReturn(mockParent);
+        when(mockParent.getSubjectMap()).thenReturn(mockParentSubjectMap);
+        when(mockSubjectMap.listReferencedColumns()).thenReturn(Set.of("EMPNO"));
+        when(mockParentSubjectMap.listReferencedColumns()).thenReturn(Set.of("DEPTNO"));
+        when(mockLogicalTable.asJointLogicalTable(mockRefObjectMap, Set.of("EMPNO"), Set.of("DEPTNO")))
+                .thenReturn(mockJointTable);
+        doAnswer(ans -> {
+            Consumer<Entity> callback = (Consumer<Entity>) ans.getArguments()[1];
+            Map<String, String> row = Map.of("child_EMPNO", "1", "parent_DEPTNO", "10");
+            callback.accept(row::get);
+            return null;
+        }).when(mockJointTable).forEachEntity(any(), any(Consumer.class));
+        when(mockSubjectMap.generateEntityTerm(any())).thenAnswer(ans -> {
+            Entity entity = ans.getArgument(0);
+            return "1".equals(entity.getPropertyValue("EMPNO")) ? subject : null;
+        });
+        when(mockRefObjectMap.generateNodeTerm(any())).thenAnswer(ans -> {
+            Entity entity = ans.getArgument(0);
+            return "10".equals(entity.getPropertyValue("DEPTNO")) ? value : null;
+        });
+        when(mockPredicateMap.generateRelationTerm(any())).thenReturn(propertyRef);
+        triplesMap = new TriplesMap.Builder(StringUtils.EMPTY, mockLogicalTable, mockSubjectMap)
+                .addPredicateObjectMap(ImmutablePair.of(mockPredicateMap, mockRefObjectMap))
+                .build();
+        TripleSink mockSink = mock(TripleSink.class);
+        triplesMap.emitJointRefNodeTerms(mock(InputSource.class), mockSink);
+        verify(mockSink).triple(subject, propertyRef, value);
+        verify(mockJointTable, times(1)).forEachEntity(any(), any(Consumer.class));
+    }
+
+    @Test
+    public void List_columns_referenced_by_term_maps_and_join_conditions() {
+        PredicateMap mockPredicateMap = mock(PredicateMap.class);
+        ObjectMap mockObjectMap = mock(ObjectMap.class);
+        RefObjectMap mockRefObjectMap = mock(RefObjectMap.class);
+        when(mockSubjectMap.listReferencedColumns()).thenReturn(Set.of("EMPNO"));
+        when(mockPredicateMap.listReferencedColumns()).thenReturn(Set.of());
+        when(mockObjectMap.listReferencedColumns()).thenReturn(Set.of("ENAME"));
+        when(mockRefObjectMap.hasJoinCondition()).thenReturn(true);
+        when(mockRefObjectMap.listJoinConditions()).thenReturn(Set.of(new JoinCondition("DEPTNO", "DEPTNO")));
+        triplesMap = new TriplesMap.Builder(StringUtils.EMPTY, mockLogicalTable, mockSubjectMap)
+                .addPredicateObjectMap(ImmutablePair.of(mockPredicateMap, mockObjectMap))
+                .addPredicateObjectMap(ImmutablePair.of(mock(PredicateMap.class), mockRefObjectMap))
+                .build();
+        Set<String> result = triplesMap.listReferencedColumns();
+        assertThat(List.copyOf(result), is(equalTo(List.of("DEPTNO", "EMPNO", "ENAME"))));
+    }
+
     @Test
     public void Return_absolute_unique_id_name() {
         String result = triplesMap.getUniqueId();
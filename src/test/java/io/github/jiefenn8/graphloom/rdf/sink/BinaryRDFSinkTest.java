@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.sink;
+
+import io.github.jiefenn8.graphloom.api.TripleSink;
+import io.github.jiefenn8.graphloom.exceptions.ParserException;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.rdf.model.*;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test class for {@link BinaryRDFSink} and {@link BinaryRDFReader}.
+ */
+public class BinaryRDFSinkTest {
+
+    private final Resource subject = ResourceFactory.createResource("http://data.example.com/employee/7369");
+    private final Property predicate = ResourceFactory.createProperty("http://example.com/ns#name");
+    private ByteArrayOutputStream out;
+
+    @Before
+    public void setUp() {
+        out = new ByteArrayOutputStream();
+    }
+
+    private Model readBack(byte[] bytes) throws IOException {
+        Model model = ModelFactory.createDefaultModel();
+        BinaryRDFReader.read(new ByteArrayInputStream(bytes), new TripleSink() {
+            @Override
+            public void prefix(String prefix, String uri) {
+                model.setNsPrefix(prefix, uri);
+            }
+
+            @Override
+            public void triple(Resource s, Property p, RDFNode o) {
+                model.add(s, p, o);
+            }
+        });
+        return model;
+    }
+
+    @Test
+    public void Written_triples_are_read_back_as_same_graph() throws IOException {
+        Model expected = ModelFactory.createDefaultModel();
+        expected.setNsPrefix("ex", "http://example.com/ns#");
+        expected.add(subject, predicate, ResourceFactory.createStringLiteral("SMITH \u00e9 \uD83D\uDE00"));
+        expected.add(subject, predicate, ResourceFactory.createLangLiteral("SMITH", "en"));
+        expected.add(subject, predicate, ResourceFactory.createTypedLiteral("7369", XSDDatatype.XSDinteger));
+        expected.add(subject, predicate, expected.createResource());
+        BinaryRDFSink sink = new BinaryRDFSink.Builder(Channels.newChannel(out)).bufferSize(16).build();
+        sink.start();
+        expected.getNsPrefixMap().forEach(sink::prefix);
+        expected.listStatements().forEachRemaining((s) -> sink.triple(s.getSubject(), s.getPredicate(), s.getObject()));
+        sink.finish();
+        sink.close();
+        Model result = readBack(out.toByteArray());
+        assertThat(result.isIsomorphicWith(expected), is(true));
+        assertThat(result.getNsPrefixURI("ex"), is(equalTo("http://example.com/ns#")));
+    }
+
+    @Test
+    public void Triples_past_max_terms_are_read_back_as_same_graph() throws IOException {
+        Model expected = ModelFactory.createDefaultModel();
+        Resource blank = expected.createResource();
+        for (int i = 0; i < 20; i++) {
+            Resource employee = ResourceFactory.createResource("http://data.example.com/employee/" + i);
+            expected.add(employee, predicate, ResourceFactory.createTypedLiteral(String.valueOf(i),
+                    XSDDatatype.XSDinteger));
+            expected.add(employee, predicate, blank);
+        }
+        BinaryRDFSink sink = new BinaryRDFSink.Builder(Channels.newChannel(out)).maxTerms(5).build();
+        sink.start();
+        expected.listStatements().forEachRemaining((s) -> sink.triple(s.getSubject(), s.getPredicate(), s.getObject()));
+        sink.finish();
+        sink.close();
+        Model result = readBack(out.toByteArray());
+        assertThat(result.size(), is(equalTo(40L)));
+        assertThat(result.isIsomorphicWith(expected), is(true));
+    }
+
+    @Test
+    public void Set_max_terms_below_terms_of_triple_is_not_possible() {
+        Assert.assertThrows(
+                "Max terms must be at least 4.",
+                IllegalArgumentException.class,
+                () -> new BinaryRDFSink.Builder(Channels.newChannel(out)).maxTerms(3)
+        );
+    }
+
+    @Test
+    public void Repeated_terms_are_written_once() {
+        BinaryRDFSink sink = new BinaryRDFSink.Builder(Channels.newChannel(out)).build();
+        sink.triple(subject, predicate, subject);
+        sink.close();
+        int once = out.size();
+        sink.triple(subject, predicate, subject);
+        sink.close();
+        assertThat(out.size() - once, is(equalTo(4)));
+    }
+
+    @Test
+    public void Stream_without_end_record_is_not_possible() {
+        BinaryRDFSink sink = new BinaryRDFSink.Builder(Channels.newChannel(out)).build();
+        sink.triple(subject, predicate, subject);
+        sink.close();
+        Throwable throwable = Assert.assertThrows(
+                ParserException.class,
+                () -> readBack(out.toByteArray())
+        );
+        assertThat(throwable.getMessage(), is(equalTo("Binary RDF stream ended before its end record.")));
+    }
+
+    @Test
+    public void Stream_of_other_version_is_not_possible() {
+        byte[] bytes = {'G', 'L', 'R', 'B', 1, BinaryRDFSink.END};
+        Throwable throwable = Assert.assertThrows(
+                ParserException.class,
+                () -> readBack(bytes)
+        );
+        assertThat(throwable.getMessage(), is(equalTo("Unsupported binary RDF version 1.")));
+    }
+
+    @Test
+    public void Stream_without_magic_is_not_possible() {
+        byte[] bytes = Arrays.copyOf("<a> <b> <c> .".getBytes(), 16);
+        Assert.assertThrows(
+                ParserException.class,
+                () -> readBack(bytes)
+        );
+    }
+}
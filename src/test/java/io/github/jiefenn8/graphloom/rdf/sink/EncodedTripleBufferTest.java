@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.sink;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.rdf.model.*;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test class for {@link EncodedTripleBuffer}.
+ */
+public class EncodedTripleBufferTest {
+
+    @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private final Resource subject = ResourceFactory.createResource("http://data.example.com/employee/7369");
+    private final Property predicate = ResourceFactory.createProperty("http://example.com/ns#name");
+    private EncodedTripleBuffer encodedTripleBuffer;
+
+    @After
+    public void tearDown() {
+        encodedTripleBuffer.close();
+    }
+
+    private void givenTriples(int count) {
+        for (int i = 0; i < count; i++) {
+            encodedTripleBuffer.triple(subject, predicate, ResourceFactory.createStringLiteral("NAME" + i));
+        }
+    }
+
+    @Test
+    public void Repeated_terms_are_encoded_once() {
+        encodedTripleBuffer = new EncodedTripleBuffer.Builder().build();
+        givenTriples(3);
+        int result = encodedTripleBuffer.getDictionary().size();
+        assertThat(result, is(equalTo(5)));
+    }
+
+    @Test
+    public void Triples_across_segments_are_streamed_in_order() {
+        encodedTripleBuffer = new EncodedTripleBuffer.Builder().segmentSize(2).build();
+        givenTriples(5);
+        List<Statement> result = new ArrayList<>();
+        encodedTripleBuffer.forEach((s, p, o) -> result.add(ResourceFactory.createStatement(s, p, o)));
+        assertThat(result.size(), is(equalTo(5)));
+        assertThat(result.get(4).getObject().asLiteral().getString(), is(equalTo("NAME4")));
+    }
+
+    @Test
+    public void Buffer_is_exported_to_graph_with_prefixes() {
+        encodedTripleBuffer = new EncodedTripleBuffer.Builder().build();
+        encodedTripleBuffer.prefix("ex", "http://example.com/ns#");
+        givenTriples(2);
+        Graph result = encodedTripleBuffer.toGraph();
+        assertThat(result.size(), is(equalTo(2)));
+        assertThat(result.getPrefixMapping().getNsPrefixURI("ex"), is(equalTo("http://example.com/ns#")));
+    }
+
+    @Test
+    public void Mapped_file_buffer_returns_same_graph_as_direct_buffer() throws IOException {
+        encodedTripleBuffer = new EncodedTripleBuffer.Builder().segmentSize(2).build();
+        givenTriples(5);
+        Graph expected = encodedTripleBuffer.toGraph();
+        encodedTripleBuffer.close();
+        encodedTripleBuffer = new EncodedTripleBuffer.Builder()
+                .segmentSize(2)
+                .mappedFile(temporaryFolder.newFile().toPath())
+                .build();
+        givenTriples(5);
+        Graph result = encodedTripleBuffer.toGraph();
+        assertThat(result.isIsomorphicWith(expected), is(true));
+    }
+
+    @Test
+    public void Non_positive_segment_size_is_not_possible() {
+        encodedTripleBuffer = new EncodedTripleBuffer.Builder().build();
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> new EncodedTripleBuffer.Builder().segmentSize(0)
+        );
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.sink;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.rdf.model.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test class for {@link NTriplesSink}.
+ */
+public class NTriplesSinkTest {
+
+    private final Resource subject = ResourceFactory.createResource("http://data.example.com/employee/7369");
+    private final Property predicate = ResourceFactory.createProperty("http://example.com/ns#name");
+    private ByteArrayOutputStream out;
+
+    @Before
+    public void setUp() {
+        out = new ByteArrayOutputStream();
+    }
+
+    private String write(NTriplesSink.Builder builder, RDFNode object) {
+        try (NTriplesSink sink = builder.build()) {
+            sink.triple(subject, predicate, object);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void Simple_literal_is_written_as_line() {
+        String result = write(new NTriplesSink.Builder(Channels.newChannel(out)),
+                ResourceFactory.createStringLiteral("SMITH"));
+        assertThat(result, is(equalTo(
+                "<http://data.example.com/employee/7369> <http://example.com/ns#name> \"SMITH\" .\n")));
+    }
+
+    @Test
+    public void Graph_name_is_written_as_quad() {
+        String result = write(new NTriplesSink.Builder(Channels.newChannel(out)).graphName("http://example.com/g"),
+                ResourceFactory.createLangLiteral("SMITH", "en"));
+        assertThat(result, is(equalTo("<http://data.example.com/employee/7369> <http://example.com/ns#name> "
+                + "\"SMITH\"@en <http://example.com/g> .\n")));
+    }
+
+    @Test
+    public void Escaped_terms_are_read_back_as_same_terms() {
+        NTriplesSink sink = new NTriplesSink.Builder(Channels.newChannel(out)).bufferSize(16).build();
+        Model expected = ModelFactory.createDefaultModel();
+        expected.add(ResourceFactory.createResource("http://data.example.com/name/J\u00f6rg Sm\u00eft\"h"), predicate,
+                ResourceFactory.createStringLiteral("line\n\"quoted\" \\ tab\t \u00e9 \uD83D\uDE00"));
+        expected.add(subject, predicate, ResourceFactory.createTypedLiteral("7369", XSDDatatype.XSDinteger));
+        expected.add(expected.createResource(), predicate, expected.createResource());
+        expected.listStatements().forEachRemaining((s) -> sink.triple(s.getSubject(), s.getPredicate(), s.getObject()));
+        sink.close();
+        Model result = ModelFactory.createDefaultModel()
+                .read(new ByteArrayInputStream(out.toByteArray()), null, "N-TRIPLE");
+        assertThat(result.isIsomorphicWith(expected), is(true));
+    }
+
+    @Test
+    public void Lone_surrogates_are_written_as_replacement_character() {
+        try (NTriplesSink sink = new NTriplesSink.Builder(Channels.newChannel(out)).build()) {
+            sink.triple(ResourceFactory.createResource("http://data.example.com/name/a\uD83Db\uDE00"), predicate,
+                    ResourceFactory.createStringLiteral("a\uD83Db\uDE00"));
+        }
+        String expected = "<http://data.example.com/name/a\uFFFDb\uFFFD> <http://example.com/ns#name> "
+                + "\"a\uFFFDb\uFFFD\" .\n";
+        assertThat(out.toByteArray(), is(equalTo(expected.getBytes(StandardCharsets.UTF_8))));
+    }
+}
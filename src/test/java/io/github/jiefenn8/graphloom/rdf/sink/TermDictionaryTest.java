@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2019 - GraphLoom contributors (github.com/jiefenn8/graphloom)
+ * This software is made available under the terms of Apache License, Version 2.0.
+ */
+
+package io.github.jiefenn8.graphloom.rdf.sink;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test class for {@link TermDictionary}.
+ */
+public class TermDictionaryTest {
+
+    private final Node iri = NodeFactory.createURI("http://example.com/ns#name");
+    private TermDictionary termDictionary;
+
+    @Before
+    public void setUp() {
+        termDictionary = new TermDictionary();
+    }
+
+    @Test
+    public void Same_term_is_given_same_id() {
+        int expected = termDictionary.encode(iri);
+        int result = termDictionary.encode(NodeFactory.createURI("http://example.com/ns#name"));
+        assertThat(result, is(equalTo(expected)));
+    }
+
+    @Test
+    public void Id_is_decoded_to_its_term() {
+        termDictionary.encode(NodeFactory.createLiteral("SMITH"));
+        int id = termDictionary.encode(iri);
+        Node result = termDictionary.decode(id);
+        assertThat(result, is(equalTo(iri)));
+    }
+
+    @Test
+    public void Unknown_term_is_looked_up_as_negative() {
+        int result = termDictionary.lookup(iri);
+        assertThat(result, is(equalTo(-1)));
+    }
+}